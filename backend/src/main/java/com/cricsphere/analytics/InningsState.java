@@ -0,0 +1,55 @@
+package com.cricsphere.analytics;
+
+/**
+ * Running totals of one innings. Each completed over is folded in once,
+ * in O(1): cumulative score / wickets are taken from the over itself and
+ * the last few overs' runs live in a small ring buffer.
+ */
+final class InningsState {
+
+    static final int RECENT_OVERS = 5;
+
+    final int inningsId;
+    String battingTeam;
+
+    int overs;
+    int runs;
+    int wickets;
+
+    private final int[] recent = new int[RECENT_OVERS];
+    private int recentCount;
+    private int recentSum;
+
+    InningsState(int inningsId) {
+        this.inningsId = inningsId;
+    }
+
+    /**
+     * @return false if the over was folded already (or is older than the last one)
+     */
+    boolean fold(int overNum, int score, int wicketsDown, int overRuns) {
+        if (overNum <= overs) return false;
+
+        int slot = overNum % RECENT_OVERS;
+        if (recentCount == RECENT_OVERS) recentSum -= recent[slot];
+        else recentCount++;
+        recent[slot] = overRuns;
+        recentSum += overRuns;
+
+        overs = overNum;
+        runs = score;
+        wickets = wicketsDown;
+        return true;
+    }
+
+    double runRate() {
+        return (overs > 0) ? (double) runs / overs : 0.0;
+    }
+
+    /**
+     * Run rate of the last {@link #RECENT_OVERS} folded overs, null before the first.
+     */
+    Double recentRunRate() {
+        return (recentCount > 0) ? (double) recentSum / recentCount : null;
+    }
+}
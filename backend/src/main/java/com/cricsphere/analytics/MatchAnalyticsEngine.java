@@ -0,0 +1,272 @@
+package com.cricsphere.analytics;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.InningsAnalytics;
+import com.cricsphere.model.MatchAnalytics;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Run rate, required rate, projected totals and win probability per match,
+ * maintained incrementally from Cricbuzz OVERS payloads.
+ *
+ * - the over list is newest first: it is streamed and only overs past each
+ *   innings' last folded over are materialised; the first known over ends the scan
+ * - each new over is folded into its {@link InningsState} in O(1)
+ * - the same body twice (cache hit) is recognised and costs nothing
+ * - the last computed {@link MatchAnalytics} is kept with the match state
+ *   (bounded LRU), so reads between new overs don't recompute anything
+ */
+@Slf4j
+@Component
+public class MatchAnalyticsEngine {
+
+    private static final int MAX_MATCHES = 256;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, MatchTrack> matches = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, MatchTrack> eldest) {
+            return size() > MAX_MATCHES;
+        }
+    };
+
+    public MatchAnalyticsEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Folds every freshly stored OVERS body.
+     */
+    @EventListener
+    public void onUpstreamBodyStored(UpstreamBodyStoredEvent event) {
+        if (!event.isFor("/overs") || !event.url().contains("/mcenter/v1/")) return;
+
+        String url = event.url();
+        int end = url.lastIndexOf("/overs");
+        int start = url.lastIndexOf('/', end - 1) + 1;
+        try {
+            update(Long.parseLong(url.substring(start, end)), event.body());
+        } catch (NumberFormatException e) {
+            // not a match id
+        }
+    }
+
+    /**
+     * Folds the overs in {@code oversBody} that are new for the match.
+     *
+     * @return the match's analytics after the update
+     */
+    public MatchAnalytics update(long matchId, String oversBody) {
+        MatchTrack track = track(matchId);
+        synchronized (track) {
+            if (track.snapshot != null && track.isFrom(oversBody)) return track.snapshot;
+
+            int folded = 0;
+            try {
+                folded = fold(track, oversBody);
+            } catch (IOException e) {
+                log.warn("⚠️ Could not read overs of match {}: {}", matchId, e.getMessage());
+            }
+            track.remember(oversBody);
+
+            if (folded > 0 || track.snapshot == null) {
+                track.snapshot = compute(matchId, track, folded > 0 ? System.currentTimeMillis() : 0L);
+            }
+            return track.snapshot;
+        }
+    }
+
+    /**
+     * Last computed analytics, or null if the match hasn't been seen.
+     */
+    public MatchAnalytics get(long matchId) {
+        MatchTrack track;
+        synchronized (matches) {
+            track = matches.get(matchId);
+        }
+        if (track == null) return null;
+        synchronized (track) {
+            return track.snapshot;
+        }
+    }
+
+    /* =========================================================
+        Folding (streamed, stops at the first known over)
+    ========================================================= */
+    private int fold(MatchTrack track, String body) throws IOException {
+        if (body == null || body.isBlank() || body.startsWith("{\"error\":true")) return 0;
+
+        List<JsonNode> fresh = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.FIELD_NAME) continue;
+
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("matchFormat".equals(field) && value == JsonToken.VALUE_STRING) {
+                    if (track.format == null) track.format = parser.getText();
+                } else if ("overSepList".equals(field) && value == JsonToken.START_ARRAY) {
+                    readNewOvers(parser, track, fresh);
+                    if (track.format != null) break;
+                }
+            }
+        }
+
+        // Oldest first
+        int folded = 0;
+        for (int i = fresh.size() - 1; i >= 0; i--) {
+            if (foldOver(track, fresh.get(i))) folded++;
+        }
+        return folded;
+    }
+
+    private void readNewOvers(JsonParser parser, MatchTrack track, List<JsonNode> fresh) throws IOException {
+        boolean known = false;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (known) {
+                parser.skipChildren();
+                continue;
+            }
+            JsonNode over = parser.readValueAsTree();
+            if (track.isNew(over.path("inningsId").asInt(0), over.path("overNum").asInt(0))) {
+                fresh.add(over);
+            } else {
+                known = true;
+            }
+        }
+    }
+
+    private boolean foldOver(MatchTrack track, JsonNode over) {
+        int inningsId = over.path("inningsId").asInt(0);
+        int overNum = over.path("overNum").asInt(0);
+        if (inningsId <= 0 || overNum <= 0) return false;
+
+        InningsState innings = track.innings.computeIfAbsent(inningsId, InningsState::new);
+        int score = over.path("score").asInt(innings.runs);
+        int overRuns = over.has("runs") ? over.path("runs").asInt(0) : score - innings.runs;
+
+        if (!innings.fold(overNum, score, over.path("wickets").asInt(innings.wickets), overRuns)) return false;
+        if (innings.battingTeam == null) innings.battingTeam = over.path("batTeamName").asText(null);
+        return true;
+    }
+
+    /* =========================================================
+        Derived figures
+    ========================================================= */
+    private MatchAnalytics compute(long matchId, MatchTrack track, long updatedAt) {
+        Format format = Format.of(track.format);
+        Integer scheduled = (format != null) ? format.overs : null;
+
+        List<InningsAnalytics> result = new ArrayList<>(track.innings.size());
+        InningsState first = null;
+        Double winProbability = null;
+        int index = 0;
+
+        for (InningsState innings : track.innings.values()) {
+            Integer target = null;
+            Double requiredRate = null;
+            Integer projected = null;
+            Double probability = null;
+
+            if (format != null) {
+                int oversLeft = (innings.wickets >= 10) ? 0 : Math.max(0, format.overs - innings.overs);
+                double rate = WinProbability.projectionRate(innings.runRate(), innings.recentRunRate(), innings.wickets);
+                projected = innings.runs + (int) Math.round(oversLeft * rate);
+
+                if (index == 0) {
+                    probability = WinProbability.firstInnings(projected, format.parRate * format.overs);
+                } else if (index == 1 && first != null) {
+                    target = first.runs + 1;
+                    projected = Math.min(projected, target);
+                    if (oversLeft > 0) requiredRate = (double) (target - innings.runs) / oversLeft;
+                    probability = WinProbability.chase(target - innings.runs, oversLeft, innings.wickets, format.parRate);
+                }
+            }
+
+            result.add(new InningsAnalytics(innings.inningsId, innings.battingTeam, innings.runs, innings.wickets,
+                    innings.overs, innings.runRate(), innings.recentRunRate(), target, requiredRate, projected));
+            winProbability = probability;
+            if (index == 0) first = innings;
+            index++;
+        }
+
+        String battingTeam = result.isEmpty() ? null : result.get(result.size() - 1).battingTeam();
+        long lastUpdated = (updatedAt > 0) ? updatedAt
+                : (track.snapshot != null ? track.snapshot.lastUpdated() : 0L);
+        return new MatchAnalytics(matchId, track.format, scheduled, List.copyOf(result),
+                battingTeam, winProbability, lastUpdated);
+    }
+
+    private MatchTrack track(long matchId) {
+        synchronized (matches) {
+            return matches.computeIfAbsent(matchId, id -> new MatchTrack());
+        }
+    }
+
+    /**
+     * Limited-overs formats: overs per innings and a par scoring rate.
+     */
+    private enum Format {
+        T10(10, 10.0),
+        T20(20, 8.0),
+        ODI(50, 5.6);
+
+        private final int overs;
+        private final double parRate;
+
+        Format(int overs, double parRate) {
+            this.overs = overs;
+            this.parRate = parRate;
+        }
+
+        static Format of(String matchFormat) {
+            if (matchFormat == null) return null;
+            String f = matchFormat.trim().toUpperCase(Locale.ROOT);
+            if (f.equals("T20") || f.equals("T20I")) return T20;
+            if (f.equals("ODI") || f.equals("LIST A")) return ODI;
+            if (f.equals("T10")) return T10;
+            return null; // Tests / first-class: no overs limit
+        }
+    }
+
+    private static final class MatchTrack {
+        private final Map<Integer, InningsState> innings = new TreeMap<>();
+        private String format;
+        private MatchAnalytics snapshot;
+
+        private int bodyHash;
+        private int bodyLength = -1;
+
+        boolean isNew(int inningsId, int overNum) {
+            InningsState state = innings.get(inningsId);
+            return state == null || overNum > state.overs;
+        }
+
+        boolean isFrom(String body) {
+            return body != null && body.length() == bodyLength && body.hashCode() == bodyHash;
+        }
+
+        void remember(String body) {
+            if (body == null) return;
+            bodyHash = body.hashCode();
+            bodyLength = body.length();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.cricsphere.analytics;
+
+import com.cricsphere.store.LongRowIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+
+/**
+ * What one match's scorecard contributes per player (both innings of a
+ * multi-innings match summed), in parallel primitive arrays.
+ *
+ * Reads both Cricbuzz scorecard shapes: {@code scorecard[].batsman[] / bowler[]}
+ * and the older {@code scoreCard[].batTeamDetails.batsmenData{} / bowlTeamDetails.bowlersData{}}.
+ */
+final class ScorecardLines {
+
+    final LongRowIndex index = new LongRowIndex(32);
+
+    long[] playerIds = new long[32];
+    String[] names = new String[32];
+    int[] innings = new int[32];
+    int[] runs = new int[32];
+    int[] balls = new int[32];
+    int[] fours = new int[32];
+    int[] sixes = new int[32];
+    int[] wickets = new int[32];
+    int[] ballsBowled = new int[32];
+    int[] runsConceded = new int[32];
+    int size;
+
+    static ScorecardLines parse(JsonNode root) {
+        ScorecardLines lines = new ScorecardLines();
+
+        JsonNode inningsList = root.has("scorecard") ? root.path("scorecard") : root.path("scoreCard");
+        for (JsonNode inn : inningsList) {
+            JsonNode batters = inn.has("batsman") ? inn.path("batsman")
+                    : inn.path("batTeamDetails").path("batsmenData");
+            for (JsonNode b : batters) lines.batting(b);
+
+            JsonNode bowlers = inn.has("bowler") ? inn.path("bowler")
+                    : inn.path("bowlTeamDetails").path("bowlersData");
+            for (JsonNode b : bowlers) lines.bowling(b);
+        }
+        return lines;
+    }
+
+    private void batting(JsonNode b) {
+        long id = idOf(b, "batId");
+        if (id <= 0) return;
+
+        int ballsFaced = b.path("balls").asInt(0);
+        String outDesc = text(b, "outdec", "outDesc");
+        // Listed but did not bat
+        if (ballsFaced == 0 && b.path("runs").asInt(0) == 0 && (outDesc == null || outDesc.isBlank())) {
+            row(id, text(b, "name", "batName"));
+            return;
+        }
+
+        int r = row(id, text(b, "name", "batName"));
+        innings[r]++;
+        runs[r] += b.path("runs").asInt(0);
+        balls[r] += ballsFaced;
+        fours[r] += b.path("fours").asInt(0);
+        sixes[r] += b.path("sixes").asInt(0);
+    }
+
+    private void bowling(JsonNode b) {
+        long id = idOf(b, "bowlerId");
+        if (id <= 0) return;
+
+        int r = row(id, text(b, "name", "bowlName"));
+        wickets[r] += b.path("wickets").asInt(0);
+        runsConceded[r] += b.path("runs").asInt(0);
+        ballsBowled[r] += ballsOf(b.path("overs").asText("0"));
+    }
+
+    private int row(long id, String name) {
+        int r = index.get(id);
+        if (r >= 0) return r;
+
+        if (size == playerIds.length) grow();
+        r = size++;
+        playerIds[r] = id;
+        names[r] = name;
+        index.put(id, r);
+        return r;
+    }
+
+    boolean sameAs(ScorecardLines other) {
+        return other != null && size == other.size
+                && Arrays.equals(playerIds, 0, size, other.playerIds, 0, size)
+                && Arrays.equals(innings, 0, size, other.innings, 0, size)
+                && Arrays.equals(runs, 0, size, other.runs, 0, size)
+                && Arrays.equals(balls, 0, size, other.balls, 0, size)
+                && Arrays.equals(fours, 0, size, other.fours, 0, size)
+                && Arrays.equals(sixes, 0, size, other.sixes, 0, size)
+                && Arrays.equals(wickets, 0, size, other.wickets, 0, size)
+                && Arrays.equals(ballsBowled, 0, size, other.ballsBowled, 0, size)
+                && Arrays.equals(runsConceded, 0, size, other.runsConceded, 0, size);
+    }
+
+    private void grow() {
+        int n = size * 2;
+        playerIds = Arrays.copyOf(playerIds, n);
+        names = Arrays.copyOf(names, n);
+        innings = Arrays.copyOf(innings, n);
+        runs = Arrays.copyOf(runs, n);
+        balls = Arrays.copyOf(balls, n);
+        fours = Arrays.copyOf(fours, n);
+        sixes = Arrays.copyOf(sixes, n);
+        wickets = Arrays.copyOf(wickets, n);
+        ballsBowled = Arrays.copyOf(ballsBowled, n);
+        runsConceded = Arrays.copyOf(runsConceded, n);
+    }
+
+    // "3.4" overs = 22 balls
+    static int ballsOf(String overs) {
+        try {
+            int dot = overs.indexOf('.');
+            if (dot < 0) return Integer.parseInt(overs.trim()) * 6;
+            int whole = Integer.parseInt(overs.substring(0, dot).trim());
+            String part = overs.substring(dot + 1).trim();
+            return whole * 6 + (part.isEmpty() ? 0 : Integer.parseInt(part.substring(0, 1)));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long idOf(JsonNode node, String legacyField) {
+        return node.has("id") ? node.path("id").asLong(0) : node.path(legacyField).asLong(0);
+    }
+
+    private static String text(JsonNode node, String field, String legacyField) {
+        JsonNode v = node.has(field) ? node.path(field) : node.path(legacyField);
+        return v.isMissingNode() || v.isNull() ? null : v.asText();
+    }
+}
@@ -0,0 +1,180 @@
+package com.cricsphere.analytics;
+
+import com.cricsphere.model.LeaderboardRow;
+import com.cricsphere.model.SeriesLeaderboard;
+import com.cricsphere.store.LongRowIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Running per-player totals of one series in parallel primitive arrays,
+ * plus each match's last contribution so a changed scorecard only moves
+ * the rows of the players in it (old lines out, new lines in).
+ *
+ * Sorted boards are built lazily after a change and reused until the next one.
+ */
+final class SeriesAggregates {
+
+    private final long seriesId;
+
+    private final LongRowIndex rowOf = new LongRowIndex(64);
+    private long[] playerIds = new long[64];
+    private String[] names = new String[64];
+    private int[] matches = new int[64];
+    private int[] innings = new int[64];
+    private int[] runs = new int[64];
+    private int[] balls = new int[64];
+    private int[] fours = new int[64];
+    private int[] sixes = new int[64];
+    private int[] wickets = new int[64];
+    private int[] ballsBowled = new int[64];
+    private int[] runsConceded = new int[64];
+    private int rows;
+
+    /* match -> slot in `contributions` (and in `matchIds`) */
+    private final LongRowIndex matchSlot = new LongRowIndex(16);
+    private final List<ScorecardLines> contributions = new ArrayList<>();
+    private long[] matchIds = new long[16];
+
+    private long updatedAt;
+    private long activeAt;
+    private SeriesLeaderboard board;
+
+    SeriesAggregates(long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    /**
+     * Replaces the match's contribution.
+     *
+     * @return rows touched (0 if the scorecard didn't change)
+     */
+    synchronized int apply(long matchId, ScorecardLines lines, long now) {
+        int slot = matchSlot.get(matchId);
+        ScorecardLines old = (slot >= 0) ? contributions.get(slot) : null;
+        if (lines.sameAs(old)) return 0;
+
+        int touched = 0;
+        if (old != null) touched += add(old, -1);
+        touched += add(lines, +1);
+
+        if (slot >= 0) {
+            contributions.set(slot, lines);
+        } else {
+            if (contributions.size() == matchIds.length) matchIds = Arrays.copyOf(matchIds, matchIds.length * 2);
+            matchIds[contributions.size()] = matchId;
+            matchSlot.put(matchId, contributions.size());
+            contributions.add(lines);
+        }
+        updatedAt = now;
+        board = null;
+        return touched;
+    }
+
+    /**
+     * Records activity at {@code at} (a scorecard arrived, even an unchanged one).
+     */
+    synchronized void markActive(long at) {
+        activeAt = Math.max(activeAt, at);
+    }
+
+    synchronized long activeAt() {
+        return activeAt;
+    }
+
+    synchronized long[] matchIds() {
+        return Arrays.copyOf(matchIds, contributions.size());
+    }
+
+    synchronized SeriesLeaderboard leaderboard() {
+        if (board == null) {
+            board = new SeriesLeaderboard(seriesId, contributions.size(),
+                    sorted(r -> runs[r] > 0,
+                            Comparator.<Integer>comparingInt(r -> -runs[r]).thenComparingInt(r -> balls[r])),
+                    sorted(r -> wickets[r] > 0,
+                            Comparator.<Integer>comparingInt(r -> -wickets[r]).thenComparingInt(r -> runsConceded[r])),
+                    updatedAt);
+        }
+        return board;
+    }
+
+    private int add(ScorecardLines lines, int sign) {
+        for (int i = 0; i < lines.size; i++) {
+            int r = row(lines.playerIds[i], lines.names[i]);
+            matches[r] += sign;
+            innings[r] += sign * lines.innings[i];
+            runs[r] += sign * lines.runs[i];
+            balls[r] += sign * lines.balls[i];
+            fours[r] += sign * lines.fours[i];
+            sixes[r] += sign * lines.sixes[i];
+            wickets[r] += sign * lines.wickets[i];
+            ballsBowled[r] += sign * lines.ballsBowled[i];
+            runsConceded[r] += sign * lines.runsConceded[i];
+        }
+        return lines.size;
+    }
+
+    private int row(long playerId, String name) {
+        int r = rowOf.get(playerId);
+        if (r >= 0) {
+            if (names[r] == null) names[r] = name;
+            return r;
+        }
+
+        if (rows == playerIds.length) grow();
+        r = rows++;
+        playerIds[r] = playerId;
+        names[r] = name;
+        rowOf.put(playerId, r);
+        return r;
+    }
+
+    private List<LeaderboardRow> sorted(IntPredicate include, Comparator<Integer> order) {
+        List<Integer> selected = new ArrayList<>();
+        for (int r = 0; r < rows; r++) {
+            if (matches[r] > 0 && include.test(r)) selected.add(r);
+        }
+        selected.sort(order);
+
+        List<LeaderboardRow> result = new ArrayList<>(selected.size());
+        for (int r : selected) result.add(toRow(r));
+        return List.copyOf(result);
+    }
+
+    private LeaderboardRow toRow(int r) {
+        return new LeaderboardRow(
+                playerIds[r],
+                names[r],
+                matches[r],
+                innings[r],
+                runs[r],
+                balls[r],
+                fours[r],
+                sixes[r],
+                balls[r] > 0 ? 100.0 * runs[r] / balls[r] : null,
+                wickets[r],
+                ballsBowled[r],
+                runsConceded[r],
+                ballsBowled[r] > 0 ? 6.0 * runsConceded[r] / ballsBowled[r] : null
+        );
+    }
+
+    private void grow() {
+        int n = rows * 2;
+        playerIds = Arrays.copyOf(playerIds, n);
+        names = Arrays.copyOf(names, n);
+        matches = Arrays.copyOf(matches, n);
+        innings = Arrays.copyOf(innings, n);
+        runs = Arrays.copyOf(runs, n);
+        balls = Arrays.copyOf(balls, n);
+        fours = Arrays.copyOf(fours, n);
+        sixes = Arrays.copyOf(sixes, n);
+        wickets = Arrays.copyOf(wickets, n);
+        ballsBowled = Arrays.copyOf(ballsBowled, n);
+        runsConceded = Arrays.copyOf(runsConceded, n);
+    }
+}
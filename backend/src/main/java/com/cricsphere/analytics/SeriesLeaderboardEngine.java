@@ -0,0 +1,284 @@
+package com.cricsphere.analytics;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.MatchResource;
+import com.cricsphere.model.MatchSummary;
+import com.cricsphere.model.SeriesLeaderboard;
+import com.cricsphere.service.MatchSnapshotService;
+import com.cricsphere.store.MatchArchive;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * Series leaderboards (runs, wickets) kept in memory and updated incrementally.
+ *
+ * - every stored scorecard is parsed once into per-player lines and folded
+ *   into its series' {@link SeriesAggregates}: only the rows of players in
+ *   that scorecard move, and an unchanged scorecard moves nothing
+ * - the series of a match comes from the scorecard, else the archived
+ *   overview, else the live / recent / upcoming snapshots already held
+ *   (looking a match up never revalidates a feed, so it costs no quota)
+ * - at startup the archived scorecards are folded in, in the background
+ * - past {@value #MAX_SERIES} series, those idle for {@code IDLE_MILLIS} whose
+ *   scorecards are all archived are dropped to their match ids, and rebuilt
+ *   from the archive the next time they are touched (so totals stay exact)
+ * - the match -> series lookup is a bounded LRU
+ */
+@Slf4j
+@Component
+public class SeriesLeaderboardEngine {
+
+    static final int MAX_SERIES = 128;
+    static final long IDLE_MILLIS = 3 * 24 * 60 * 60 * 1000L;
+    private static final int MAX_MATCHES = 4096;
+
+    private final ObjectMapper objectMapper;
+    private final MatchArchive matchArchive;
+    private final ObjectProvider<MatchSnapshotService> matchSnapshots;
+    private final LongSupplier clock;
+
+    /* Held series; dropped ones keep only their match ids (guarded by bySeries) */
+    private final Map<Long, SeriesAggregates> bySeries = new HashMap<>();
+    private final Map<Long, long[]> dormant = new HashMap<>();
+    private final Map<Long, Long> seriesOfMatch = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > MAX_MATCHES;
+        }
+    };
+
+    private final ExecutorService seeder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "leaderboard-seed");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Autowired
+    public SeriesLeaderboardEngine(ObjectMapper objectMapper,
+                                   MatchArchive matchArchive,
+                                   ObjectProvider<MatchSnapshotService> matchSnapshots) {
+        this(objectMapper, matchArchive, matchSnapshots, System::currentTimeMillis);
+    }
+
+    SeriesLeaderboardEngine(ObjectMapper objectMapper,
+                            MatchArchive matchArchive,
+                            ObjectProvider<MatchSnapshotService> matchSnapshots,
+                            LongSupplier clock) {
+        this.objectMapper = objectMapper;
+        this.matchArchive = matchArchive;
+        this.matchSnapshots = matchSnapshots;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedFromArchive() {
+        seeder.execute(() -> {
+            int folded = 0;
+            for (long matchId : matchArchive.matchesBetween(LocalDate.MIN, LocalDate.MAX)) {
+                String scorecard = matchArchive.get(matchId, MatchResource.SCORECARD);
+                if (scorecard == null) continue;
+
+                // Activity dates from the match day, so old series can be dropped again right away
+                MatchArchive.Entry entry = matchArchive.entry(matchId);
+                long playedAt = (entry != null && entry.date() != null)
+                        ? entry.date().atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli()
+                        : clock.getAsLong();
+                if (fold(matchId, scorecard, playedAt) > 0) folded++;
+            }
+            int series = heldSeries();
+            log.info("🏆 Leaderboards seeded from archive | scorecards={} | series={}", folded, series);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        seeder.shutdownNow();
+    }
+
+    @EventListener
+    public void onUpstreamBodyStored(UpstreamBodyStoredEvent event) {
+        if (!event.isFor("/scard") || !event.url().contains("/mcenter/v1/")) return;
+
+        String url = event.url();
+        int end = url.lastIndexOf("/scard");
+        int start = url.lastIndexOf('/', end - 1) + 1;
+        try {
+            fold(Long.parseLong(url.substring(start, end)), event.body());
+        } catch (NumberFormatException e) {
+            // not a match id
+        } catch (Exception e) {
+            log.warn("⚠️ Could not fold scorecard {}: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * Folds a match scorecard into its series.
+     *
+     * @return leaderboard rows touched (0 if unchanged or the series is unknown)
+     */
+    public int fold(long matchId, String scorecardBody) {
+        return fold(matchId, scorecardBody, clock.getAsLong());
+    }
+
+    private int fold(long matchId, String scorecardBody, long activeAt) {
+        if (scorecardBody == null || scorecardBody.isBlank() || scorecardBody.startsWith("{\"error\":true")) return 0;
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(scorecardBody);
+        } catch (Exception e) {
+            return 0;
+        }
+
+        long seriesId = seriesOf(matchId, root);
+        if (seriesId <= 0) return 0;
+
+        ScorecardLines lines = ScorecardLines.parse(root);
+        if (lines.size == 0) return 0;
+
+        SeriesAggregates aggregates = aggregates(seriesId, true);
+        aggregates.markActive(activeAt);
+        return aggregates.apply(matchId, lines, clock.getAsLong());
+    }
+
+    /**
+     * Top {@code limit} run-scorers and wicket-takers (empty if nothing is known of the series).
+     */
+    public SeriesLeaderboard leaderboard(long seriesId, int limit) {
+        SeriesAggregates aggregates = aggregates(seriesId, false);
+        if (aggregates == null) return new SeriesLeaderboard(seriesId, 0, List.of(), List.of(), 0L);
+
+        SeriesLeaderboard full = aggregates.leaderboard();
+        return new SeriesLeaderboard(seriesId, full.matches(),
+                head(full.runs(), limit), head(full.wickets(), limit), full.updatedAt());
+    }
+
+    int heldSeries() {
+        synchronized (bySeries) {
+            return bySeries.size();
+        }
+    }
+
+    /* =========================================================
+        Bounding: drop idle, fully archived series; rebuild on touch
+    ========================================================= */
+    private SeriesAggregates aggregates(long seriesId, boolean create) {
+        synchronized (bySeries) {
+            SeriesAggregates aggregates = bySeries.get(seriesId);
+            if (aggregates != null) return aggregates;
+
+            long[] matchIds = dormant.remove(seriesId);
+            if (matchIds == null && !create) return null;
+
+            aggregates = new SeriesAggregates(seriesId);
+            if (matchIds != null) revive(seriesId, aggregates, matchIds);
+            bySeries.put(seriesId, aggregates);
+            if (bySeries.size() > MAX_SERIES) retireIdle(seriesId);
+            return aggregates;
+        }
+    }
+
+    private void revive(long seriesId, SeriesAggregates aggregates, long[] matchIds) {
+        long now = clock.getAsLong();
+        for (long matchId : matchIds) {
+            try {
+                String scorecard = matchArchive.get(matchId, MatchResource.SCORECARD);
+                if (scorecard != null) aggregates.apply(matchId, ScorecardLines.parse(objectMapper.readTree(scorecard)), now);
+            } catch (Exception e) {
+                log.warn("⚠️ Could not rebuild match {} of series {}: {}", matchId, seriesId, e.getMessage());
+            }
+        }
+        aggregates.markActive(now);
+        log.info("🏆 Leaderboard of series {} rebuilt from archive | matches={}", seriesId, matchIds.length);
+    }
+
+    // Oldest activity first; a series with any unarchived scorecard could not be rebuilt, so it stays
+    private void retireIdle(long keep) {
+        long idleBefore = clock.getAsLong() - IDLE_MILLIS;
+        List<Map.Entry<Long, SeriesAggregates>> idle = new ArrayList<>();
+        for (Map.Entry<Long, SeriesAggregates> e : bySeries.entrySet()) {
+            if (e.getKey() != keep && e.getValue().activeAt() < idleBefore) idle.add(e);
+        }
+        idle.sort(Comparator.comparingLong(e -> e.getValue().activeAt()));
+
+        for (Map.Entry<Long, SeriesAggregates> e : idle) {
+            if (bySeries.size() <= MAX_SERIES) return;
+            long[] matchIds = e.getValue().matchIds();
+            if (!allArchived(matchIds)) continue;
+            bySeries.remove(e.getKey());
+            dormant.put(e.getKey(), matchIds);
+            log.info("💤 Leaderboard of series {} dropped after inactivity | matches={}", e.getKey(), matchIds.length);
+        }
+    }
+
+    private boolean allArchived(long[] matchIds) {
+        for (long matchId : matchIds) {
+            MatchArchive.Entry entry = matchArchive.entry(matchId);
+            if (entry == null || !entry.resources().contains(MatchResource.SCORECARD)) return false;
+        }
+        return true;
+    }
+
+    private long seriesOf(long matchId, JsonNode scorecard) {
+        Long known;
+        synchronized (seriesOfMatch) {
+            known = seriesOfMatch.get(matchId);
+        }
+        if (known != null) return known;
+
+        long seriesId = seriesIdIn(scorecard);
+        if (seriesId <= 0) {
+            String overview = matchArchive.get(matchId, MatchResource.OVERVIEW);
+            if (overview != null) {
+                try {
+                    seriesId = seriesIdIn(objectMapper.readTree(overview));
+                } catch (Exception ignored) {
+                    // fall through to the feeds
+                }
+            }
+        }
+        if (seriesId <= 0) {
+            MatchSnapshotService snapshots = matchSnapshots.getIfAvailable();
+            MatchSummary summary = (snapshots != null) ? snapshots.findHeldMatch(matchId) : null;
+            if (summary != null) seriesId = summary.seriesId();
+        }
+
+        if (seriesId > 0) {
+            synchronized (seriesOfMatch) {
+                seriesOfMatch.put(matchId, seriesId);
+            }
+        }
+        return seriesId;
+    }
+
+    private static long seriesIdIn(JsonNode root) {
+        JsonNode id = root.findValue("seriesId");
+        if (id != null && id.asLong(0) > 0) return id.asLong();
+
+        JsonNode series = root.findValue("series");
+        return (series != null) ? series.path("id").asLong(0) : 0L;
+    }
+
+    private static <T> List<T> head(List<T> list, int limit) {
+        return (list.size() <= limit) ? list : list.subList(0, limit);
+    }
+}
@@ -0,0 +1,50 @@
+package com.cricsphere.analytics;
+
+/**
+ * Deliberately simple limited-overs model (no player or venue data):
+ *
+ * - scoring potential = overs left * par rate * wicket resource, where the
+ *   wicket resource shrinks linearly from 1.0 (10 in hand) to 0.4 (none)
+ * - first innings: the projected total is compared with a par total
+ * - chase: what the batting side can still score is compared with what it needs
+ * - the margin is squashed through a logistic curve whose spread grows with
+ *   the size of the target (a 20-run margin matters less chasing 350 than 120)
+ */
+final class WinProbability {
+
+    private static final double FIRST_INNINGS_SPREAD = 0.12;
+    private static final double CHASE_SPREAD = 0.15;
+    private static final double CHASE_SPREAD_FLOOR = 6.0;
+
+    private WinProbability() {
+    }
+
+    /**
+     * Runs per over a side is expected to keep up with {@code wickets} down.
+     */
+    static double projectionRate(double runRate, Double recentRunRate, int wickets) {
+        double rate = (recentRunRate != null) ? (runRate + recentRunRate) / 2 : runRate;
+        return rate * wicketResource(wickets);
+    }
+
+    static double firstInnings(int projectedTotal, double parTotal) {
+        return logistic((projectedTotal - parTotal) / (parTotal * FIRST_INNINGS_SPREAD));
+    }
+
+    static double chase(int needed, int oversLeft, int wickets, double parRate) {
+        if (needed <= 0) return 1.0;
+        if (oversLeft <= 0 || wickets >= 10) return 0.0;
+
+        double achievable = oversLeft * parRate * wicketResource(wickets);
+        return logistic((achievable - needed) / (CHASE_SPREAD * needed + CHASE_SPREAD_FLOOR));
+    }
+
+    static double wicketResource(int wickets) {
+        int inHand = Math.max(0, 10 - wickets);
+        return 0.4 + 0.6 * inHand / 10.0;
+    }
+
+    private static double logistic(double x) {
+        return 1.0 / (1.0 + Math.exp(-x));
+    }
+}
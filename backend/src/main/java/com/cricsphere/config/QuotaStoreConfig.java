@@ -0,0 +1,29 @@
+package com.cricsphere.config;
+
+import com.cricsphere.quota.FirestoreQuotaStore;
+import com.cricsphere.quota.InMemoryQuotaStore;
+import com.cricsphere.quota.QuotaStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Where the shared RapidAPI quota lives:
+ * - firestore (default): shared by all instances, survives restarts
+ * - memory: single process only (local runs without Firebase)
+ */
+@Configuration
+public class QuotaStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "rapidapi.quota.store", havingValue = "firestore", matchIfMissing = true)
+    public QuotaStore firestoreQuotaStore() {
+        return new FirestoreQuotaStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "rapidapi.quota.store", havingValue = "memory")
+    public QuotaStore inMemoryQuotaStore() {
+        return new InMemoryQuotaStore();
+    }
+}
@@ -1,19 +1,51 @@
 package com.cricsphere.controller;
 
+import com.cricsphere.model.BallEvent;
+import com.cricsphere.model.MatchAnalytics;
+import com.cricsphere.model.MatchSummary;
+import com.cricsphere.model.PageResponse;
+import com.cricsphere.model.RefreshReport;
+import com.cricsphere.model.Player;
+import com.cricsphere.model.SearchResultPage;
+import com.cricsphere.model.SeriesLeaderboard;
 import com.cricsphere.service.CricketService;
+import com.cricsphere.service.MatchSnapshotService;
+import com.cricsphere.service.MatchSnapshotService.Feed;
+import com.cricsphere.service.UnifiedSearchService;
+import com.cricsphere.util.SerializedSnapshot;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/cricket")
 public class CricketController {
 
+    static final int MAX_ARCHIVE_RANGE_DAYS = 366;
+
     private final CricketService cricketService;
+    private final MatchSnapshotService matchSnapshotService;
+    private final UnifiedSearchService unifiedSearchService;
 
-    public CricketController(CricketService cricketService) {
+    public CricketController(CricketService cricketService,
+                             MatchSnapshotService matchSnapshotService,
+                             UnifiedSearchService unifiedSearchService) {
         this.cricketService = cricketService;
+        this.matchSnapshotService = matchSnapshotService;
+        this.unifiedSearchService = unifiedSearchService;
     }
 
     /* =========================================================
@@ -38,6 +70,35 @@ public class CricketController {
         return ResponseEntity.ok(cricketService.getRecentMatches());
     }
 
+    /* =========================================================
+        MATCH SUMMARIES (parsed once per refresh, compact)
+    ========================================================= */
+
+    @GetMapping("/live/summary")
+    public ResponseEntity<List<MatchSummary>> getLiveSummary() {
+        log.info("GET /api/v1/cricket/live/summary");
+        return ResponseEntity.ok(matchSnapshotService.getSummaries(Feed.LIVE));
+    }
+
+    @GetMapping("/upcoming/summary")
+    public ResponseEntity<List<MatchSummary>> getUpcomingSummary() {
+        log.info("GET /api/v1/cricket/upcoming/summary");
+        return ResponseEntity.ok(matchSnapshotService.getSummaries(Feed.UPCOMING));
+    }
+
+    @GetMapping("/recent/summary")
+    public ResponseEntity<List<MatchSummary>> getRecentSummary() {
+        log.info("GET /api/v1/cricket/recent/summary");
+        return ResponseEntity.ok(matchSnapshotService.getSummaries(Feed.RECENT));
+    }
+
+    @GetMapping("/match/{matchId}/summary")
+    public ResponseEntity<MatchSummary> getMatchSummary(@PathVariable long matchId) {
+        log.info("GET /api/v1/cricket/match/{}/summary", matchId);
+        MatchSummary summary = matchSnapshotService.findMatch(matchId);
+        return (summary != null) ? ResponseEntity.ok(summary) : ResponseEntity.notFound().build();
+    }
+
     /* =========================================================
         MATCH CENTER (Clean + Frontend Friendly)
         ✅ These routes match your React MatchPage / matchApi usage
@@ -61,6 +122,26 @@ public class CricketController {
         return ResponseEntity.ok(cricketService.getMatchCommentary(matchId));
     }
 
+    /**
+     * Ball-by-ball history from the local log, newest first; page with {@code nextCursor}.
+     */
+    @GetMapping("/match/{matchId}/commentary/log")
+    public ResponseEntity<PageResponse<BallEvent>> getMatchCommentaryLog(
+            @PathVariable long matchId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.info("GET /api/v1/cricket/match/{}/commentary/log | limit={}", matchId, limit);
+        return ResponseEntity.ok(cricketService.getCommentaryLog(matchId, cursor, pageLimit(limit)));
+    }
+
+    @GetMapping("/match/{matchId}/analytics")
+    public ResponseEntity<Object> getMatchAnalytics(@PathVariable String matchId) {
+        log.info("GET /api/v1/cricket/match/{}/analytics", matchId);
+        MatchAnalytics analytics = cricketService.getMatchAnalytics(matchId);
+        return (analytics != null) ? ResponseEntity.ok(analytics) : badRequest("Invalid match id");
+    }
+
     @GetMapping("/match/{matchId}/squads")
     public ResponseEntity<String> getMatchSquads(@PathVariable String matchId) {
         log.info("GET /api/v1/cricket/match/{}/squads", matchId);
@@ -194,6 +275,25 @@ public class CricketController {
         return ResponseEntity.ok(cricketService.getPlayerCareer(playerId));
     }
 
+    @GetMapping("/players")
+    public ResponseEntity<PageResponse<Player>> getPlayers(
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.info("GET /api/v1/cricket/players | country={}, limit={}", country, limit);
+        return ResponseEntity.ok(cricketService.getPlayerPage(country, cursor, pageLimit(limit)));
+    }
+
+    @GetMapping("/players/search")
+    public ResponseEntity<List<Player>> searchPlayers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.info("GET /api/v1/cricket/players/search | q={}, limit={}", q, limit);
+        return ResponseEntity.ok(cricketService.searchPlayers(q, Math.min(Math.max(limit, 1), 50)));
+    }
+
     /* =========================================================
         VENUES
     ========================================================= */
@@ -220,16 +320,114 @@ public class CricketController {
         SERIES (CricAPI cached daily)
     ========================================================= */
 
+    /**
+     * Without paging/filter params this returns the full CricAPI list (legacy).
+     * With any of them it returns a cursor page from the pre-sorted series index.
+     */
     @GetMapping("/series")
-    public ResponseEntity<Object> getSeries() {
-        log.info("GET /api/v1/cricket/series");
-        return ResponseEntity.ok(cricketService.getSeriesList());
+    public ResponseEntity<Object> getSeries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        if (from == null && to == null && format == null && cursor == null && limit == null) {
+            log.info("GET /api/v1/cricket/series");
+            return serveSnapshot(cricketService.getSeriesSnapshot(), ifNoneMatch, acceptEncoding,
+                    cricketService.getSeriesList());
+        }
+
+        log.info("GET /api/v1/cricket/series | from={}, to={}, format={}, limit={}", from, to, format, limit);
+        return ResponseEntity.ok(cricketService.getSeriesPage(from, to, format, cursor, pageLimit(limit)));
     }
 
     @GetMapping("/series/{seriesId}")
-    public ResponseEntity<Object> getSeriesDetail(@PathVariable String seriesId) {
+    public ResponseEntity<Object> getSeriesDetail(
+            @PathVariable String seriesId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
         log.info("GET /api/v1/cricket/series/{}", seriesId);
-        return ResponseEntity.ok(cricketService.getSeriesDetail(seriesId));
+        SerializedSnapshot snapshot = cricketService.getSeriesDetailSnapshot(seriesId);
+        return serveSnapshot(snapshot, ifNoneMatch, acceptEncoding, null);
+    }
+
+    /**
+     * Completed matches in the local archive, by match day (UTC).
+     * At most {@value #MAX_ARCHIVE_RANGE_DAYS} days per request, both ends included; a reversed range is a 400.
+     */
+    @GetMapping("/archive/matches")
+    public ResponseEntity<Object> getArchivedMatches(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        log.info("GET /api/v1/cricket/archive/matches | from={}, to={}", from, to);
+        LocalDate until = (to != null) ? to : from;
+        if (until.isBefore(from)) {
+            return badRequest("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, until) >= MAX_ARCHIVE_RANGE_DAYS) {
+            return badRequest("Range is limited to " + MAX_ARCHIVE_RANGE_DAYS + " days");
+        }
+        return ResponseEntity.ok(cricketService.getArchivedMatches(from, until));
+    }
+
+    @GetMapping("/series/{seriesId}/leaderboard")
+    public ResponseEntity<SeriesLeaderboard> getSeriesLeaderboard(
+            @PathVariable long seriesId,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.info("GET /api/v1/cricket/series/{}/leaderboard | limit={}", seriesId, limit);
+        return ResponseEntity.ok(cricketService.getSeriesLeaderboard(seriesId, Math.min(Math.max(limit, 1), 100)));
+    }
+
+    @GetMapping("/reference/status")
+    public ResponseEntity<Collection<RefreshReport>> getReferenceStatus() {
+        log.info("GET /api/v1/cricket/reference/status");
+        return ResponseEntity.ok(cricketService.getRefreshReports());
+    }
+
+    /* =========================================================
+        COUNTRIES / FULL PLAYER LIST (CricAPI cached daily)
+    ========================================================= */
+
+    @GetMapping("/countries")
+    public ResponseEntity<Object> getCountries(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        log.info("GET /api/v1/cricket/countries");
+        return serveSnapshot(cricketService.getCountriesSnapshot(), ifNoneMatch, acceptEncoding,
+                cricketService.getCountryList());
+    }
+
+    @GetMapping("/players/all")
+    public ResponseEntity<Object> getAllPlayers(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        log.info("GET /api/v1/cricket/players/all");
+        return serveSnapshot(cricketService.getPlayersSnapshot(), ifNoneMatch, acceptEncoding,
+                cricketService.getPlayerList());
+    }
+
+    /* =========================================================
+        SEARCH (in-memory only, never calls upstream)
+    ========================================================= */
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchResultPage> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("GET /api/v1/cricket/search | q={}, type={}, page={}, size={}", q, type, page, size);
+        return ResponseEntity.ok(unifiedSearchService.search(
+                q, type, Math.max(page, 0), Math.min(Math.max(size, 1), 50)));
     }
 
     /* =========================================================
@@ -247,4 +445,79 @@ public class CricketController {
         log.info("GET /api/v1/cricket/news/{}", newsId);
         return ResponseEntity.ok(cricketService.getNewsDetails(newsId));
     }
+
+    /**
+     * Serves pre-serialized bytes: 304 on ETag match, gzip when accepted.
+     * Each encoding carries its own strong ETag.
+     * Falls back to normal Jackson serialization if no snapshot exists yet.
+     */
+    private ResponseEntity<Object> serveSnapshot(SerializedSnapshot snapshot,
+                                                 String ifNoneMatch,
+                                                 String acceptEncoding,
+                                                 Object fallback) {
+        if (snapshot == null) return ResponseEntity.ok(fallback);
+
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return builder.body(snapshot.json());
+    }
+
+    /**
+     * RFC 9110 Accept-Encoding: gzip (or x-gzip) with q > 0, or "*" with q > 0
+     * when gzip isn't listed on its own. "gzip;q=0" refuses it.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) return false;
+
+        Double gzipQ = null;
+        Double anyQ = null;
+        for (String item : acceptEncoding.split(",")) {
+            String[] parts = item.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (!param.startsWith("q=")) continue;
+                try {
+                    q = Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    q = 0.0;
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) gzipQ = (gzipQ == null) ? q : Math.max(gzipQ, q);
+            else if (coding.equals("*")) anyQ = q;
+        }
+        if (gzipQ != null) return gzipQ > 0;
+        return anyQ != null && anyQ > 0;
+    }
+
+    private ResponseEntity<Object> badRequest(String message) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(String.format("{\"error\":true,\"status\":400,\"message\":\"%s\"}", message));
+    }
+
+    private int pageLimit(Integer limit) {
+        if (limit == null) return 50;
+        return Math.min(Math.max(limit, 1), 200);
+    }
 }
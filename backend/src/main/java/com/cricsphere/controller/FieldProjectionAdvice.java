@@ -0,0 +1,67 @@
+package com.cricsphere.controller;
+
+import com.cricsphere.service.JsonProjectionService;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Applies "?fields=" projection to every raw JSON endpoint of {@link CricketController}.
+ * Example: GET /api/v1/cricket/live?fields=**.teamName,**.matchScore
+ */
+@RestControllerAdvice(assignableTypes = CricketController.class)
+public class FieldProjectionAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String FIELDS_PARAM = "fields";
+
+    private final JsonProjectionService projectionService;
+
+    public FieldProjectionAdvice(JsonProjectionService projectionService) {
+        this.projectionService = projectionService;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+
+        // Only raw upstream bodies (String) are projected
+        if (!(body instanceof String raw)) return body;
+
+        String fields = UriComponentsBuilder.fromUri(request.getURI())
+                .build()
+                .getQueryParams()
+                .getFirst(FIELDS_PARAM);
+
+        if (fields == null || fields.isBlank()) return body;
+
+        // Source key = same request without the projection itself
+        String sourceKey = UriComponentsBuilder.fromUri(request.getURI())
+                .replaceQueryParam(FIELDS_PARAM)
+                .build()
+                .toUriString();
+
+        return projectionService.project(sourceKey, raw, decode(fields));
+    }
+
+    private String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
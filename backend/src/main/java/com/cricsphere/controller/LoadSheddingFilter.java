@@ -0,0 +1,130 @@
+package com.cricsphere.controller;
+
+import com.cricsphere.limit.ConcurrencyLimiter;
+import com.cricsphere.limit.VegasLimit;
+import com.cricsphere.limit.RequestPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limit in front of {@link CricketController}.
+ *
+ * Latency of every cricket API request feeds a {@link VegasLimit}; when
+ * in-flight requests exceed it, NORMAL and LOW requests get a 503 with
+ * {@code Retry-After} instead of queueing behind everyone else. Live-score
+ * requests are always admitted.
+ *
+ * Metrics: {@code http.concurrency.limit}, {@code http.concurrency.inflight},
+ * {@code http.concurrency.shed{priority}}.
+ */
+@Slf4j
+@Component
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/v1/cricket";
+
+    private static final String BUSY_JSON =
+            "{\"error\":true,\"status\":503,\"message\":\"Server busy, retry shortly\"}";
+
+    private final ConcurrencyLimiter limiter;
+    private final boolean enabled;
+    private final int retryAfterSeconds;
+    private final Map<RequestPriority, Counter> shed = new EnumMap<>(RequestPriority.class);
+
+    public LoadSheddingFilter(MeterRegistry meterRegistry,
+                              @Value("${cricsphere.limiter.enabled:true}") boolean enabled,
+                              @Value("${cricsphere.limiter.initial-limit:20}") int initialLimit,
+                              @Value("${cricsphere.limiter.min-limit:4}") int minLimit,
+                              @Value("${cricsphere.limiter.max-limit:200}") int maxLimit,
+                              @Value("${cricsphere.limiter.baseline-windows:500}") int baselineWindows,
+                              @Value("${cricsphere.limiter.low-priority-share:0.8}") double lowPriorityShare,
+                              @Value("${cricsphere.limiter.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+        this.limiter = new ConcurrencyLimiter(
+                new VegasLimit(initialLimit, minLimit, maxLimit, baselineWindows), lowPriorityShare);
+
+        Gauge.builder("http.concurrency.limit", limiter, ConcurrencyLimiter::limit).register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", limiter, ConcurrencyLimiter::inflight).register(meterRegistry);
+        for (RequestPriority p : RequestPriority.values()) {
+            shed.put(p, Counter.builder("http.concurrency.shed")
+                    .tag("priority", p.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !apiPath(request).startsWith(API_PREFIX + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        RequestPriority priority = priorityOf(apiPath(request).substring(API_PREFIX.length()));
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire(priority);
+
+        if (permit == null) {
+            shed.get(priority).increment();
+            log.warn("🚦 Shedding {} request (inflight={} limit={}) | {}",
+                    priority, limiter.inflight(), limiter.limit(), request.getRequestURI());
+
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(BUSY_JSON);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * Priority of a path below /api/v1/cricket.
+     */
+    static RequestPriority priorityOf(String path) {
+        if (path.startsWith("/live") || path.startsWith("/match/") || path.startsWith("/scorecard/")
+                || path.startsWith("/commentary/") || path.startsWith("/overs/")) {
+            return RequestPriority.CRITICAL;
+        }
+        if (path.startsWith("/search") || path.startsWith("/players") || path.startsWith("/news")
+                || path.startsWith("/series") || path.startsWith("/countries") || path.startsWith("/rankings")
+                || path.startsWith("/venue/") || path.startsWith("/player/")) {
+            return RequestPriority.LOW;
+        }
+        return RequestPriority.NORMAL; // upcoming / recent, teams, squads, status
+    }
+
+    ConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    private static String apiPath(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String context = request.getContextPath();
+        return (context != null && !context.isEmpty() && uri.startsWith(context)) ? uri.substring(context.length()) : uri;
+    }
+}
@@ -0,0 +1,68 @@
+package com.cricsphere.controller;
+
+import com.cricsphere.util.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Gives every cricket API request an overall time budget ({@link RequestDeadline}).
+ *
+ * Default from {@code cricsphere.request.timeout-millis}; a client may ask for
+ * a different one with {@code X-Request-Timeout: <millis>} (clamped to
+ * [min-timeout-millis, max-timeout-millis]).
+ */
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private static final String API_PREFIX = "/api/v1/cricket/";
+
+    private final long defaultTimeoutMillis;
+    private final long minTimeoutMillis;
+    private final long maxTimeoutMillis;
+
+    public RequestDeadlineFilter(@Value("${cricsphere.request.timeout-millis:8000}") long defaultTimeoutMillis,
+                                 @Value("${cricsphere.request.min-timeout-millis:200}") long minTimeoutMillis,
+                                 @Value("${cricsphere.request.max-timeout-millis:20000}") long maxTimeoutMillis) {
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.minTimeoutMillis = minTimeoutMillis;
+        this.maxTimeoutMillis = Math.max(minTimeoutMillis, maxTimeoutMillis);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestDeadline.start(timeoutFor(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    long timeoutFor(HttpServletRequest request) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header == null || header.isBlank()) return defaultTimeoutMillis;
+        try {
+            long requested = Long.parseLong(header.trim());
+            return Math.max(minTimeoutMillis, Math.min(maxTimeoutMillis, requested));
+        } catch (NumberFormatException e) {
+            return defaultTimeoutMillis;
+        }
+    }
+}
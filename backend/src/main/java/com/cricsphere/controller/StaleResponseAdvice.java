@@ -0,0 +1,45 @@
+package com.cricsphere.controller;
+
+import com.cricsphere.util.RequestDeadline;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Flags responses of {@link CricketController} that were served from an
+ * expired cache copy (deadline passed, upstream failing, quota out, ...):
+ *
+ *   Warning: 110 - "Response is Stale"
+ *   X-Cache-Stale-Seconds: <seconds since the copy expired>
+ */
+@RestControllerAdvice(assignableTypes = CricketController.class)
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_SECONDS_HEADER = "X-Cache-Stale-Seconds";
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null && deadline.isStale()) {
+            response.getHeaders().set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+            response.getHeaders().set(STALE_SECONDS_HEADER, String.valueOf(deadline.staleSeconds()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,122 @@
+package com.cricsphere.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor for one {@link EndpointClass}:
+ * - at most {@code maxConcurrent} upstream calls run at once
+ * - at most {@code queueCapacity} wait; a full queue is rejected at once
+ * - a call that hasn't started after {@code queueTimeoutMillis} is dropped
+ *
+ * Rejections complete the future with {@link BulkheadFullException}.
+ *
+ * Metrics: {@code rapidapi.bulkhead.active|queued|saturation{class}} and
+ * {@code rapidapi.bulkhead.rejected{class,reason}}.
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final long queueTimeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejectedFull;
+    private final Counter rejectedTimeout;
+
+    public Bulkhead(String name, int maxConcurrent, int queueCapacity, long queueTimeoutMillis,
+                    MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.queueTimeoutMillis = queueTimeoutMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.maxConcurrent, this.maxConcurrent, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(this.queueCapacity), r -> {
+            Thread t = new Thread(r, "rapidapi-" + name + "-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("rapidapi.bulkhead.active", active, AtomicInteger::get)
+                .tag("class", name)
+                .register(meterRegistry);
+        Gauge.builder("rapidapi.bulkhead.queued", executor, e -> e.getQueue().size())
+                .tag("class", name)
+                .register(meterRegistry);
+        Gauge.builder("rapidapi.bulkhead.saturation", this, Bulkhead::saturation)
+                .tag("class", name)
+                .description("(running + queued) / (max concurrent + queue capacity)")
+                .register(meterRegistry);
+        this.rejectedFull = Counter.builder("rapidapi.bulkhead.rejected")
+                .tag("class", name).tag("reason", "full")
+                .register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("rapidapi.bulkhead.rejected")
+                .tag("class", name).tag("reason", "queue-timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code task} on this bulkhead. Never blocks the caller.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean claimed = new AtomicBoolean();
+
+        // Whoever claims first decides: the worker runs it, or the timeout drops it
+        Runnable run = () -> {
+            if (!claimed.compareAndSet(false, true)) return;
+            active.incrementAndGet();
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+
+        try {
+            executor.execute(run);
+        } catch (RejectedExecutionException e) {
+            rejectedFull.increment();
+            result.completeExceptionally(new BulkheadFullException("Bulkhead " + name + " is full"));
+            return result;
+        }
+
+        CompletableFuture.delayedExecutor(queueTimeoutMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!claimed.compareAndSet(false, true)) return;
+            executor.remove(run);
+            rejectedTimeout.increment();
+            result.completeExceptionally(new BulkheadFullException(
+                    "Bulkhead " + name + " queue wait over " + queueTimeoutMillis + " ms"));
+        });
+        return result;
+    }
+
+    public double saturation() {
+        return (double) (active.get() + executor.getQueue().size()) / (maxConcurrent + queueCapacity);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,12 @@
+package com.cricsphere.integration;
+
+/**
+ * A bulkhead had no free slot (or the call waited too long in its queue):
+ * the caller should fail fast to stale data.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String message) {
+        super(message, null, false, false);
+    }
+}
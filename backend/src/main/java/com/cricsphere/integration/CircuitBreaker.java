@@ -0,0 +1,117 @@
+package com.cricsphere.integration;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker for one upstream host.
+ *
+ * - CLOSED: calls pass; the last {@code windowSize} outcomes are kept, and once
+ *   at least {@code minCalls} are recorded a failure share of {@code failureRate}
+ *   or more opens the breaker
+ * - OPEN: calls are refused for {@code openMillis} (callers serve stale right away)
+ * - HALF_OPEN: one probe call is let through; success closes, failure re-opens
+ *
+ * Slow calls are reported as failures by the caller. State changes are rare and
+ * the critical sections tiny compared to an HTTP call, so a monitor is enough.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    /* Ring of the last outcomes (true = failed) */
+    private final boolean[] outcomes;
+    private int next;
+    private int count;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int windowSize, int minCalls, double failureRate, long openMillis, LongSupplier clock) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minCalls = Math.max(1, Math.min(minCalls, this.windowSize));
+        this.failureRate = failureRate;
+        this.openMillis = openMillis;
+        this.clock = clock;
+        this.outcomes = new boolean[this.windowSize];
+    }
+
+    /**
+     * @return true if the call may go upstream; it must then be reported with {@link #onResult(boolean)}
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMillis) return false;
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) return false;
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onResult(boolean failed) {
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failed) open();
+                else close();
+            }
+            case CLOSED -> {
+                if (count == windowSize && outcomes[next]) failures--;
+                outcomes[next] = failed;
+                next = (next + 1) % windowSize;
+                if (count < windowSize) count++;
+                if (failed) failures++;
+
+                if (count >= minCalls && failures >= failureRate * count) open();
+            }
+            case OPEN -> {
+                // late result of a call started before the breaker opened
+            }
+        }
+    }
+
+    /**
+     * The acquired call never went upstream (e.g. rejected locally): frees a
+     * half-open probe without deciding anything.
+     */
+    public synchronized void cancel() {
+        if (state == State.HALF_OPEN) probeInFlight = false;
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openMillis) return State.HALF_OPEN;
+        return state;
+    }
+
+    /**
+     * Millis until an open breaker lets a probe through (0 if not open).
+     */
+    public synchronized long millisUntilRetry() {
+        if (state != State.OPEN) return 0;
+        return Math.max(0, openMillis - (clock.getAsLong() - openedAt));
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        probeInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probeInFlight = false;
+        next = 0;
+        count = 0;
+        failures = 0;
+    }
+}
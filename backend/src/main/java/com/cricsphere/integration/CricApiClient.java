@@ -0,0 +1,129 @@
+package com.cricsphere.integration;
+
+import com.cricsphere.model.CricApiInfo;
+import com.cricsphere.model.SeriesDetailResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CricAPI (reference data) client.
+ * Responses are stream-parsed straight from the socket:
+ * no intermediate String, no JSON tree, one element at a time.
+ */
+@Slf4j
+@Component
+public class CricApiClient {
+
+    private static final String CRICAPI_BASE = "https://api.cricapi.com/v1/";
+
+    @Value("${cricapi.key}")
+    private String cricApiKey;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CricApiClient(RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * One page of a CricAPI list endpoint ("series", "players", "countries").
+     *
+     * @param offset CricAPI row offset (0 = first page)
+     */
+    public <T> CricApiPage<T> fetchList(String endpoint, int offset, Class<T> elementType) {
+        String url = CRICAPI_BASE + endpoint + "?apikey=" + cricApiKey + "&offset=" + offset;
+        long started = System.nanoTime();
+
+        CricApiPage<T> page = restTemplate.execute(url, HttpMethod.GET, null,
+                response -> parseList(response.getBody(), elementType, started));
+
+        if (page == null) throw new IllegalStateException("Empty CricAPI response for " + endpoint);
+        return page;
+    }
+
+    /**
+     * CricAPI "series_info" (series detail incl. match list).
+     */
+    public SeriesDetailResponse fetchSeriesInfo(String seriesId) {
+        String url = CRICAPI_BASE + "series_info?apikey=" + cricApiKey + "&id=" + seriesId;
+        return restTemplate.execute(url, HttpMethod.GET, null,
+                response -> objectMapper.readValue(response.getBody(), SeriesDetailResponse.class));
+    }
+
+    private <T> CricApiPage<T> parseList(InputStream body, Class<T> elementType, long started) throws IOException {
+        CountingInputStream in = new CountingInputStream(body);
+        List<T> data = new ArrayList<>();
+        String status = null;
+        CricApiInfo info = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("CricAPI response is not a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    // CricAPI uses "data", some player payloads use "player"
+                    case "data", "player" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                T element = objectMapper.readValue(parser, elementType);
+                                if (element != null) data.add(element);
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "status" -> status = parser.getValueAsString();
+                    case "info" -> info = objectMapper.readValue(parser, CricApiInfo.class);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        long millis = (System.nanoTime() - started) / 1_000_000;
+        return new CricApiPage<>(data, status, info, in.count, millis);
+    }
+
+    /**
+     * Counts bytes as they are read so refreshes can report payload size.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
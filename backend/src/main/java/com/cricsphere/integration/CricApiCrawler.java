@@ -0,0 +1,299 @@
+package com.cricsphere.integration;
+
+import com.cricsphere.model.CricApiInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Incremental crawler for CricAPI's offset-paginated list endpoints.
+ *
+ * Each run:
+ * 1) fetches offset 0 (gives totalRows + remaining CricAPI hits)
+ * 2) plans pages within the quota budget: new tail rows first, then a
+ *    rotating cursor so every page is revisited over a few days
+ * 3) fetches planned pages concurrently
+ * 4) reports only rows of pages whose content changed since last seen
+ *
+ * Watermark: {@code knownTotal} = rows fetched contiguously from offset 0
+ * (only moves through tail pages that actually arrived), plus the rotating
+ * cursor. It is persisted locally, but the rows and page hashes live in the
+ * caller's memory: when the caller's store is empty (first run after a
+ * restart) the saved total is ignored and every page counts as changed, so
+ * rows fetched before the restart are fetched again.
+ */
+@Slf4j
+@Component
+public class CricApiCrawler {
+
+    private static final int DEFAULT_PAGE_SIZE = 25;
+    private static final int FETCH_CONCURRENCY = 4;
+
+    private final CricApiClient cricApi;
+    private final ObjectMapper objectMapper;
+
+    private final int pageBudget;
+    private final int hitsReserve;
+    private final String dataDir;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final ExecutorService fetchPool = Executors.newFixedThreadPool(FETCH_CONCURRENCY, r -> {
+        Thread t = new Thread(r, "cricapi-crawl-" + threadCount.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    /* source -> offset -> content hash of that page */
+    private final Map<String, Map<Integer, Integer>> pageHashes = new ConcurrentHashMap<>();
+
+    private volatile Map<String, Watermark> watermarks;
+
+    public CricApiCrawler(CricApiClient cricApi,
+                          ObjectMapper objectMapper,
+                          @Value("${cricapi.crawl.page-budget:12}") int pageBudget,
+                          @Value("${cricapi.crawl.hits-reserve:10}") int hitsReserve,
+                          @Value("${cricsphere.data-dir:data}") String dataDir) {
+        this.cricApi = cricApi;
+        this.objectMapper = objectMapper;
+        this.pageBudget = pageBudget;
+        this.hitsReserve = hitsReserve;
+        this.dataDir = dataDir;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchPool.shutdownNow();
+    }
+
+    /**
+     * Crawls one list endpoint and returns the rows that changed.
+     *
+     * @param storeEmpty the caller holds no rows of this source (e.g. after a
+     *                   restart): start the tail from offset 0 and report every page
+     */
+    public <T> CrawlResult<T> crawl(String source, Class<T> type, boolean storeEmpty) {
+        Watermark mark = watermarks().getOrDefault(source, Watermark.initial());
+        Map<Integer, Integer> hashes = pageHashes.computeIfAbsent(source, s -> new ConcurrentHashMap<>());
+        if (storeEmpty) {
+            mark = mark.cold();
+            hashes.clear();
+        }
+
+        // 1) First page: always fetched, gives totals and quota info
+        CricApiPage<T> first = cricApi.fetchList(source, 0, type);
+        if (!first.isSuccess()) {
+            throw new IllegalStateException("CricAPI " + source + " status=" + first.status());
+        }
+
+        int pageSize = first.data().isEmpty() ? DEFAULT_PAGE_SIZE : first.data().size();
+        int totalRows = totalRows(first.info(), first.data().size());
+        int budget = Math.max(0, remainingBudget(first.info()) - 1);
+
+        // 2) Plan remaining pages
+        List<Integer> planned = plan(mark, totalRows, pageSize, budget);
+
+        // 3) Fetch concurrently
+        List<CompletableFuture<CricApiPage<T>>> futures = new ArrayList<>();
+        for (int offset : planned) {
+            futures.add(CompletableFuture.supplyAsync(() -> cricApi.fetchList(source, offset, type), fetchPool));
+        }
+
+        // 4) Collect changed pages only
+        List<T> changed = new ArrayList<>();
+        Set<Integer> arrived = new HashSet<>();
+        arrived.add(0);
+        long bytes = first.bytes();
+        int fetched = 1;
+        int failed = 0;
+        Integer lastRotated = null;
+
+        collectIfChanged(hashes, 0, first, changed);
+
+        for (int i = 0; i < planned.size(); i++) {
+            int offset = planned.get(i);
+            try {
+                CricApiPage<T> page = futures.get(i).join();
+                if (!page.isSuccess()) {
+                    failed++;
+                    continue;
+                }
+                bytes += page.bytes();
+                fetched++;
+                arrived.add(offset);
+                collectIfChanged(hashes, offset, page, changed);
+                if (offset >= mark.knownTotal()) continue;
+                lastRotated = offset;
+            } catch (Exception e) {
+                failed++;
+                log.warn("⚠️ CricAPI {} page offset={} failed: {}", source, offset, e.getMessage());
+            }
+        }
+
+        // Rotating cursor continues after the last revisited page, wraps at the end
+        int nextCursor = (lastRotated != null) ? lastRotated + pageSize : mark.cursor();
+        if (nextCursor >= totalRows) nextCursor = pageSize;
+
+        int knownTotal = advanceKnownTotal(mark.knownTotal(), arrived, totalRows, pageSize);
+        Watermark next = new Watermark(knownTotal, nextCursor, System.currentTimeMillis());
+        saveWatermark(source, next);
+
+        int pagesTotal = (totalRows + pageSize - 1) / Math.max(1, pageSize);
+        boolean complete = hashes.size() >= pagesTotal;
+
+        log.info("🕷️ CricAPI crawl {} | pages={}/{} | failed={} | changedRows={} | complete={}",
+                source, fetched, pagesTotal, failed, changed.size(), complete);
+
+        return new CrawlResult<>(changed, fetched, failed, bytes, totalRows, complete);
+    }
+
+    private List<Integer> plan(Watermark mark, int totalRows, int pageSize, int budget) {
+        Set<Integer> offsets = new LinkedHashSet<>();
+
+        // New rows since the last run
+        int tailStart = (mark.knownTotal() / pageSize) * pageSize;
+        for (int o = Math.max(pageSize, tailStart); o < totalRows && offsets.size() < budget; o += pageSize) {
+            offsets.add(o);
+        }
+
+        // Rotating revisit of older pages
+        int cursor = Math.max(pageSize, mark.cursor());
+        int steps = (totalRows + pageSize - 1) / pageSize;
+        for (int i = 0; i < steps && offsets.size() < budget; i++) {
+            if (cursor >= totalRows) cursor = pageSize;
+            if (cursor >= totalRows) break;
+            offsets.add(cursor);
+            cursor += pageSize;
+        }
+
+        return new ArrayList<>(offsets);
+    }
+
+    /*
+     * Rows held contiguously from offset 0. Moves past the old total only
+     * through tail pages that arrived this run: a failed or unbudgeted page
+     * stops it, so that page is still planned as new next time.
+     */
+    static int advanceKnownTotal(int knownTotal, Set<Integer> arrived, int totalRows, int pageSize) {
+        int known = Math.min(knownTotal, totalRows);
+        for (int o = (known / pageSize) * pageSize; o < totalRows && arrived.contains(o); o += pageSize) {
+            known = Math.min(o + pageSize, totalRows);
+        }
+        return known;
+    }
+
+    private <T> void collectIfChanged(Map<Integer, Integer> hashes, int offset, CricApiPage<T> page, List<T> out) {
+        int hash = page.data().hashCode();
+        Integer previous = hashes.put(offset, hash);
+        if (previous == null || previous != hash) out.addAll(page.data());
+    }
+
+    private int remainingBudget(CricApiInfo info) {
+        if (info == null || info.getHitsLimit() == null || info.getHitsToday() == null) return pageBudget;
+        int left = info.getHitsLimit() - info.getHitsToday() - hitsReserve;
+        return Math.max(1, Math.min(pageBudget, left));
+    }
+
+    private int totalRows(CricApiInfo info, int fallback) {
+        return (info != null && info.getTotalRows() != null) ? info.getTotalRows() : fallback;
+    }
+
+    /* =========================================================
+        Watermark persistence (local file)
+    ========================================================= */
+    private Map<String, Watermark> watermarks() {
+        Map<String, Watermark> current = watermarks;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (watermarks == null) watermarks = loadWatermarks();
+            return watermarks;
+        }
+    }
+
+    private Map<String, Watermark> loadWatermarks() {
+        Map<String, Watermark> map = new ConcurrentHashMap<>();
+        Path file = watermarkFile();
+        try {
+            if (Files.exists(file)) {
+                Watermark[] stored = objectMapper.readValue(file.toFile(), Watermark[].class);
+                for (Watermark w : stored) {
+                    if (w.source() != null) map.put(w.source(), w);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Could not read crawl watermarks: {}", e.getMessage());
+        }
+        return map;
+    }
+
+    private synchronized void saveWatermark(String source, Watermark mark) {
+        Map<String, Watermark> map = watermarks();
+        map.put(source, mark.withSource(source));
+        try {
+            Path file = watermarkFile();
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), map.values());
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not persist crawl watermark: {}", e.getMessage());
+        }
+    }
+
+    private Path watermarkFile() {
+        return Path.of(dataDir).toAbsolutePath().resolve("cricapi-crawl-state.json");
+    }
+
+    /**
+     * Local change watermark of one source.
+     */
+    public record Watermark(String source, int knownTotal, int cursor, long updatedAt) {
+
+        Watermark(int knownTotal, int cursor, long updatedAt) {
+            this(null, knownTotal, cursor, updatedAt);
+        }
+
+        static Watermark initial() {
+            return new Watermark(0, 0, 0L);
+        }
+
+        Watermark withSource(String source) {
+            return new Watermark(source, knownTotal, cursor, updatedAt);
+        }
+
+        // Nothing is held any more: keep only the rotation position
+        Watermark cold() {
+            return new Watermark(source, 0, cursor, updatedAt);
+        }
+    }
+
+    /**
+     * Rows that changed in this run plus crawl stats.
+     */
+    public record CrawlResult<T>(
+            List<T> changed,
+            int pagesFetched,
+            int pagesFailed,
+            long bytes,
+            int totalRows,
+            boolean complete
+    ) {
+    }
+}
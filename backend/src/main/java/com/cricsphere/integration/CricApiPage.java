@@ -0,0 +1,21 @@
+package com.cricsphere.integration;
+
+import com.cricsphere.model.CricApiInfo;
+
+import java.util.List;
+
+/**
+ * One parsed page of a CricAPI list endpoint, plus transfer stats.
+ */
+public record CricApiPage<T>(
+        List<T> data,
+        String status,
+        CricApiInfo info,
+        long bytes,
+        long millis
+) {
+
+    public boolean isSuccess() {
+        return "success".equalsIgnoreCase(status);
+    }
+}
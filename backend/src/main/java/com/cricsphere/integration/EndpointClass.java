@@ -0,0 +1,47 @@
+package com.cricsphere.integration;
+
+import java.net.URI;
+
+/**
+ * Upstream endpoint families that get their own bulkhead, so a burst on one
+ * (e.g. slow hcomm / hleanback pages) can't starve another (e.g. /live).
+ *
+ * Finer than the call-budget split of {@link com.cricsphere.quota.QuotaClass}:
+ * that one is about who may spend the day's calls, this one about who may hold
+ * threads right now.
+ */
+public enum EndpointClass {
+
+    LIVE,
+    MATCH_CENTER,
+    TEAMS_PLAYERS,
+    NEWS,
+    REFERENCE;
+
+    /**
+     * Class of a Cricbuzz RapidAPI URL.
+     */
+    public static EndpointClass of(String url) {
+        String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (Exception e) {
+            return REFERENCE;
+        }
+        if (path == null) return REFERENCE;
+
+        if (path.startsWith("/matches/v1/") || path.startsWith("/home/")) return LIVE;
+        if (path.startsWith("/mcenter/v1/")) return MATCH_CENTER;
+        if (path.startsWith("/teams/") || path.startsWith("/stats/v1/player/")
+                || path.startsWith("/stats/v1/team/")) return TEAMS_PLAYERS;
+        if (path.startsWith("/news/")) return NEWS;
+        return REFERENCE; // venues, rankings, series, ...
+    }
+
+    /**
+     * Lower-case name used in properties and metric tags.
+     */
+    public String key() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
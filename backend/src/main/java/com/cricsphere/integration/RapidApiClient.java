@@ -1,9 +1,14 @@
 package com.cricsphere.integration;
 
+import com.cricsphere.quota.QuotaClass;
+import com.cricsphere.quota.QuotaLedger;
+import com.cricsphere.quota.QuotaScheduler;
 import com.cricsphere.service.FirestoreCacheService;
+import com.cricsphere.util.RequestDeadline;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
@@ -14,36 +19,59 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Duration;
-import java.time.LocalDate;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
 
 @Slf4j
 @Component
 public class RapidApiClient {
 
-    @Value("${rapidapi.key}")
-    private String rapidApiKey;
-
     @Value("${rapidapi.host:}")
     private String rapidApiHost;
 
     private final RestTemplate restTemplate;
     private final FirestoreCacheService firestoreCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /* ===================== Quota (shared across instances, per-class priorities) ===================== */
+    private final QuotaScheduler quota;
+
+    /* ===================== Credentials (one slot per key, health tracked) ===================== */
+    private final RapidApiKeyPool keys;
+
+    /* ===================== Upstream health (breaker, latency, hedging) ===================== */
+    private final UpstreamHealth health;
 
-    /* ===================== Quota ===================== */
-    private static final int DAILY_LIMIT = 100;
-    private LocalDate currentDay = LocalDate.now();
-    private final AtomicInteger dailyCallCount = new AtomicInteger(0);
+    /* ===================== Bulkheads (bounded executor per endpoint class) ===================== */
+    private final UpstreamBulkheads bulkheads;
 
     /* ===================== Locks (anti stampede) ===================== */
-    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
 
     public RapidApiClient(RestTemplateBuilder restTemplateBuilder,
-                          FirestoreCacheService firestoreCacheService) {
+                          FirestoreCacheService firestoreCacheService,
+                          ApplicationEventPublisher eventPublisher,
+                          QuotaScheduler quota,
+                          RapidApiKeyPool keys,
+                          UpstreamHealth health,
+                          UpstreamBulkheads bulkheads) {
 
         this.firestoreCacheService = firestoreCacheService;
+        this.eventPublisher = eventPublisher;
+        this.quota = quota;
+        this.keys = keys;
+        this.health = health;
+        this.bulkheads = bulkheads;
 
         this.restTemplate = restTemplateBuilder
                 .requestFactory(() -> {
@@ -62,98 +90,379 @@ public class RapidApiClient {
      * - If RapidAPI fails, serve stale Firestore cache
      */
     public String fetch(String url, long ttlMillis) {
-        rotateDayIfNeeded();
+        return fetch(url, ttlMillis, null);
+    }
+
+    /**
+     * Same as {@link #fetch(String, long)}, but the TTL is decided from the fetched
+     * body (e.g. match state). The function is expected to be quota-aware itself,
+     * so its result is not stretched again.
+     */
+    public String fetch(String url, ToLongFunction<String> ttlForBody) {
+        return fetch(url, 0L, ttlForBody, 0L);
+    }
+
+    /**
+     * Background refresh ahead of expiry: fetches {@code url} (same quota, breaker
+     * and bulkhead rules as a user request) unless the cached copy is still good
+     * for more than {@code aheadMillis}.
+     *
+     * @return expiry of the cached copy if it was left alone, 0 if a fetch was
+     *         attempted (a stored body is announced with {@link UpstreamBodyStoredEvent})
+     */
+    public long prefetch(String url, ToLongFunction<String> ttlForBody, long aheadMillis) {
+        FirestoreCacheService.CacheEntry cached = firestoreCacheService.get(buildCacheKey(url));
+        if (isFresh(cached, aheadMillis)) return cached.getExpiresAt();
+
+        fetch(url, 0L, ttlForBody, aheadMillis);
+        return 0L;
+    }
 
+    private String fetch(String url, long ttlMillis, ToLongFunction<String> ttlForBody) {
+        return fetch(url, ttlMillis, ttlForBody, 0L);
+    }
+
+    /**
+     * @param aheadMillis a cached copy expiring within this is treated as expired
+     */
+    private String fetch(String url, long ttlMillis, ToLongFunction<String> ttlForBody, long aheadMillis) {
         final String cacheKey = buildCacheKey(url);
 
         // 1) Check Firestore cache
         FirestoreCacheService.CacheEntry cached = firestoreCacheService.get(cacheKey);
-        if (cached != null && !firestoreCacheService.isExpired(cached)) {
+        if (isFresh(cached, aheadMillis)) {
             log.info("✅ Cache HIT (fresh) | {}", url);
             return cached.getBody();
         }
 
-        // 2) Prevent multiple threads calling same URL
-        Object lock = locks.computeIfAbsent(cacheKey, k -> new Object());
+        // 2) Prevent multiple threads calling same URL (waiting at most what's left of the deadline)
+        ReentrantLock lock = locks.computeIfAbsent(cacheKey, k -> new ReentrantLock());
+        if (!tryLock(lock)) {
+            log.warn("⏱️ Deadline passed waiting for in-flight fetch. Serving stale Firestore fallback for: {}", url);
+            return staleOr(cached, getDeadlineErrorJson());
+        }
 
-        synchronized (lock) {
-            // Double-check cache after lock
-            cached = firestoreCacheService.get(cacheKey);
-            if (cached != null && !firestoreCacheService.isExpired(cached)) {
+        try {
+            // Double-check cache after lock (a newer copy replaces the stale fallback;
+            // a re-read that missed, e.g. on deadline timeout, keeps the copy in hand)
+            FirestoreCacheService.CacheEntry reread = firestoreCacheService.get(cacheKey);
+            if (reread != null) cached = reread;
+            if (isFresh(cached, aheadMillis)) {
                 log.info("✅ Cache HIT (fresh after lock) | {}", url);
                 return cached.getBody();
             }
+            if (RequestDeadline.isExpired()) {
+                log.warn("⏱️ Deadline passed before upstream call. Serving stale Firestore fallback for: {}", url);
+                return staleOr(cached, getDeadlineErrorJson());
+            }
 
-            // 3) Quota check
-            if (dailyCallCount.get() >= DAILY_LIMIT) {
-                log.warn("🚨 RapidAPI quota limit hit ({}). Serving stale Firestore fallback for: {}", DAILY_LIMIT, url);
-                return (cached != null) ? cached.getBody() : getQuotaErrorJson();
+            // 3) Quota: reserve a call slot up front for this endpoint class
+            QuotaClass quotaClass = QuotaClass.of(url);
+            long reservation = quota.tryReserve(quotaClass);
+            if (reservation == QuotaLedger.REFUSED) {
+                log.warn("🚨 RapidAPI quota limit hit ({} / {}). Serving stale Firestore fallback for: {}",
+                        quotaClass, quota.limit(), url);
+                return staleOr(cached, getQuotaErrorJson());
             }
 
-            // 4) Call API
-            return executeRequest(url, cacheKey, ttlMillis);
+            // 4) Call API (fixed TTLs lengthened early if the day's quota is predicted to run out)
+            ToLongFunction<String> ttl = (ttlForBody != null)
+                    ? ttlForBody
+                    : body -> quota.stretchTtl(quotaClass, ttlMillis);
+            return executeRequest(url, cacheKey, cached, ttl, quotaClass, reservation, false);
+        } finally {
+            lock.unlock();
         }
     }
 
-    private String executeRequest(String url, String key, long ttlMillis) {
-        // stale = last Firestore cache (even if expired)
-        FirestoreCacheService.CacheEntry stale = firestoreCacheService.get(key);
+    /**
+     * Performs the upstream call for a reserved quota slot.
+     * The slot is kept on success and released on any failure.
+     * A 429/403 takes that key out of rotation and retries once on another key.
+     *
+     * @param stale last Firestore copy (even if expired), served on any failure
+     */
+    private String executeRequest(String url, String key, FirestoreCacheService.CacheEntry stale,
+                                  ToLongFunction<String> ttlForBody,
+                                  QuotaClass quotaClass, long reservation, boolean retried) {
+        String host = extractHost(url);
+        if (host == null || host.isBlank()) host = rapidApiHost;
+
+        // Host is failing: don't hold a request thread on it, answer from cache now.
+        // A retry on another key is admitted like any call: only admitted calls report to the breaker
+        CircuitBreaker breaker = health.breaker(host);
+        if (!breaker.tryAcquire()) {
+            quota.release(quotaClass, reservation);
+            log.warn("⛔ Circuit open for {} (probe in {}s). Serving stale Firestore fallback for: {}",
+                    host, breaker.millisUntilRetry() / 1000, url);
+            return staleOr(stale, getErrorJson("RapidAPI temporarily unavailable"));
+        }
 
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("x-rapidapi-key", rapidApiKey);
-
-            String host = extractHost(url);
-            if (host == null || host.isBlank()) host = rapidApiHost;
-
-            if (host != null && !host.isBlank()) {
-                headers.set("x-rapidapi-host", host);
-            }
-
-            int callNo = dailyCallCount.get() + 1;
-            log.info("📡 RapidAPI Call #{} | Host: {} | URL: {}", callNo, host, url);
+            int callNo = quota.used();
+            log.info("📡 RapidAPI Call #{} | Key: {} | Host: {} | URL: {}",
+                    callNo, keys.keyIdFor(reservation), host, url);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    new HttpEntity<>(headers),
-                    String.class
-            );
+            ResponseEntity<String> response = exchange(url, host, quotaClass, reservation);
 
             String body = response.getBody();
 
             if (body != null && !body.isBlank()) {
-                dailyCallCount.incrementAndGet();
-
-                // Save to Firestore (persistent cache)
-                firestoreCacheService.set(key, body, ttlMillis);
-
+                store(url, key, body, ttlForBody);
                 return body;
             }
 
             log.warn("⚠️ Empty response body from RapidAPI: {}", url);
-            return (stale != null) ? stale.getBody() : getErrorJson("Empty response from RapidAPI");
+            quota.release(quotaClass, reservation);
+            return staleOr(stale, getErrorJson("Empty response from RapidAPI"));
+
+        } catch (DeadlineExceededException e) {
+            // Out of time: answer now, but let the call finish so its body still lands in the cache
+            log.warn("⏱️ Deadline passed during upstream call. Serving stale Firestore fallback for: {}", url);
+            e.pending().whenComplete((late, error) -> {
+                if (error != null) {
+                    settleFailed(quotaClass, reservation, unwrap(error));
+                } else if (late.getBody() != null && !late.getBody().isBlank()) {
+                    store(url, key, late.getBody(), ttlForBody);
+                } else {
+                    quota.release(quotaClass, reservation);
+                }
+            });
+            return staleOr(stale, getDeadlineErrorJson());
+
+        } catch (BulkheadFullException e) {
+            // Nothing went upstream: give everything back and answer from cache now
+            log.warn("🚧 {} | Serving stale Firestore fallback for: {}", e.getMessage(), url);
+            quota.release(quotaClass, reservation);
+            breaker.cancel();
+            return staleOr(stale, getErrorJson("RapidAPI busy, try again shortly"));
 
         } catch (HttpStatusCodeException e) {
             log.error("❌ RapidAPI HTTP Error {} | URL: {} | Body: {}",
                     e.getStatusCode(), url, e.getResponseBodyAsString());
 
+            settleFailed(quotaClass, reservation, e);
+
+            // Key-level failures: the key is out of rotation now, try another one
+            int status = e.getStatusCode().value();
+            if ((status == 429 || status == 403) && !retried && !RequestDeadline.isExpired()) {
+                long next = quota.tryReserve(quotaClass);
+                if (next != QuotaLedger.REFUSED) {
+                    log.warn("🔑 Retrying on another RapidAPI key for: {}", url);
+                    return executeRequest(url, key, stale, ttlForBody, quotaClass, next, true);
+                }
+            }
+
             if (stale != null) {
                 log.warn("🔄 Serving stale Firestore cache fallback due to HTTP error for: {}", url);
-                return stale.getBody();
             }
-
-            return getErrorJson("RapidAPI error: " + e.getResponseBodyAsString());
+            return staleOr(stale, getErrorJson("RapidAPI error: " + e.getResponseBodyAsString()));
 
         } catch (Exception e) {
             log.error("❌ RapidAPI Request Failed | URL: {} | Reason: {}", url, e.getMessage());
+            quota.release(quotaClass, reservation);
 
             if (stale != null) {
                 log.warn("🔄 Serving stale Firestore cache fallback due to failure for: {}", url);
-                return stale.getBody();
             }
+            return staleOr(stale, getErrorJson("API connection failed: " + e.getMessage()));
+        }
+    }
 
-            return getErrorJson("API connection failed: " + e.getMessage());
+    /**
+     * GET on the URL's bulkhead, with an optional hedge: if the first attempt hasn't
+     * answered after the host's p95, a second one is sent on its own quota slot and
+     * the first success wins. If both fail, the first attempt's error is thrown.
+     * Waits at most what is left of the request deadline.
+     */
+    private ResponseEntity<String> exchange(String url, String host, QuotaClass quotaClass, long reservation) {
+        Bulkhead bulkhead = bulkheads.of(url);
+        CompletableFuture<ResponseEntity<String>> primary = bulkhead.submit(() -> attempt(url, host, reservation, true));
+
+        long hedgeDelay = health.hedgeDelayMillis(host);
+        if (hedgeDelay < 0) return await(primary);
+
+        long remaining = RequestDeadline.remainingOr(Long.MAX_VALUE);
+        try {
+            return primary.get(Math.min(hedgeDelay, remaining), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException slow) {
+            if (hedgeDelay >= remaining) throw new DeadlineExceededException(primary);
+            // fall through to the hedge
+        } catch (Exception e) {
+            throw unwrap(e);
+        }
+
+        long hedgeReservation = quota.tryReserve(quotaClass);
+        if (hedgeReservation == QuotaLedger.REFUSED) return await(primary);
+
+        CompletableFuture<ResponseEntity<String>> hedge = bulkhead.submit(() -> attempt(url, host, hedgeReservation, false));
+        if (hedge.isCompletedExceptionally()) {
+            // No room for a second attempt: don't crowd out other calls
+            quota.release(quotaClass, hedgeReservation);
+            return await(primary);
+        }
+        health.hedgeSent(host);
+        log.info("🏁 Hedged RapidAPI call after {} ms | Key: {} | URL: {}",
+                hedgeDelay, keys.keyIdFor(hedgeReservation), url);
+
+        CompletableFuture<ResponseEntity<String>> first = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        AtomicReference<RuntimeException> primaryError = new AtomicReference<>();
+        AtomicBoolean won = new AtomicBoolean();
+
+        primary.whenComplete((response, error) -> {
+            if (error == null) {
+                if (won.compareAndSet(false, true)) first.complete(response);
+                return;
+            }
+            primaryError.set(unwrap(error));
+            if (pending.decrementAndGet() == 0) first.completeExceptionally(primaryError.get());
+        });
+        hedge.whenComplete((response, error) -> {
+            if (error != null) {
+                // A successful loser keeps its slot: the provider counted the call
+                settleFailed(quotaClass, hedgeReservation, unwrap(error));
+                if (pending.decrementAndGet() == 0) first.completeExceptionally(primaryError.get());
+                return;
+            }
+            // Claim the win before waking the waiter, so the counter is never behind the response
+            if (won.compareAndSet(false, true)) {
+                health.hedgeWon(host);
+                first.complete(response);
+                // Whoever waits on `first` only settles the first slot when its error is thrown
+                primary.whenComplete((r, e) -> {
+                    if (e != null) settleFailed(quotaClass, reservation, unwrap(e));
+                });
+            }
+        });
+
+        return await(first);
+    }
+
+    /**
+     * One upstream GET on the key of {@code reservation}, timed per host.
+     *
+     * @param admitted the call passed {@link CircuitBreaker#tryAcquire()} (a hedge rides
+     *                 on its primary's admission: its outcome must not decide a probe)
+     */
+    private ResponseEntity<String> attempt(String url, String host, long reservation, boolean admitted) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-rapidapi-key", keys.secretFor(reservation));
+        if (host != null && !host.isBlank()) {
+            headers.set("x-rapidapi-host", host);
+        }
+
+        long start = System.nanoTime();
+        try {
+            ResponseEntity<String> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers),
+                    String.class
+            );
+            health.record(host, System.nanoTime() - start, false, admitted);
+            return response;
+        } catch (HttpStatusCodeException e) {
+            // 4xx: the host is answering, it's the request or the key
+            health.record(host, System.nanoTime() - start, e.getStatusCode().is5xxServerError(), admitted);
+            throw e;
+        } catch (RuntimeException e) {
+            health.record(host, System.nanoTime() - start, true, admitted);
+            throw e;
+        }
+    }
+
+    // Gives a failed attempt's quota slot back, or takes its key out of rotation
+    private void settleFailed(QuotaClass quotaClass, long reservation, Throwable error) {
+        int status = (error instanceof HttpStatusCodeException e) ? e.getStatusCode().value() : 0;
+        if (status == 429) {
+            keys.markRateLimited(reservation);
+            return;
+        }
+        // Ledger slot and class counter go back together
+        quota.release(quotaClass, reservation);
+        if (status == 403) keys.markForbidden(reservation);
+    }
+
+    // Waits for an upstream call within the request deadline (if any)
+    private static ResponseEntity<String> await(CompletableFuture<ResponseEntity<String>> future) {
+        try {
+            RequestDeadline deadline = RequestDeadline.current();
+            if (deadline == null) return future.get();
+            return future.get(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException(future);
+        } catch (Exception e) {
+            throw unwrap(e);
+        }
+    }
+
+    private boolean tryLock(ReentrantLock lock) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            lock.lock();
+            return true;
+        }
+        try {
+            return lock.tryLock(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Saves a fresh body (persistent cache) and lets derived in-memory views rebuild
+    private void store(String url, String key, String body, ToLongFunction<String> ttlForBody) {
+        long ttl = ttlForBody.applyAsLong(body);
+        firestoreCacheService.set(key, body, ttl);
+        publishStored(url, body, System.currentTimeMillis() + ttl);
+    }
+
+    private boolean isFresh(FirestoreCacheService.CacheEntry entry, long aheadMillis) {
+        if (entry == null) return false;
+        if (aheadMillis <= 0) return !firestoreCacheService.isExpired(entry);
+        return entry.getExpiresAt() - System.currentTimeMillis() > aheadMillis;
+    }
+
+    // Last cached copy (flagged stale on the response), or the error if there is none
+    private String staleOr(FirestoreCacheService.CacheEntry stale, String errorJson) {
+        if (stale == null) return errorJson;
+        RequestDeadline.markStale(stale.getExpiresAt());
+        return stale.getBody();
+    }
+
+    /**
+     * The request deadline passed while waiting for {@link #pending()}.
+     */
+    private static final class DeadlineExceededException extends RuntimeException {
+
+        private final transient CompletableFuture<ResponseEntity<String>> pending;
+
+        private DeadlineExceededException(CompletableFuture<ResponseEntity<String>> pending) {
+            super("Request deadline exceeded", null, false, false);
+            this.pending = pending;
+        }
+
+        private CompletableFuture<ResponseEntity<String>> pending() {
+            return pending;
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof InterruptedException) Thread.currentThread().interrupt();
+        return (cause instanceof RuntimeException r) ? r : new IllegalStateException(cause);
+    }
+
+    private void publishStored(String url, String body, long expiresAt) {
+        try {
+            eventPublisher.publishEvent(new UpstreamBodyStoredEvent(url, body, expiresAt));
+        } catch (Exception e) {
+            log.warn("⚠️ Upstream body listener failed for {}: {}", url, e.getMessage());
         }
     }
 
@@ -166,13 +475,12 @@ public class RapidApiClient {
         }
     }
 
-    private synchronized void rotateDayIfNeeded() {
-        LocalDate today = LocalDate.now();
-        if (!today.equals(currentDay)) {
-            currentDay = today;
-            dailyCallCount.set(0);
-            log.info("🔄 Daily RapidAPI quota reset for: {}", today);
-        }
+    public int getQuotaUsed() {
+        return quota.used();
+    }
+
+    public int getQuotaRemaining() {
+        return quota.remaining();
     }
 
     private String buildCacheKey(String url) {
@@ -199,6 +507,10 @@ public class RapidApiClient {
         return "{\"error\":true,\"status\":429,\"message\":\"Daily RapidAPI quota exceeded. Try again tomorrow.\"}";
     }
 
+    private String getDeadlineErrorJson() {
+        return "{\"error\":true,\"status\":504,\"message\":\"Upstream did not answer in time and nothing is cached yet.\"}";
+    }
+
     private String getErrorJson(String msg) {
         msg = (msg == null) ? "Unknown error" : msg.replace("\"", "\\\"");
         return String.format("{\"error\":true,\"status\":500,\"message\":\"%s\"}", msg);
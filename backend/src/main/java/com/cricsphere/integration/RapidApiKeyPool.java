@@ -0,0 +1,307 @@
+package com.cricsphere.integration;
+
+import com.cricsphere.quota.CallQuota;
+import com.cricsphere.quota.QuotaLedger;
+import com.cricsphere.quota.QuotaStore;
+import com.cricsphere.quota.SharedQuotaLedger;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pool of RapidAPI credentials, exposed as one combined {@link CallQuota}.
+ *
+ * - Every key has its own shared quota ledger (leases per key, see
+ *   {@link SharedQuotaLedger}) and its own health state
+ * - Reservations go to the healthy key with the most calls left (least used first)
+ * - 429: the key is exhausted until the provider reset
+ * - 403: the key is benched for a while (revoked / unsubscribed), then retried
+ *
+ * Reservation tokens carry the key: {@code epoch * MAX_KEYS + keyIndex}.
+ *
+ * Keys come from {@code rapidapi.keys} (comma separated), falling back to {@code rapidapi.key}.
+ */
+@Slf4j
+@Component
+public class RapidApiKeyPool implements CallQuota {
+
+    static final int MAX_KEYS = 64;
+
+    private final List<KeySlot> slots;
+    private final Clock clock;
+    private final long benchMillis;
+
+    @Autowired
+    public RapidApiKeyPool(@Value("${rapidapi.keys:${rapidapi.key}}") String keys,
+                           QuotaStore store,
+                           MeterRegistry meterRegistry,
+                           @Value("${rapidapi.quota.daily-limit:100}") int dailyLimit,
+                           @Value("${rapidapi.quota.lease-block:10}") int blockSize,
+                           @Value("${rapidapi.quota.lease-ttl-millis:120000}") long leaseTtlMillis,
+                           @Value("${rapidapi.quota.reset-zone:UTC}") String resetZone,
+                           @Value("${rapidapi.keys.bench-millis:3600000}") long benchMillis) {
+        this(Arrays.asList(keys.split(",")), store, dailyLimit, blockSize, leaseTtlMillis,
+                ZoneId.of(resetZone), Clock.systemUTC(), defaultNodeId(), benchMillis);
+
+        for (KeySlot slot : slots) {
+            Gauge.builder("rapidapi.key.used", slot.ledger, CallQuota::used)
+                    .tag("key", slot.id)
+                    .register(meterRegistry);
+            Gauge.builder("rapidapi.key.healthy", slot, s -> s.isHealthy(clock.millis()) ? 1 : 0)
+                    .tag("key", slot.id)
+                    .register(meterRegistry);
+        }
+    }
+
+    RapidApiKeyPool(List<String> keys, QuotaStore store, int dailyLimit, int blockSize,
+                    long leaseTtlMillis, ZoneId resetZone, Clock clock, String nodeId, long benchMillis) {
+        this.clock = clock;
+        this.benchMillis = benchMillis;
+
+        List<KeySlot> list = new ArrayList<>();
+        for (String raw : keys) {
+            String secret = raw.trim();
+            if (secret.isEmpty() || list.stream().anyMatch(s -> s.secret.equals(secret))) continue;
+            if (list.size() == MAX_KEYS) break;
+
+            String id = fingerprint(secret);
+            SharedQuotaLedger ledger = new SharedQuotaLedger(store, "rapidapi-" + id, dailyLimit, blockSize,
+                    leaseTtlMillis, resetZone, clock, nodeId);
+            list.add(new KeySlot(list.size(), id, secret, ledger));
+        }
+        if (list.isEmpty()) throw new IllegalStateException("No RapidAPI key configured");
+
+        this.slots = List.copyOf(list);
+        log.info("🔑 RapidAPI key pool | keys={}", slots.size());
+    }
+
+    /* =========================================================
+        Key selection
+    ========================================================= */
+    @Override
+    public long tryReserve() {
+        long now = clock.millis();
+        boolean[] tried = new boolean[slots.size()];
+
+        // Least used first; a key that refuses is skipped for the next pick
+        for (int attempt = 0; attempt < slots.size(); attempt++) {
+            KeySlot best = null;
+            int bestRemaining = 0;
+            for (KeySlot slot : slots) {
+                if (tried[slot.index] || !slot.isHealthy(now)) continue;
+                int remaining = slot.ledger.remaining();
+                if (remaining > bestRemaining) {
+                    best = slot;
+                    bestRemaining = remaining;
+                }
+            }
+            if (best == null) return QuotaLedger.REFUSED;
+
+            tried[best.index] = true;
+            long epoch = best.ledger.tryReserve();
+            if (epoch != QuotaLedger.REFUSED) return epoch * MAX_KEYS + best.index;
+        }
+        return QuotaLedger.REFUSED;
+    }
+
+    /**
+     * Secret of the key a reservation was made on.
+     */
+    public String secretFor(long reservation) {
+        return slotOf(reservation).secret;
+    }
+
+    /**
+     * Short, non-secret key id for logs.
+     */
+    public String keyIdFor(long reservation) {
+        return slotOf(reservation).id;
+    }
+
+    @Override
+    public void release(long reservation) {
+        if (reservation == QuotaLedger.REFUSED) return;
+        slotOf(reservation).ledger.release(epochOf(reservation));
+    }
+
+    /**
+     * Provider answered 429 for this key: no more calls on it until the reset.
+     */
+    public void markRateLimited(long reservation) {
+        KeySlot slot = slotOf(reservation);
+        slot.ledger.exhaust();
+        log.warn("🔑 RapidAPI key {} rate limited, out of rotation until reset", slot.id);
+    }
+
+    /**
+     * Provider answered 403 for this key: bench it. The call is not counted,
+     * the caller releases the reservation (with its quota class).
+     */
+    public void markForbidden(long reservation) {
+        KeySlot slot = slotOf(reservation);
+        slot.benchedUntil = clock.millis() + benchMillis;
+        log.warn("🔑 RapidAPI key {} forbidden, benched for {} min", slot.id, benchMillis / 60_000);
+    }
+
+    /* =========================================================
+        CallQuota (combined view)
+    ========================================================= */
+    @Override
+    public void exhaust() {
+        for (KeySlot slot : slots) slot.ledger.exhaust();
+    }
+
+    @Override
+    public int used() {
+        int used = 0;
+        for (KeySlot slot : slots) used += slot.ledger.used();
+        return used;
+    }
+
+    /**
+     * Calls left on healthy keys.
+     */
+    @Override
+    public int remaining() {
+        long now = clock.millis();
+        int remaining = 0;
+        for (KeySlot slot : slots) {
+            if (slot.isHealthy(now)) remaining += slot.ledger.remaining();
+        }
+        return remaining;
+    }
+
+    /**
+     * Combined daily limit of healthy keys.
+     */
+    @Override
+    public int limit() {
+        long now = clock.millis();
+        int limit = 0;
+        for (KeySlot slot : slots) {
+            if (slot.isHealthy(now)) limit += slot.ledger.limit();
+        }
+        return limit;
+    }
+
+    /**
+     * Calls spent cluster-wide on healthy keys (same keys as {@link #limit()}).
+     */
+    @Override
+    public int spentEverywhere() {
+        long now = clock.millis();
+        int spent = 0;
+        for (KeySlot slot : slots) {
+            if (slot.isHealthy(now)) spent += slot.ledger.spentEverywhere();
+        }
+        return spent;
+    }
+
+    /**
+     * Per-key shares, weighted by each healthy key's limit.
+     */
+    @Override
+    public double localShare() {
+        long now = clock.millis();
+        double weighted = 0;
+        int limit = 0;
+        for (KeySlot slot : slots) {
+            if (!slot.isHealthy(now)) continue;
+            weighted += slot.ledger.localShare() * slot.ledger.limit();
+            limit += slot.ledger.limit();
+        }
+        return (limit > 0) ? weighted / limit : 1.0;
+    }
+
+    @Override
+    public long millisUntilReset() {
+        return slots.get(0).ledger.millisUntilReset();
+    }
+
+    @Override
+    public long currentEpoch() {
+        return slots.get(0).ledger.currentEpoch();
+    }
+
+    @Override
+    public long epochOf(long reservation) {
+        return reservation / MAX_KEYS;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    /* =========================================================
+        Lease lifecycle (per key)
+    ========================================================= */
+    @Scheduled(fixedDelayString = "${rapidapi.quota.heartbeat-millis:30000}")
+    public void heartbeat() {
+        for (KeySlot slot : slots) slot.ledger.heartbeat();
+    }
+
+    @PreDestroy
+    public void returnLeases() {
+        for (KeySlot slot : slots) slot.ledger.returnLease();
+    }
+
+    private KeySlot slotOf(long reservation) {
+        return slots.get((int) (reservation % MAX_KEYS));
+    }
+
+    // Stable across instances, doesn't reveal the key
+    private static String fingerprint(String secret) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 6; i++) sb.append(String.format("%02x", hash[i]));
+            return sb.toString();
+        } catch (Exception e) {
+            return Integer.toHexString(secret.hashCode());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static final class KeySlot {
+        private final int index;
+        private final String id;
+        private final String secret;
+        private final SharedQuotaLedger ledger;
+        private volatile long benchedUntil;
+
+        private KeySlot(int index, String id, String secret, SharedQuotaLedger ledger) {
+            this.index = index;
+            this.id = id;
+            this.secret = secret;
+            this.ledger = ledger;
+        }
+
+        private boolean isHealthy(long now) {
+            return now >= benchedUntil;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.cricsphere.integration;
+
+/**
+ * Published by {@link RapidApiClient} whenever a fresh upstream body
+ * has been fetched and written to the persistent cache.
+ * Listeners use it to rebuild derived in-memory views exactly once per refresh.
+ *
+ * @param expiresAt when the stored copy expires (epoch millis)
+ */
+public record UpstreamBodyStoredEvent(String url, String body, long expiresAt) {
+
+    public boolean isFor(String pathSuffix) {
+        return url != null && url.endsWith(pathSuffix);
+    }
+}
@@ -0,0 +1,64 @@
+package com.cricsphere.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link Bulkhead} per {@link EndpointClass}.
+ *
+ * Sizes are per class under {@code rapidapi.bulkhead.<class>.}
+ * {@code max-concurrent}, {@code queue-capacity}, {@code queue-timeout-millis}
+ * (class = live, match-center, teams-players, news, reference).
+ */
+@Slf4j
+@Component
+public class UpstreamBulkheads {
+
+    private final Map<EndpointClass, Bulkhead> bulkheads = new EnumMap<>(EndpointClass.class);
+
+    public UpstreamBulkheads(Environment environment, MeterRegistry meterRegistry) {
+        for (EndpointClass c : EndpointClass.values()) {
+            Sizing d = defaults(c);
+            String prefix = "rapidapi.bulkhead." + c.key() + ".";
+            int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class, d.maxConcurrent());
+            int queueCapacity = environment.getProperty(prefix + "queue-capacity", Integer.class, d.queueCapacity());
+            long queueTimeout = environment.getProperty(prefix + "queue-timeout-millis", Long.class, d.queueTimeoutMillis());
+
+            bulkheads.put(c, new Bulkhead(c.key(), maxConcurrent, queueCapacity, queueTimeout, meterRegistry));
+            log.info("🚧 Bulkhead {} | concurrent={} | queue={} | wait={}ms", c.key(), maxConcurrent, queueCapacity, queueTimeout);
+        }
+    }
+
+    public Bulkhead of(String url) {
+        return bulkheads.get(EndpointClass.of(url));
+    }
+
+    public Bulkhead get(EndpointClass endpointClass) {
+        return bulkheads.get(endpointClass);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkheads.values().forEach(Bulkhead::shutdown);
+    }
+
+    // Live gets the most room and the shortest wait: stale is better than late there
+    private static Sizing defaults(EndpointClass c) {
+        return switch (c) {
+            case LIVE -> new Sizing(8, 16, 500);
+            case MATCH_CENTER -> new Sizing(8, 16, 1_000);
+            case TEAMS_PLAYERS -> new Sizing(4, 8, 1_000);
+            case NEWS -> new Sizing(2, 4, 1_000);
+            case REFERENCE -> new Sizing(2, 4, 2_000);
+        };
+    }
+
+    private record Sizing(int maxConcurrent, int queueCapacity, long queueTimeoutMillis) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.cricsphere.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-host view of upstream health:
+ * - a {@link CircuitBreaker} (slow calls count as failures)
+ * - a latency timer with p50/p95/p99 published as metrics
+ * - the hedge delay for idempotent GETs, derived from the host's p95
+ *
+ * Metrics: {@code rapidapi.request.latency{host}}, {@code rapidapi.breaker.state{host}}
+ * (0 closed, 1 half-open, 2 open), {@code rapidapi.hedge.sent{host}}, {@code rapidapi.hedge.won{host}}.
+ */
+@Slf4j
+@Component
+public class UpstreamHealth {
+
+    private static final long HEDGE_DELAY_REFRESH_MILLIS = 1_000L;
+
+    private final Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UpstreamHealth(MeterRegistry meterRegistry,
+                          @Value("${rapidapi.breaker.window-size:20}") int windowSize,
+                          @Value("${rapidapi.breaker.min-calls:10}") int minCalls,
+                          @Value("${rapidapi.breaker.failure-rate:0.5}") double failureRate,
+                          @Value("${rapidapi.breaker.open-millis:30000}") long openMillis,
+                          @Value("${rapidapi.breaker.slow-call-millis:5000}") long slowCallMillis,
+                          @Value("${rapidapi.hedge.enabled:false}") boolean hedgeEnabled,
+                          @Value("${rapidapi.hedge.min-samples:20}") int hedgeMinSamples,
+                          @Value("${rapidapi.hedge.min-delay-millis:50}") long hedgeMinDelayMillis,
+                          @Value("${rapidapi.hedge.max-delay-millis:3000}") long hedgeMaxDelayMillis) {
+        this(new Settings(windowSize, minCalls, failureRate, openMillis, slowCallMillis,
+                        hedgeEnabled, hedgeMinSamples, hedgeMinDelayMillis, hedgeMaxDelayMillis),
+                meterRegistry, System::currentTimeMillis);
+    }
+
+    UpstreamHealth(Settings settings, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    public CircuitBreaker breaker(String host) {
+        return host(host).breaker;
+    }
+
+    /**
+     * Records one finished upstream attempt.
+     *
+     * @param failed   transport error or 5xx (4xx means the host is answering)
+     * @param admitted the call was let through by the host's breaker; only
+     *                 those report to it (latency is recorded for every call)
+     */
+    public void record(String host, long elapsedNanos, boolean failed, boolean admitted) {
+        Host h = host(host);
+        h.latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        boolean slow = TimeUnit.NANOSECONDS.toMillis(elapsedNanos) > settings.slowCallMillis();
+        if (slow && !failed) log.warn("🐢 Slow RapidAPI call | host={} | {} ms", host, elapsedNanos / 1_000_000);
+        if (admitted) h.breaker.onResult(failed || slow);
+    }
+
+    /**
+     * Delay after which a second request should be sent, or -1 if hedging is
+     * off or the host has too few samples for a meaningful p95.
+     */
+    public long hedgeDelayMillis(String host) {
+        if (!settings.hedgeEnabled()) return -1;
+
+        Host h = host(host);
+        long now = clock.getAsLong();
+        if (now - h.hedgeDelayAt < HEDGE_DELAY_REFRESH_MILLIS) return h.hedgeDelay;
+
+        // Snapshots copy the histogram: recompute at most once a second
+        HistogramSnapshot snapshot = h.latency.takeSnapshot();
+        long delay = -1;
+        if (snapshot.count() >= settings.hedgeMinSamples()) {
+            for (ValueAtPercentile p : snapshot.percentileValues()) {
+                if (p.percentile() == 0.95) {
+                    long p95 = (long) p.value(TimeUnit.MILLISECONDS);
+                    delay = Math.max(settings.hedgeMinDelayMillis(), Math.min(settings.hedgeMaxDelayMillis(), p95));
+                }
+            }
+        }
+        h.hedgeDelay = delay;
+        h.hedgeDelayAt = now;
+        return delay;
+    }
+
+    public void hedgeSent(String host) {
+        host(host).hedgeSent.increment();
+    }
+
+    public void hedgeWon(String host) {
+        host(host).hedgeWon.increment();
+    }
+
+    private Host host(String host) {
+        String name = (host == null || host.isBlank()) ? "unknown" : host;
+        return hosts.computeIfAbsent(name, this::register);
+    }
+
+    private Host register(String name) {
+        CircuitBreaker breaker = new CircuitBreaker(settings.windowSize(), settings.minCalls(),
+                settings.failureRate(), settings.openMillis(), clock);
+
+        Gauge.builder("rapidapi.breaker.state", breaker, b -> b.state().ordinal())
+                .tag("host", name)
+                .description("0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+
+        Timer latency = Timer.builder("rapidapi.request.latency")
+                .tag("host", name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        Counter sent = Counter.builder("rapidapi.hedge.sent").tag("host", name).register(meterRegistry);
+        Counter won = Counter.builder("rapidapi.hedge.won").tag("host", name).register(meterRegistry);
+
+        return new Host(breaker, latency, sent, won);
+    }
+
+    record Settings(int windowSize, int minCalls, double failureRate, long openMillis, long slowCallMillis,
+                    boolean hedgeEnabled, int hedgeMinSamples, long hedgeMinDelayMillis, long hedgeMaxDelayMillis) {
+    }
+
+    private static final class Host {
+        private final CircuitBreaker breaker;
+        private final Timer latency;
+        private final Counter hedgeSent;
+        private final Counter hedgeWon;
+
+        private volatile long hedgeDelay = -1;
+        private volatile long hedgeDelayAt = Long.MIN_VALUE / 2;
+
+        private Host(CircuitBreaker breaker, Timer latency, Counter hedgeSent, Counter hedgeWon) {
+            this.breaker = breaker;
+            this.latency = latency;
+            this.hedgeSent = hedgeSent;
+            this.hedgeWon = hedgeWon;
+        }
+    }
+}
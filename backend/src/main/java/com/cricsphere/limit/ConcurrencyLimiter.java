@@ -0,0 +1,76 @@
+package com.cricsphere.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control on top of a {@link VegasLimit}.
+ *
+ * - CRITICAL requests are always admitted (and still counted)
+ * - NORMAL requests are admitted while in-flight < limit
+ * - LOW requests only while in-flight < limit * lowPriorityShare,
+ *   so they are shed before anything else
+ *
+ * Every admitted request must be finished with {@link Permit#release()},
+ * which feeds its latency back into the limit.
+ */
+public final class ConcurrencyLimiter {
+
+    private final VegasLimit limit;
+    private final double lowPriorityShare;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    public ConcurrencyLimiter(VegasLimit limit, double lowPriorityShare) {
+        this.limit = limit;
+        this.lowPriorityShare = lowPriorityShare;
+    }
+
+    /**
+     * @return a permit, or null if the request should be shed
+     */
+    public Permit tryAcquire(RequestPriority priority) {
+        while (true) {
+            int current = inflight.get();
+            if (current >= capacity(priority)) return null;
+            if (inflight.compareAndSet(current, current + 1)) return new Permit(System.nanoTime());
+        }
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    public int limit() {
+        return limit.limit();
+    }
+
+    private int capacity(RequestPriority priority) {
+        int current = limit.limit();
+        return switch (priority) {
+            case CRITICAL -> Integer.MAX_VALUE;
+            case NORMAL -> current;
+            case LOW -> Math.max(1, (int) (current * lowPriorityShare));
+        };
+    }
+
+    public final class Permit {
+
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Request finished: frees the slot and records its latency. Idempotent.
+         */
+        public void release() {
+            if (released) return;
+            released = true;
+
+            int current = inflight.getAndDecrement();
+            long now = System.nanoTime();
+            limit.update(now - startNanos, current, now);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.cricsphere.limit;
+
+/**
+ * Admission priority of an API request, highest first.
+ */
+public enum RequestPriority {
+
+    /** Live scores: always admitted */
+    CRITICAL,
+
+    /** Everything without a reason to be shed early */
+    NORMAL,
+
+    /** Search, news, reference lookups: shed first */
+    LOW
+}
@@ -0,0 +1,104 @@
+package com.cricsphere.limit;
+
+/**
+ * Vegas-style concurrency limit estimate.
+ *
+ * Finished requests are grouped into sample windows (at least {@code limit}
+ * requests, or one second). Per window:
+ * - rtt      = average latency of the window
+ * - noLoad   = lowest window rtt seen (re-probed every {@code baselineWindows} windows)
+ * - queue    = limit * (1 - noLoad / rtt), the requests estimated to be waiting
+ *
+ * Few waiting  -> grow (fast while queue <= log10(limit), slowly below 3 * log10(limit))
+ * Many waiting -> shrink by log10(limit) per window above 6 * log10(limit)
+ *
+ * Window averages (not single requests) make the baseline work with the mixed
+ * latencies of cache hits and upstream misses. Windows where less than half
+ * the limit was in use don't move it.
+ */
+public final class VegasLimit {
+
+    private static final long MAX_WINDOW_NANOS = 1_000_000_000L;
+    private static final int MIN_WINDOW_SAMPLES = 16;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int baselineWindows;
+
+    /* Guarded by this */
+    private double estimate;
+    private double noLoadRtt;
+    private int windowsSinceBaseline;
+    private long windowStart;
+    private int windowCount;
+    private long windowRttSum;
+    private int windowMaxInflight;
+
+    /* Lock-free read for admission */
+    private volatile int limit;
+
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit, int baselineWindows) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.baselineWindows = Math.max(1, baselineWindows);
+        this.estimate = clamp(initialLimit);
+        this.limit = (int) estimate;
+    }
+
+    /**
+     * Feeds one finished request.
+     *
+     * @param inflight requests in flight when it finished (including itself)
+     * @return the current limit
+     */
+    public synchronized int update(long rttNanos, int inflight, long nowNanos) {
+        if (rttNanos <= 0) return limit;
+
+        if (windowCount == 0) windowStart = nowNanos;
+        windowCount++;
+        windowRttSum += rttNanos;
+        windowMaxInflight = Math.max(windowMaxInflight, inflight);
+
+        if (windowCount < Math.max(MIN_WINDOW_SAMPLES, limit) && nowNanos - windowStart < MAX_WINDOW_NANOS) {
+            return limit;
+        }
+
+        double rtt = (double) windowRttSum / windowCount;
+        int maxInflight = windowMaxInflight;
+        windowCount = 0;
+        windowRttSum = 0;
+        windowMaxInflight = 0;
+
+        // Baseline: lowest window so far, re-probed now and then so it can rise again
+        if (noLoadRtt == 0 || rtt < noLoadRtt || ++windowsSinceBaseline >= baselineWindows) {
+            noLoadRtt = rtt;
+            windowsSinceBaseline = 0;
+        }
+
+        // App-limited: no evidence either way
+        if (maxInflight * 2 < estimate) return limit;
+
+        double log = Math.max(1.0, Math.log10(estimate));
+        double queue = Math.ceil(estimate * (1 - noLoadRtt / rtt));
+
+        if (queue <= log) estimate += 6 * log;
+        else if (queue < 3 * log) estimate += log;
+        else if (queue > 6 * log) estimate -= log;
+
+        estimate = clamp(estimate);
+        limit = (int) estimate;
+        return limit;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public synchronized long noLoadRttNanos() {
+        return (long) noLoadRtt;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
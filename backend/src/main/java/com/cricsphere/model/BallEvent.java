@@ -0,0 +1,29 @@
+package com.cricsphere.model;
+
+/**
+ * One delivery from Cricbuzz commentary, as kept in the ball-by-ball log.
+ *
+ * @param ballId    innings and ball number packed together: unique per match
+ *                  and increasing in delivery order (see {@link #idOf})
+ * @param seq       position in the match's log (0-based, assigned on append)
+ * @param timestamp when Cricbuzz published the ball (epoch millis)
+ */
+public record BallEvent(
+        long ballId,
+        long seq,
+        int inningsId,
+        int ballNbr,
+        double overNumber,
+        String event,
+        String text,
+        long timestamp
+) {
+
+    public static long idOf(int inningsId, int ballNbr) {
+        return ((long) inningsId << 32) | (ballNbr & 0xFFFFFFFFL);
+    }
+
+    public BallEvent withSeq(long seq) {
+        return new BallEvent(ballId, seq, inningsId, ballNbr, overNumber, event, text, timestamp);
+    }
+}
@@ -0,0 +1,24 @@
+package com.cricsphere.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Metadata block returned by every CricAPI list endpoint.
+ * Must stay pure.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CricApiInfo {
+    private Integer hitsToday;
+    private Integer hitsUsed;
+    private Integer hitsLimit;
+    private Integer offsetRows;
+    private Integer totalRows;
+}
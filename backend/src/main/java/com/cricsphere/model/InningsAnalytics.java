@@ -0,0 +1,19 @@
+package com.cricsphere.model;
+
+/**
+ * Derived figures for one innings, as of its last completed over.
+ * Rates are runs per over; nullable fields don't apply (no target, unlimited overs...).
+ */
+public record InningsAnalytics(
+        int inningsId,
+        String battingTeam,
+        int runs,
+        int wickets,
+        int overs,
+        double runRate,
+        Double recentRunRate,
+        Integer target,
+        Double requiredRate,
+        Integer projectedTotal
+) {
+}
@@ -0,0 +1,7 @@
+package com.cricsphere.model;
+
+/**
+ * Compact, immutable innings score (primitive fields only).
+ */
+public record InningsScore(int runs, int wickets, double overs) {
+}
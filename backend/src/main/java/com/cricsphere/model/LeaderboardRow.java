@@ -0,0 +1,24 @@
+package com.cricsphere.model;
+
+/**
+ * One player's running totals across a series.
+ *
+ * @param innings  innings batted
+ * @param economy  runs conceded per over, null if the player hasn't bowled
+ */
+public record LeaderboardRow(
+        long playerId,
+        String name,
+        int matches,
+        int innings,
+        int runs,
+        int balls,
+        int fours,
+        int sixes,
+        Double strikeRate,
+        int wickets,
+        int ballsBowled,
+        int runsConceded,
+        Double economy
+) {
+}
@@ -0,0 +1,22 @@
+package com.cricsphere.model;
+
+import java.util.List;
+
+/**
+ * Live analytics of one match, updated incrementally as overs complete.
+ *
+ * @param scheduledOvers      overs per innings, null for unlimited-overs formats
+ * @param winProbability      chance the team batting in the latest innings wins,
+ *                            null when the format has no overs limit
+ * @param lastUpdated         when the last new over was folded in (epoch millis)
+ */
+public record MatchAnalytics(
+        long matchId,
+        String matchFormat,
+        Integer scheduledOvers,
+        List<InningsAnalytics> innings,
+        String battingTeam,
+        Double winProbability,
+        long lastUpdated
+) {
+}
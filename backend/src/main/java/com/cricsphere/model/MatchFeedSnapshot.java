@@ -0,0 +1,20 @@
+package com.cricsphere.model;
+
+import java.util.List;
+
+/**
+ * Immutable parsed snapshot of one Cricbuzz match feed (live / recent / upcoming).
+ * {@code sourceHash} and {@code sourceLength} identify the raw body it was parsed from.
+ */
+public record MatchFeedSnapshot(
+        String feed,
+        List<MatchSummary> matches,
+        long parsedAt,
+        int sourceHash,
+        int sourceLength
+) {
+
+    public boolean isFrom(String body) {
+        return body != null && body.length() == sourceLength && body.hashCode() == sourceHash;
+    }
+}
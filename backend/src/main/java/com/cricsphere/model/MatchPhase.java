@@ -0,0 +1,22 @@
+package com.cricsphere.model;
+
+/**
+ * Coarse match phase derived from Cricbuzz's free-text "state".
+ */
+public enum MatchPhase {
+    SCHEDULED,
+    IN_PLAY,
+    BREAK,
+    COMPLETE,
+    UNKNOWN;
+
+    /**
+     * Maps Cricbuzz states ("Preview", "In Progress", "Innings Break", "Stumps",
+     * "Rain", "Complete", "Abandon", ...) to a phase, using the same keywords
+     * as {@link MatchState#classify}.
+     */
+    public static MatchPhase fromState(String state) {
+        MatchState classified = MatchState.classify(state, null);
+        return (classified == null) ? UNKNOWN : classified.phase();
+    }
+}
@@ -0,0 +1,14 @@
+package com.cricsphere.model;
+
+/**
+ * Per-match Cricbuzz match-center resources that are kept warm while a
+ * match is on and archived once it is over (URLs are owned by {@code CricketService}).
+ */
+public enum MatchResource {
+    OVERVIEW,
+    SCORECARD,
+    COMMENTARY,
+    OVERS,
+    SQUADS,
+    HIGHLIGHTS
+}
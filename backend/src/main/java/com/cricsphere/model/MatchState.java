@@ -0,0 +1,92 @@
+package com.cricsphere.model;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Lifecycle of one match, finer than {@link MatchPhase}: it tells apart a
+ * scheduled interruption from weather, because they warrant different polling.
+ *
+ * Each state carries how often its resources are worth refreshing and which
+ * ones. A completed match only needs one final scorecard (then it's frozen).
+ */
+public enum MatchState {
+    SCHEDULED(30 * 60 * 1000L, List.of(MatchResource.OVERVIEW)),
+    IN_PLAY(15 * 1000L, List.of(MatchResource.SCORECARD, MatchResource.COMMENTARY, MatchResource.OVERVIEW)),
+    INNINGS_BREAK(2 * 60 * 1000L, List.of(MatchResource.SCORECARD, MatchResource.OVERVIEW)),
+    RAIN_DELAY(5 * 60 * 1000L, List.of(MatchResource.OVERVIEW)),
+    COMPLETE(60 * 1000L, List.of(MatchResource.SCORECARD));
+
+    private final long cadenceMillis;
+    private final List<MatchResource> resources;
+
+    MatchState(long cadenceMillis, List<MatchResource> resources) {
+        this.cadenceMillis = cadenceMillis;
+        this.resources = resources;
+    }
+
+    /**
+     * Minimum gap between two refreshes of the same resource.
+     * For COMPLETE: between attempts at the one final scorecard.
+     */
+    public long cadenceMillis() {
+        return cadenceMillis;
+    }
+
+    public List<MatchResource> resources() {
+        return resources;
+    }
+
+    /**
+     * Matches never go back to SCHEDULED once started, and COMPLETE is final.
+     * Anything else (in play <-> break <-> rain) is allowed.
+     */
+    public boolean canMoveTo(MatchState next) {
+        if (next == null || next == this) return false;
+        if (this == COMPLETE) return false;
+        return next != SCHEDULED;
+    }
+
+    /**
+     * The coarse phase this state belongs to (both interruptions are a break).
+     */
+    public MatchPhase phase() {
+        return switch (this) {
+            case SCHEDULED -> MatchPhase.SCHEDULED;
+            case IN_PLAY -> MatchPhase.IN_PLAY;
+            case INNINGS_BREAK, RAIN_DELAY -> MatchPhase.BREAK;
+            case COMPLETE -> MatchPhase.COMPLETE;
+        };
+    }
+
+    /**
+     * Classifies Cricbuzz's "state" / "status" texts, or null when they say
+     * nothing recognisable (callers keep the previous state).
+     * Rain is often only mentioned in the status of an "In Progress" match, but
+     * a status also mentions it while play goes on ("target revised due to
+     * rain"), so only phrases that say play has stopped count there.
+     */
+    public static MatchState classify(String state, String status) {
+        String s = normalize(state);
+
+        if (s.contains("complete") || s.contains("abandon") || s.contains("no result")
+                || s.contains("cancel") || s.equals("result")) return COMPLETE;
+        if (s.contains("rain") || s.contains("wet") || s.contains("light") || s.contains("delay")
+                || stopsPlay(normalize(status))) return RAIN_DELAY;
+        if (s.contains("break") || s.contains("stumps") || s.contains("lunch") || s.contains("tea")
+                || s.contains("drink") || s.contains("dinner")) return INNINGS_BREAK;
+        if (s.contains("progress") || s.equals("live") || s.equals("toss")) return IN_PLAY;
+        if (s.contains("preview") || s.contains("upcoming") || s.contains("scheduled")) return SCHEDULED;
+        return null;
+    }
+
+    // "Rain stops play", "Play delayed due to wet outfield", "Bad light stopped play", ...
+    private static boolean stopsPlay(String status) {
+        return status.contains("stops play") || status.contains("stopped play") || status.contains("play delayed") || status.contains("start delayed")
+                || status.contains("delayed due to") || status.contains("wet outfield") || status.contains("bad light");
+    }
+
+    private static String normalize(String text) {
+        return (text == null) ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,22 @@
+package com.cricsphere.model;
+
+/**
+ * Compact, immutable view of one match from the Cricbuzz live/recent/upcoming feeds.
+ * Built once per upstream refresh, never re-parsed per request.
+ */
+public record MatchSummary(
+        long matchId,
+        long seriesId,
+        String seriesName,
+        String matchDesc,
+        String matchFormat,
+        String state,
+        String status,
+        long startDate,
+        long endDate,
+        String ground,
+        String city,
+        TeamScore team1,
+        TeamScore team2
+) {
+}
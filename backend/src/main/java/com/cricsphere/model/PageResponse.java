@@ -0,0 +1,10 @@
+package com.cricsphere.model;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated list.
+ * {@code nextCursor} is null on the last page.
+ */
+public record PageResponse<T>(List<T> items, String nextCursor, int limit) {
+}
@@ -0,0 +1,15 @@
+package com.cricsphere.model;
+
+/**
+ * Outcome of the last refresh of one CricAPI reference source.
+ */
+public record RefreshReport(
+        String source,
+        boolean success,
+        long durationMillis,
+        long bytes,
+        int records,
+        String error,
+        long finishedAt
+) {
+}
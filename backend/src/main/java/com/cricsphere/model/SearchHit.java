@@ -0,0 +1,7 @@
+package com.cricsphere.model;
+
+/**
+ * One ranked result of the unified search.
+ */
+public record SearchHit(String type, String id, String title, String subtitle, int score) {
+}
@@ -0,0 +1,9 @@
+package com.cricsphere.model;
+
+import java.util.List;
+
+/**
+ * Paginated unified search response.
+ */
+public record SearchResultPage(String query, int total, int page, int size, List<SearchHit> results) {
+}
@@ -0,0 +1,15 @@
+package com.cricsphere.model;
+
+import java.util.List;
+
+/**
+ * Top run-scorers and wicket-takers of a series, from every scorecard seen so far.
+ */
+public record SeriesLeaderboard(
+        long seriesId,
+        int matches,
+        List<LeaderboardRow> runs,
+        List<LeaderboardRow> wickets,
+        long updatedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.cricsphere.model;
+
+/**
+ * Compact, immutable team line of a match summary.
+ * Team names are interned by the parser, so every snapshot shares them.
+ * {@code second} is only present for multi-innings formats.
+ */
+public record TeamScore(
+        int teamId,
+        String name,
+        String shortName,
+        InningsScore first,
+        InningsScore second
+) {
+}
@@ -0,0 +1,56 @@
+package com.cricsphere.quota;
+
+/**
+ * Upstream call budget for one provider day.
+ * Callers reserve a slot before the request and release it if the request failed.
+ */
+public interface CallQuota {
+
+    /**
+     * @return a reservation token for {@link #release(long)}, or {@link QuotaLedger#REFUSED}
+     */
+    long tryReserve();
+
+    void release(long reservation);
+
+    /**
+     * The provider reported the quota as used up: refuse until the reset.
+     */
+    void exhaust();
+
+    int used();
+
+    int remaining();
+
+    int limit();
+
+    long millisUntilReset();
+
+    /**
+     * Current provider day (same value {@link #tryReserve()} hands out as reservation).
+     */
+    long currentEpoch();
+
+    /**
+     * Calls spent this epoch by every instance sharing the quota, as far as
+     * known (a local quota: just this instance).
+     */
+    default int spentEverywhere() {
+        return used();
+    }
+
+    /**
+     * Fraction of {@link #limit()} this instance plans with: its share of the
+     * calls leased out this epoch (1 when the quota isn't shared).
+     */
+    default double localShare() {
+        return 1.0;
+    }
+
+    /**
+     * Provider day a reservation token belongs to.
+     */
+    default long epochOf(long reservation) {
+        return reservation;
+    }
+}
@@ -0,0 +1,92 @@
+package com.cricsphere.quota;
+
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.Firestore;
+import com.google.firebase.cloud.FirestoreClient;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link QuotaStore} on Firestore (same project as the API cache).
+ * Updates run in a Firestore transaction, which retries the change
+ * function on concurrent writes from other instances.
+ */
+public class FirestoreQuotaStore implements QuotaStore {
+
+    private static final String COLLECTION = "api_quota";
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private Firestore db() {
+        return FirestoreClient.getFirestore();
+    }
+
+    @Override
+    public QuotaState read(String key) {
+        try {
+            DocumentSnapshot doc = db().collection(COLLECTION).document(key).get()
+                    .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return doc.exists() ? decode(doc) : null;
+        } catch (Exception e) {
+            throw new IllegalStateException("Firestore quota read failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public QuotaState update(String key, UnaryOperator<QuotaState> change) {
+        Firestore db = db();
+        DocumentReference ref = db.collection(COLLECTION).document(key);
+        try {
+            return db.runTransaction(tx -> {
+                DocumentSnapshot doc = tx.get(ref).get();
+                QuotaState next = change.apply(doc.exists() ? decode(doc) : null);
+                tx.set(ref, encode(next));
+                return next;
+            }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Firestore quota update failed: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Object> encode(QuotaState state) {
+        Map<String, Object> leases = new HashMap<>();
+        state.leases().forEach((node, lease) -> leases.put(node, Map.of(
+                "granted", lease.granted(),
+                "used", lease.used(),
+                "heartbeatAt", lease.heartbeatAt()
+        )));
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("epoch", state.epoch());
+        data.put("leased", state.leased());
+        data.put("leases", leases);
+        return data;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static QuotaState decode(DocumentSnapshot doc) {
+        Map<String, QuotaState.Lease> leases = new HashMap<>();
+        Object raw = doc.get("leases");
+        if (raw instanceof Map<?, ?> map) {
+            map.forEach((node, value) -> {
+                if (value instanceof Map<?, ?> lease) {
+                    Map<String, Object> l = (Map<String, Object>) lease;
+                    leases.put(String.valueOf(node), new QuotaState.Lease(
+                            intOf(l.get("granted")), intOf(l.get("used")), longOf(l.get("heartbeatAt"))));
+                }
+            });
+        }
+        return new QuotaState(longOf(doc.get("epoch")), intOf(doc.get("leased")), leases);
+    }
+
+    private static long longOf(Object value) {
+        return (value instanceof Number n) ? n.longValue() : 0L;
+    }
+
+    private static int intOf(Object value) {
+        return (int) longOf(value);
+    }
+}
@@ -0,0 +1,24 @@
+package com.cricsphere.quota;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Process-local {@link QuotaStore}: tests, and local runs without Firestore
+ * ({@code rapidapi.quota.store=memory}). Not shared and not persisted.
+ */
+public class InMemoryQuotaStore implements QuotaStore {
+
+    private final Map<String, QuotaState> states = new ConcurrentHashMap<>();
+
+    @Override
+    public QuotaState read(String key) {
+        return states.get(key);
+    }
+
+    @Override
+    public QuotaState update(String key, UnaryOperator<QuotaState> change) {
+        return states.compute(key, (k, current) -> change.apply(current));
+    }
+}
@@ -0,0 +1,61 @@
+package com.cricsphere.quota;
+
+import java.net.URI;
+
+/**
+ * RapidAPI endpoint classes, highest priority first.
+ *
+ * share     = fraction of the daily quota reserved for the class
+ * ttlStretch = max factor its TTLs may be lengthened by when the day's
+ *              quota is predicted to run out (live data stretches least)
+ */
+public enum QuotaClass {
+
+    LIVE(0.45, 2.0),
+    MATCH_INFO(0.25, 3.0),
+    NEWS(0.15, 4.0),
+    REFERENCE(0.15, 4.0);
+
+    private final double share;
+    private final double ttlStretch;
+
+    QuotaClass(double share, double ttlStretch) {
+        this.share = share;
+        this.ttlStretch = ttlStretch;
+    }
+
+    public double share() {
+        return share;
+    }
+
+    public double ttlStretch() {
+        return ttlStretch;
+    }
+
+    /**
+     * Class of a Cricbuzz RapidAPI URL.
+     */
+    public static QuotaClass of(String url) {
+        String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (Exception e) {
+            return REFERENCE;
+        }
+        if (path == null) return REFERENCE;
+
+        if (path.startsWith("/matches/v1/live")) return LIVE;
+        if (path.startsWith("/mcenter/v1/")) {
+            // /mcenter/v1/{id} = overview, /mcenter/v1/{id}/{part} = live parts unless static
+            String[] parts = path.split("/");
+            if (parts.length <= 4) return MATCH_INFO;
+            return switch (parts[4]) {
+                case "teams", "hlights" -> MATCH_INFO;
+                default -> LIVE; // scard, comm, hcomm, overs, leanback, hleanback
+            };
+        }
+        if (path.startsWith("/matches/v1/") || path.startsWith("/home/")) return MATCH_INFO;
+        if (path.startsWith("/news/")) return NEWS;
+        return REFERENCE;
+    }
+}
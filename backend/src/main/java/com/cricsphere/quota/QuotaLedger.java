@@ -0,0 +1,193 @@
+package com.cricsphere.quota;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free daily call quota.
+ *
+ * State is one AtomicLong: [ epoch day (22 bits) | granted (21 bits) | used (21 bits) ].
+ * - {@link #tryReserve()} takes a call slot with a CAS before the upstream request,
+ *   so concurrent callers can never overshoot the granted allowance
+ * - {@link #release(long)} gives the slot back if the request failed
+ * - {@link #grant(long, int)} raises the allowance (leased blocks, see {@link SharedQuotaLedger})
+ * - the epoch is the calendar day in the provider's reset timezone; the first
+ *   operation of a new day swaps in (newEpoch, dailyGrant, 0) within the same CAS
+ *
+ * Reads (cache hits) never touch the ledger.
+ */
+public class QuotaLedger implements CallQuota {
+
+    public static final long REFUSED = -1L;
+
+    static final int MAX_COUNT = (1 << 21) - 1;
+
+    private final int dailyGrant;
+    private final ZoneId resetZone;
+    private final Clock clock;
+
+    private final AtomicLong state = new AtomicLong();
+
+    /* Cached [start, end) millis of the current epoch, recomputed only at rollover */
+    private volatile EpochWindow window;
+
+    /**
+     * @param dailyGrant allowance granted at the start of every epoch
+     *                   (0 = only what {@link #grant(long, int)} hands out)
+     */
+    public QuotaLedger(int dailyGrant, ZoneId resetZone, Clock clock) {
+        this.dailyGrant = Math.min(dailyGrant, MAX_COUNT);
+        this.resetZone = resetZone;
+        this.clock = clock;
+        this.window = windowAt(clock.millis());
+        this.state.set(pack(window.epoch, this.dailyGrant, 0));
+    }
+
+    /**
+     * Reserves one call.
+     *
+     * @return the epoch the slot belongs to (pass it to {@link #release(long)}), or {@link #REFUSED}
+     */
+    @Override
+    public long tryReserve() {
+        long epoch = currentEpoch();
+        while (true) {
+            long current = state.get();
+            long s = rolled(current, epoch);
+            if (s == REFUSED) return REFUSED; // clock went backwards: be conservative
+            if (usedOf(s) >= grantedOf(s)) return REFUSED;
+
+            if (state.compareAndSet(current, s + 1)) return epoch;
+        }
+    }
+
+    /**
+     * Returns a slot taken by {@link #tryReserve()}. No-op once the epoch rolled over.
+     */
+    @Override
+    public void release(long epoch) {
+        if (epoch == REFUSED) return;
+        while (true) {
+            long s = state.get();
+            if (epochBits(s) != epoch || usedOf(s) == 0) return;
+            if (state.compareAndSet(s, s - 1)) return;
+        }
+    }
+
+    /**
+     * Marks the current epoch as used up (e.g. provider answered 429).
+     */
+    @Override
+    public void exhaust() {
+        long epoch = currentEpoch();
+        while (true) {
+            long current = state.get();
+            long s = rolled(current, epoch);
+            if (s == REFUSED) return;
+            if (state.compareAndSet(current, pack(epoch, grantedOf(s), grantedOf(s)))) return;
+        }
+    }
+
+    /**
+     * Adds {@code calls} to the allowance of {@code epoch}. Ignored for a past epoch.
+     */
+    public void grant(long epoch, int calls) {
+        if (calls <= 0) return;
+        while (true) {
+            long current = state.get();
+            long s = rolled(current, epoch);
+            if (s == REFUSED) return;
+
+            int granted = Math.min(MAX_COUNT, grantedOf(s) + calls);
+            if (state.compareAndSet(current, pack(epoch, granted, usedOf(s)))) return;
+        }
+    }
+
+    @Override
+    public int used() {
+        long s = rolled(state.get(), currentEpoch());
+        return (s == REFUSED) ? 0 : usedOf(s);
+    }
+
+    @Override
+    public int remaining() {
+        long s = rolled(state.get(), currentEpoch());
+        return (s == REFUSED) ? 0 : Math.max(0, grantedOf(s) - usedOf(s));
+    }
+
+    /**
+     * Allowance of the current epoch.
+     */
+    @Override
+    public int limit() {
+        long s = rolled(state.get(), currentEpoch());
+        return (s == REFUSED) ? 0 : grantedOf(s);
+    }
+
+    /**
+     * Millis until the quota resets.
+     */
+    @Override
+    public long millisUntilReset() {
+        long now = clock.millis();
+        return Math.max(0, currentWindow(now).endMillis - now);
+    }
+
+    /**
+     * Current epoch day in the reset timezone.
+     */
+    @Override
+    public long currentEpoch() {
+        return currentWindow(clock.millis()).epoch;
+    }
+
+    /*
+     * State as seen from `epoch`: same state, a fresh day, or REFUSED if the
+     * stored epoch is ahead of ours. Pure: the caller CASes it in.
+     */
+    private long rolled(long s, long epoch) {
+        long stored = epochBits(s);
+        if (stored == epoch) return s;
+        if (stored > epoch) return REFUSED;
+        return pack(epoch, dailyGrant, 0);
+    }
+
+    private EpochWindow currentWindow(long now) {
+        EpochWindow w = window;
+        if (now >= w.startMillis && now < w.endMillis) return w;
+
+        // Rollover: racy recompute is fine, every thread computes the same window
+        w = windowAt(now);
+        window = w;
+        return w;
+    }
+
+    private EpochWindow windowAt(long millis) {
+        LocalDate day = Instant.ofEpochMilli(millis).atZone(resetZone).toLocalDate();
+        long start = day.atStartOfDay(resetZone).toInstant().toEpochMilli();
+        long end = day.plusDays(1).atStartOfDay(resetZone).toInstant().toEpochMilli();
+        return new EpochWindow(day.toEpochDay(), start, end);
+    }
+
+    private static long pack(long epoch, int granted, int used) {
+        return (epoch << 42) | ((long) granted << 21) | used;
+    }
+
+    private static long epochBits(long s) {
+        return s >>> 42;
+    }
+
+    private static int grantedOf(long s) {
+        return (int) ((s >>> 21) & MAX_COUNT);
+    }
+
+    private static int usedOf(long s) {
+        return (int) (s & MAX_COUNT);
+    }
+
+    private record EpochWindow(long epoch, long startMillis, long endMillis) {
+    }
+}
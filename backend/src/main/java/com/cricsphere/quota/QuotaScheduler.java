@@ -0,0 +1,204 @@
+package com.cricsphere.quota;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Priority-aware front of the {@link CallQuota}.
+ *
+ * Budgets: every {@link QuotaClass} owns a share of the daily limit.
+ * - usage is counted per instance, so when the quota is shared each
+ *   instance plans with its leased slice ({@link CallQuota#localShare()}):
+ *   class budgets and the remaining calls it may borrow against are scaled
+ *   by it, and the instances' class budgets add up to the shared ones
+ * - within its own share a class is always admitted (while the quota lasts)
+ * - beyond it, a class borrows unused budget, but only as long as the
+ *   unspent share of every higher-priority class stays available
+ * - that protection shrinks with the day (protected = unspent * fraction
+ *   of day left), so budget nobody needed is released towards the reset
+ *
+ * Forecast: the day's cluster-wide burn rate (calls actually spent, not
+ * merely leased) is extrapolated to the reset. If the quota
+ * is predicted to run out, TTLs are lengthened up front (by the predicted
+ * overshoot, capped per class) instead of hitting the wall in the evening.
+ *
+ * Class budgets are soft under races; the global quota stays exact.
+ */
+@Component
+public class QuotaScheduler {
+
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    /* No forecast before an hour of data or a handful of calls */
+    private static final double MIN_ELAPSED_FRACTION = 1.0 / 24;
+    private static final int MIN_CALLS_FOR_FORECAST = 5;
+
+    private static final QuotaClass[] CLASSES = QuotaClass.values();
+
+    private final CallQuota quota;
+    private final AtomicReference<ClassUsage> usage;
+
+    public QuotaScheduler(CallQuota quota, MeterRegistry meterRegistry) {
+        this.quota = quota;
+        this.usage = new AtomicReference<>(new ClassUsage(quota.currentEpoch()));
+
+        for (QuotaClass c : CLASSES) {
+            Gauge.builder("rapidapi.quota.used", this, s -> s.used(c))
+                    .tag("class", c.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("rapidapi.quota.forecast", this, QuotaScheduler::exhaustionFactor)
+                .description("Predicted end-of-day usage / daily limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return reservation for {@link #release(QuotaClass, long)}, or {@link QuotaLedger#REFUSED}
+     */
+    public long tryReserve(QuotaClass quotaClass) {
+        ClassUsage u = usage();
+        double slice = localLimit();
+
+        if (u.used.get(quotaClass.ordinal()) >= budget(quotaClass, slice)) {
+            int needed = protectedFor(quotaClass, u, slice);
+            // Over its own share: borrow only what higher priorities can spare
+            if (localRemaining() - 1 < needed) return QuotaLedger.REFUSED;
+        }
+
+        long reservation = quota.tryReserve();
+        if (reservation != QuotaLedger.REFUSED) u.used.incrementAndGet(quotaClass.ordinal());
+        return reservation;
+    }
+
+    public void release(QuotaClass quotaClass, long reservation) {
+        if (reservation == QuotaLedger.REFUSED) return;
+
+        quota.release(reservation);
+        ClassUsage u = usage.get();
+        if (u.epoch == quota.epochOf(reservation)) u.used.updateAndGet(quotaClass.ordinal(), v -> Math.max(0, v - 1));
+    }
+
+    public void exhaust() {
+        quota.exhaust();
+    }
+
+    /**
+     * TTL to store a fresh body with: lengthened when the day's quota is
+     * predicted to run out, never beyond the class's stretch cap.
+     */
+    public long stretchTtl(QuotaClass quotaClass, long ttlMillis) {
+        double factor = Math.min(quotaClass.ttlStretch(), Math.max(1.0, exhaustionFactor()));
+        return (factor <= 1.0) ? ttlMillis : (long) (ttlMillis * factor);
+    }
+
+    /**
+     * Predicted end-of-day usage divided by the daily limit (1.0 = exactly runs out).
+     * 0 when there isn't enough data yet.
+     */
+    public double exhaustionFactor() {
+        int limit = quota.limit();
+        if (limit <= 0) return 0;
+
+        int spent = quota.spentEverywhere();
+        double elapsed = dayFractionElapsed();
+        if (elapsed < MIN_ELAPSED_FRACTION || spent < MIN_CALLS_FOR_FORECAST) return 0;
+
+        return (spent / elapsed) / limit;
+    }
+
+    /**
+     * Calls a class can plan on for the rest of the day: what's left of the
+     * global quota after every other class's unspent (day-decayed) share.
+     */
+    public int headroom(QuotaClass quotaClass) {
+        ClassUsage u = usage();
+        double slice = localLimit();
+        double dayLeft = 1.0 - dayFractionElapsed();
+
+        double heldByOthers = 0;
+        for (QuotaClass other : CLASSES) {
+            if (other == quotaClass) continue;
+            heldByOthers += Math.max(0, budget(other, slice) - u.used.get(other.ordinal())) * dayLeft;
+        }
+        return Math.max(0, localRemaining() - (int) Math.ceil(heldByOthers));
+    }
+
+    public int used(QuotaClass quotaClass) {
+        return usage().used.get(quotaClass.ordinal());
+    }
+
+    /**
+     * This instance's budget for the class.
+     */
+    public int budget(QuotaClass quotaClass) {
+        return budget(quotaClass, localLimit());
+    }
+
+    public int used() {
+        return quota.used();
+    }
+
+    public long millisUntilReset() {
+        return quota.millisUntilReset();
+    }
+
+    public int remaining() {
+        return quota.remaining();
+    }
+
+    public int limit() {
+        return quota.limit();
+    }
+
+    // Unspent budget of higher-priority classes, decayed by the fraction of day left
+    private int protectedFor(QuotaClass quotaClass, ClassUsage u, double slice) {
+        double dayLeft = 1.0 - dayFractionElapsed();
+        double reserved = 0;
+        for (QuotaClass higher : CLASSES) {
+            if (higher.ordinal() >= quotaClass.ordinal()) break;
+            reserved += Math.max(0, budget(higher, slice) - u.used.get(higher.ordinal())) * dayLeft;
+        }
+        return (int) Math.ceil(reserved);
+    }
+
+    private static int budget(QuotaClass quotaClass, double slice) {
+        return (int) Math.floor(slice * quotaClass.share());
+    }
+
+    // This instance's slice of the (possibly shared) daily limit
+    private double localLimit() {
+        return quota.limit() * quota.localShare();
+    }
+
+    // This instance's slice of what is left: other instances protect their own slices
+    private int localRemaining() {
+        return (int) Math.floor(quota.remaining() * quota.localShare());
+    }
+
+    private double dayFractionElapsed() {
+        double left = (double) quota.millisUntilReset() / DAY_MILLIS;
+        return Math.min(1.0, Math.max(0.0, 1.0 - left));
+    }
+
+    private ClassUsage usage() {
+        long epoch = quota.currentEpoch();
+        while (true) {
+            ClassUsage current = usage.get();
+            if (current.epoch >= epoch) return current;
+            if (usage.compareAndSet(current, new ClassUsage(epoch))) return usage.get();
+        }
+    }
+
+    private static final class ClassUsage {
+        private final long epoch;
+        private final AtomicIntegerArray used = new AtomicIntegerArray(CLASSES.length);
+
+        private ClassUsage(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.cricsphere.quota;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared quota document (one per provider), as stored in {@link QuotaStore}.
+ *
+ * @param epoch  provider day the counters belong to
+ * @param leased calls handed out to nodes this epoch (used or not)
+ * @param leases live node leases by node id
+ */
+public record QuotaState(long epoch, int leased, Map<String, Lease> leases) {
+
+    public static QuotaState empty(long epoch) {
+        return new QuotaState(epoch, 0, Map.of());
+    }
+
+    /**
+     * One node's share of the epoch.
+     *
+     * @param granted     calls leased to the node this epoch
+     * @param used        calls the node reported as spent at its last heartbeat
+     * @param heartbeatAt last time the node touched its lease (epoch millis)
+     */
+    public record Lease(int granted, int used, long heartbeatAt) {
+    }
+
+    /**
+     * Same state seen from {@code epoch}: a new day starts with nothing leased.
+     */
+    public QuotaState rolledTo(long epoch) {
+        return (this.epoch == epoch) ? this : empty(epoch);
+    }
+
+    /**
+     * Drops leases whose node stopped heartbeating and returns their unspent calls to the pool.
+     * Calls a node spent after its last heartbeat are lost (bounded by one lease block).
+     */
+    public QuotaState reclaimExpired(long now, long leaseTtlMillis) {
+        Map<String, Lease> kept = null;
+        int reclaimed = 0;
+
+        for (Map.Entry<String, Lease> e : leases.entrySet()) {
+            Lease lease = e.getValue();
+            if (now - lease.heartbeatAt() <= leaseTtlMillis) continue;
+
+            if (kept == null) kept = new HashMap<>(leases);
+            kept.remove(e.getKey());
+            reclaimed += Math.max(0, lease.granted() - lease.used());
+        }
+
+        return (kept == null) ? this : new QuotaState(epoch, Math.max(0, leased - reclaimed), kept);
+    }
+
+    /**
+     * Node heartbeat: records its spent calls, optionally leasing {@code extra} more.
+     */
+    public QuotaState withLease(String nodeId, int extra, int used, long now) {
+        Lease current = leases.getOrDefault(nodeId, new Lease(0, 0, now));
+        Map<String, Lease> next = new HashMap<>(leases);
+        next.put(nodeId, new Lease(current.granted() + extra, used, now));
+        return new QuotaState(epoch, leased + extra, next);
+    }
+
+    /**
+     * Node leaves: its unspent calls go back to the pool.
+     */
+    public QuotaState withoutLease(String nodeId, int used) {
+        Lease current = leases.get(nodeId);
+        if (current == null) return this;
+
+        Map<String, Lease> next = new HashMap<>(leases);
+        next.remove(nodeId);
+        int unspent = Math.max(0, current.granted() - used);
+        return new QuotaState(epoch, Math.max(0, leased - unspent), next);
+    }
+
+    public QuotaState exhausted(int limit) {
+        return new QuotaState(epoch, Math.max(leased, limit), leases);
+    }
+}
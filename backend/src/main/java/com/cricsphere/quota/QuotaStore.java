@@ -0,0 +1,22 @@
+package com.cricsphere.quota;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Shared storage for {@link QuotaState} documents.
+ * {@link #update} must be atomic across instances (transaction / CAS);
+ * the function may run more than once on contention and must be pure.
+ */
+public interface QuotaStore {
+
+    /**
+     * @return the stored state, or null if none exists yet
+     */
+    QuotaState read(String key);
+
+    /**
+     * Atomically applies {@code change} (which receives null if nothing is stored)
+     * and returns the state that was written.
+     */
+    QuotaState update(String key, UnaryOperator<QuotaState> change);
+}
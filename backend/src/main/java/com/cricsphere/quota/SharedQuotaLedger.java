@@ -0,0 +1,251 @@
+package com.cricsphere.quota;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RapidAPI quota shared by all instances through {@link QuotaStore}.
+ *
+ * - Each node leases blocks of calls from the shared daily pool and spends
+ *   them through a local lock-free {@link QuotaLedger}: the store is touched
+ *   once per block, not once per request
+ * - Nodes heartbeat their lease; a node that stops heartbeating for
+ *   {@code lease-ttl} is considered dead and its unspent calls are reclaimed
+ * - The pool is persisted, so restarts don't reset the day's count
+ * - If the store is unreachable a node may spend one local block per day
+ *
+ * One instance per provider credential; the owner drives {@link #heartbeat()}
+ * and {@link #returnLease()}.
+ */
+@Slf4j
+public class SharedQuotaLedger implements CallQuota {
+
+    private static final long RETRY_AFTER_EMPTY_MILLIS = 60_000L;
+
+    private final QuotaStore store;
+    private final String storeKey;
+    private final Clock clock;
+    private final String nodeId;
+
+    private final int dailyLimit;
+    private final int blockSize;
+    private final long leaseTtlMillis;
+
+    private final QuotaLedger local;
+    private final Object leaseLock = new Object();
+
+    private volatile long nextLeaseAttemptAt;
+    private volatile long fallbackEpoch = QuotaLedger.REFUSED;
+    private volatile QuotaState lastSeen;
+
+    /**
+     * @param storeKey document the pool lives in (one per credential)
+     * @param nodeId   this instance, unique across the deployment
+     */
+    public SharedQuotaLedger(QuotaStore store, String storeKey, int dailyLimit, int blockSize,
+                             long leaseTtlMillis, ZoneId resetZone, Clock clock, String nodeId) {
+        this.store = store;
+        this.storeKey = storeKey;
+        this.dailyLimit = dailyLimit;
+        this.blockSize = Math.max(1, blockSize);
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.clock = clock;
+        this.nodeId = nodeId;
+        this.local = new QuotaLedger(0, resetZone, clock);
+    }
+
+    /* =========================================================
+        CallQuota
+    ========================================================= */
+    @Override
+    public long tryReserve() {
+        long reservation = local.tryReserve();
+        if (reservation != QuotaLedger.REFUSED) return reservation;
+        if (clock.millis() < nextLeaseAttemptAt) return QuotaLedger.REFUSED;
+
+        // Local block spent: one thread leases the next block, the others wait for it
+        synchronized (leaseLock) {
+            reservation = local.tryReserve();
+            if (reservation != QuotaLedger.REFUSED) return reservation;
+            if (clock.millis() < nextLeaseAttemptAt) return QuotaLedger.REFUSED;
+
+            if (leaseBlock(true) == 0) {
+                nextLeaseAttemptAt = clock.millis() + RETRY_AFTER_EMPTY_MILLIS;
+                return QuotaLedger.REFUSED;
+            }
+        }
+        return local.tryReserve();
+    }
+
+    @Override
+    public void release(long reservation) {
+        local.release(reservation);
+    }
+
+    @Override
+    public void exhaust() {
+        local.exhaust();
+        nextLeaseAttemptAt = clock.millis() + RETRY_AFTER_EMPTY_MILLIS;
+
+        long epoch = local.currentEpoch();
+        try {
+            lastSeen = store.update(storeKey, current -> stateFor(current, epoch).exhausted(dailyLimit));
+        } catch (Exception e) {
+            log.warn("⚠️ Could not mark shared quota {} exhausted: {}", storeKey, e.getMessage());
+        }
+    }
+
+    /**
+     * Calls spent by this node in the current epoch.
+     */
+    @Override
+    public int used() {
+        return local.used();
+    }
+
+    /**
+     * This node's unspent lease plus what is still unleased in the shared pool.
+     */
+    @Override
+    public int remaining() {
+        QuotaState seen = lastSeen;
+        int unleased = (seen != null && seen.epoch() == local.currentEpoch())
+                ? Math.max(0, dailyLimit - seen.leased())
+                : dailyLimit;
+        return local.remaining() + unleased;
+    }
+
+    @Override
+    public int limit() {
+        return dailyLimit;
+    }
+
+    /**
+     * This node's live count plus what the other nodes reported at their last heartbeat.
+     */
+    @Override
+    public int spentEverywhere() {
+        QuotaState seen = lastSeen;
+        int spent = local.used();
+        if (seen == null || seen.epoch() != local.currentEpoch()) return spent;
+
+        for (Map.Entry<String, QuotaState.Lease> lease : seen.leases().entrySet()) {
+            if (!lease.getKey().equals(nodeId)) spent += lease.getValue().used();
+        }
+        return spent;
+    }
+
+    /**
+     * Calls leased to this node / calls leased to all nodes (1 before the first lease).
+     */
+    @Override
+    public double localShare() {
+        QuotaState seen = lastSeen;
+        int granted = local.limit();
+        if (seen == null || seen.epoch() != local.currentEpoch() || seen.leased() <= 0 || granted <= 0) return 1.0;
+        return Math.min(1.0, (double) granted / seen.leased());
+    }
+
+    @Override
+    public long millisUntilReset() {
+        return local.millisUntilReset();
+    }
+
+    @Override
+    public long currentEpoch() {
+        return local.currentEpoch();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /* =========================================================
+        Leases
+    ========================================================= */
+    /**
+     * Renews this node's lease so it isn't reclaimed, and tops it up ahead
+     * of time when the local block is running low.
+     */
+    public void heartbeat() {
+        if (local.limit() == 0) return; // no lease this epoch, nothing to renew
+
+        boolean topUp = local.remaining() < Math.max(1, blockSize / 2);
+        synchronized (leaseLock) {
+            leaseBlock(topUp);
+        }
+    }
+
+    /**
+     * Clean shutdown: hand unspent calls back to the pool right away.
+     */
+    public void returnLease() {
+        if (local.limit() == 0) return;
+
+        long epoch = local.currentEpoch();
+        int used = local.used();
+        try {
+            store.update(storeKey, current -> stateFor(current, epoch).withoutLease(nodeId, used));
+            log.info("🎟️ Returned quota lease | pool={} | node={} | used={}", storeKey, nodeId, used);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not return RapidAPI quota lease: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * One store round-trip: reclaims dead leases, records our usage and
+     * (if {@code lease}) takes up to one block. Returns calls granted.
+     */
+    private int leaseBlock(boolean lease) {
+        long epoch = local.currentEpoch();
+        long now = clock.millis();
+        int used = local.used();
+        AtomicInteger granted = new AtomicInteger();
+
+        try {
+            QuotaState written = store.update(storeKey, current -> {
+                QuotaState state = stateFor(current, epoch);
+                if (state.epoch() != epoch) {
+                    granted.set(0);
+                    return state;
+                }
+
+                state = state.reclaimExpired(now, leaseTtlMillis);
+                int extra = lease ? Math.max(0, Math.min(blockSize, dailyLimit - state.leased())) : 0;
+                granted.set(extra);
+                return state.withLease(nodeId, extra, used, now);
+            });
+            lastSeen = written;
+        } catch (Exception e) {
+            return lease ? fallbackBlock(epoch, e) : 0;
+        }
+
+        if (granted.get() > 0) {
+            local.grant(epoch, granted.get());
+            log.info("🎟️ Leased {} calls | pool={} | node={} | pool leased={}/{}",
+                    granted.get(), storeKey, nodeId, lastSeen.leased(), dailyLimit);
+        }
+        return granted.get();
+    }
+
+    private int fallbackBlock(long epoch, Exception e) {
+        if (fallbackEpoch == epoch) {
+            log.warn("⚠️ Quota store unavailable, local fallback already used today: {}", e.getMessage());
+            return 0;
+        }
+        fallbackEpoch = epoch;
+        local.grant(epoch, blockSize);
+        log.warn("⚠️ Quota store unavailable, granting one local block of {}: {}", blockSize, e.getMessage());
+        return blockSize;
+    }
+
+    // Stored state as seen from `epoch` (a newer stored epoch wins: our clock is behind)
+    private static QuotaState stateFor(QuotaState current, long epoch) {
+        if (current == null) return QuotaState.empty(epoch);
+        return (current.epoch() > epoch) ? current : current.rolledTo(epoch);
+    }
+}
@@ -0,0 +1,38 @@
+package com.cricsphere.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort key and id of the last row of a page.
+ * Stays valid across daily rebuilds because it doesn't store positions.
+ */
+record PageCursor(String key, String id) {
+
+    private static final char SEPARATOR = '\u0000';
+
+    static String encode(String key, String id) {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            if (sep < 0) return null;
+            return new PageCursor(raw.substring(0, sep), raw.substring(sep + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    long keyAsLong() {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.cricsphere.search;
+
+import com.cricsphere.model.PageResponse;
+import com.cricsphere.model.Player;
+import com.cricsphere.store.PlayerColumns;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, pre-sorted view of the CricAPI player list.
+ * - Rows sorted by (normalized name, id), as PlayerColumns row numbers
+ * - Per-country row lists (int[], already in name order) for filtered paging
+ *
+ * Rebuilt once per daily refresh.
+ */
+public final class PlayerCatalog {
+
+    public static final PlayerCatalog EMPTY = build(PlayerColumns.EMPTY);
+
+    private final PlayerColumns columns;
+    private final int[] rows;          // sorted position -> PlayerColumns row
+    private final String[] sortKeys;   // by sorted position
+    private final int[] allRows;
+    private final Map<String, int[]> rowsByCountry;
+
+    private PlayerCatalog(PlayerColumns columns, int[] rows, String[] sortKeys, int[] allRows,
+                          Map<String, int[]> rowsByCountry) {
+        this.columns = columns;
+        this.rows = rows;
+        this.sortKeys = sortKeys;
+        this.allRows = allRows;
+        this.rowsByCountry = rowsByCountry;
+    }
+
+    public static PlayerCatalog build(PlayerColumns columns) {
+        List<Integer> usable = new ArrayList<>();
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.name(row) != null) usable.add(row);
+        }
+
+        int n = usable.size();
+        String[] names = new String[columns.size()];
+        for (int row : usable) names[row] = PlayerSearchIndex.normalize(columns.name(row));
+
+        usable.sort(Comparator.comparing((Integer row) -> names[row]).thenComparing(columns::id));
+
+        // Country keys are normalized once per dictionary code
+        String[] countryKeys = new String[columns.countryCardinality()];
+        for (int code = 0; code < countryKeys.length; code++) {
+            countryKeys[code] = PlayerSearchIndex.normalize(columns.countryValue(code));
+        }
+
+        int[] rows = new int[n];
+        String[] keys = new String[n];
+        int[] all = new int[n];
+        Map<String, PlayerSearchIndex.IntBuffer> byCountry = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            rows[i] = usable.get(i);
+            keys[i] = names[rows[i]];
+            all[i] = i;
+            String country = countryKeys[columns.countryCode(rows[i])];
+            if (!country.isEmpty()) {
+                byCountry.computeIfAbsent(country, c -> new PlayerSearchIndex.IntBuffer()).add(i);
+            }
+        }
+
+        Map<String, int[]> countries = new HashMap<>(byCountry.size() * 2);
+        byCountry.forEach((k, v) -> countries.put(k, v.toArray()));
+
+        return new PlayerCatalog(columns, rows, keys, all, countries);
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    public PageResponse<Player> page(String country, String cursor, int limit) {
+        int[] candidates = (country == null || country.isBlank())
+                ? allRows
+                : rowsByCountry.getOrDefault(PlayerSearchIndex.normalize(country), new int[0]);
+
+        int from = resumeIndex(candidates, cursor);
+        int to = Math.min(from + limit, candidates.length);
+
+        List<Player> items = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) items.add(columns.toPlayer(rows[candidates[i]]));
+
+        String next = null;
+        if (to < candidates.length && to > from) {
+            int last = candidates[to - 1];
+            next = PageCursor.encode(sortKeys[last], columns.id(rows[last]));
+        }
+
+        return new PageResponse<>(items, next, limit);
+    }
+
+    // First position in candidates strictly after (name, id)
+    private int resumeIndex(int[] candidates, String cursor) {
+        PageCursor c = PageCursor.decode(cursor);
+        if (c == null) return 0;
+
+        int lo = 0, hi = candidates.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int row = candidates[mid];
+            int cmp = sortKeys[row].compareTo(c.key());
+            if (cmp == 0) cmp = columns.id(rows[row]).compareTo(c.id());
+            if (cmp <= 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,368 @@
+package com.cricsphere.search;
+
+import com.cricsphere.model.Player;
+import com.cricsphere.store.PlayerColumns;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable typeahead index over the CricAPI player list.
+ * - Word-prefix lookup: sorted token dictionary + binary search
+ * - Infix fallback: trigram postings
+ * - Postings are plain sorted int[] row ids (no boxed collections)
+ * - Every candidate is scored; the best k are kept in a bounded heap, so
+ *   short or common prefixes rank the whole match set, not a slice of it
+ * - Rows point into {@link PlayerColumns}; countries are normalized once
+ *   per dictionary code, not once per player
+ *
+ * Built once per daily refresh and swapped atomically by the owner.
+ */
+public final class PlayerSearchIndex {
+
+    public static final PlayerSearchIndex EMPTY = build(PlayerColumns.EMPTY);
+
+    private final PlayerColumns columns;
+    private final int[] columnRows;        // index row -> PlayerColumns row
+    private final String[] rowNames;       // normalized name
+    private final String[] countryNames;   // normalized country, by country code
+
+    private final String[] tokens;       // sorted, distinct
+    private final int[][] tokenPostings; // parallel to tokens
+
+    private final Map<String, int[]> trigramPostings;
+
+    private PlayerSearchIndex(PlayerColumns columns, int[] columnRows, String[] rowNames,
+                              String[] countryNames, String[] tokens, int[][] tokenPostings,
+                              Map<String, int[]> trigramPostings) {
+        this.columns = columns;
+        this.columnRows = columnRows;
+        this.rowNames = rowNames;
+        this.countryNames = countryNames;
+        this.tokens = tokens;
+        this.tokenPostings = tokenPostings;
+        this.trigramPostings = trigramPostings;
+    }
+
+    /* =========================================================
+        Build
+    ========================================================= */
+    public static PlayerSearchIndex build(PlayerColumns columns) {
+        String[] countryNames = new String[columns.countryCardinality()];
+        String[][] countryTokens = new String[countryNames.length][];
+        for (int code = 0; code < countryNames.length; code++) {
+            countryNames[code] = normalize(columns.countryValue(code));
+            countryTokens[code] = tokenize(countryNames[code]);
+        }
+
+        IntBuffer usable = new IntBuffer();
+        for (int row = 0; row < columns.size(); row++) {
+            String name = columns.name(row);
+            if (name != null && !name.isBlank()) usable.add(row);
+        }
+
+        int[] columnRows = usable.toArray();
+        int n = columnRows.length;
+        String[] rowNames = new String[n];
+
+        Map<String, IntBuffer> tokenMap = new HashMap<>();
+        Map<String, IntBuffer> trigramMap = new HashMap<>();
+
+        for (int row = 0; row < n; row++) {
+            String name = normalize(columns.name(columnRows[row]));
+            rowNames[row] = name;
+
+            for (String token : tokenize(name)) {
+                tokenMap.computeIfAbsent(token, t -> new IntBuffer()).addUnique(row);
+            }
+            for (String token : countryTokens[columns.countryCode(columnRows[row])]) {
+                tokenMap.computeIfAbsent(token, t -> new IntBuffer()).addUnique(row);
+            }
+
+            String compact = name.replace(" ", "");
+            for (int i = 0; i + 3 <= compact.length(); i++) {
+                trigramMap.computeIfAbsent(compact.substring(i, i + 3), t -> new IntBuffer()).addUnique(row);
+            }
+        }
+
+        String[] tokens = tokenMap.keySet().toArray(new String[0]);
+        Arrays.sort(tokens);
+
+        int[][] postings = new int[tokens.length][];
+        for (int i = 0; i < tokens.length; i++) {
+            postings[i] = tokenMap.get(tokens[i]).toArray();
+        }
+
+        Map<String, int[]> trigrams = new HashMap<>(trigramMap.size() * 2);
+        trigramMap.forEach((k, v) -> trigrams.put(k, v.toArray()));
+
+        return new PlayerSearchIndex(columns, columnRows, rowNames, countryNames, tokens, postings, trigrams);
+    }
+
+    /* =========================================================
+        Query
+    ========================================================= */
+    public List<Player> search(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0 || columnRows.length == 0) return List.of();
+
+        String[] terms = tokenize(q);
+        if (terms.length == 0) return List.of();
+
+        // 1) Candidates from the first term (prefix, then trigram fallback)
+        int[] candidates = prefixCandidates(terms[0]);
+        if (candidates.length == 0) candidates = trigramCandidates(terms[0]);
+        if (candidates.length == 0) return List.of();
+
+        // 2) Remaining terms must also match (prefix of a word, or infix); keep the best `limit`
+        TopK top = new TopK(Math.min(limit, candidates.length));
+        for (int row : candidates) {
+            int score = score(row, q, terms);
+            if (score > 0) top.offer(row, score);
+        }
+
+        return top.drain();
+    }
+
+    public int size() {
+        return columnRows.length;
+    }
+
+    private int[] prefixCandidates(String prefix) {
+        int from = lowerBound(prefix);
+        IntBuffer out = new IntBuffer();
+
+        for (int i = from; i < tokens.length && tokens[i].startsWith(prefix); i++) {
+            for (int row : tokenPostings[i]) out.add(row);
+        }
+
+        return out.toSortedDistinctArray();
+    }
+
+    private int[] trigramCandidates(String term) {
+        if (term.length() < 3) return new int[0];
+
+        // Intersect postings of every trigram of the term
+        int[] result = null;
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            int[] postings = trigramPostings.get(term.substring(i, i + 3));
+            if (postings == null) return new int[0];
+            result = (result == null) ? postings.clone() : intersect(result, postings);
+            if (result.length == 0) return result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Higher is better, 0 = not a match.
+     */
+    private int score(int row, String fullQuery, String[] terms) {
+        String name = rowNames[row];
+        String country = countryNames[columns.countryCode(columnRows[row])];
+        int score = 0;
+
+        for (String term : terms) {
+            int match = Math.max(termMatch(name, term), termMatch(country, term));
+            if (match == 0) return 0;
+            score += match;
+        }
+
+        if (name.equals(fullQuery)) score += 100;
+        else if (name.startsWith(fullQuery)) score += 50;
+
+        // Prefer shorter names on ties
+        return score * 64 + Math.max(0, 63 - name.length());
+    }
+
+    /**
+     * 30 = whole word, 20 = word prefix, 5 = infix, 0 = absent.
+     */
+    private static int termMatch(String text, String term) {
+        int best = 0;
+        for (int at = text.indexOf(term); at >= 0; at = text.indexOf(term, at + 1)) {
+            boolean wordStart = at == 0 || text.charAt(at - 1) == ' ';
+            if (!wordStart) {
+                best = Math.max(best, 5);
+                continue;
+            }
+            int end = at + term.length();
+            if (end == text.length() || text.charAt(end) == ' ') return 30;
+            best = 20;
+        }
+        return best;
+    }
+
+    private int lowerBound(String key) {
+        int lo = 0, hi = tokens.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (tokens[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /* =========================================================
+        Helpers
+    ========================================================= */
+    static String normalize(String raw) {
+        if (raw == null) return "";
+
+        String s = Normalizer.normalize(raw, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+
+        StringBuilder sb = new StringBuilder(s.length());
+        boolean space = true;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+                space = false;
+            } else if (!space) {
+                sb.append(' ');
+                space = true;
+            }
+        }
+
+        int len = sb.length();
+        if (len > 0 && sb.charAt(len - 1) == ' ') sb.setLength(len - 1);
+        return sb.toString();
+    }
+
+    static String[] tokenize(String normalized) {
+        if (normalized == null || normalized.isBlank()) return new String[0];
+        return normalized.trim().split(" +");
+    }
+
+    static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    /**
+     * Bounded min-heap of the best rows seen so far (root = worst kept).
+     * Better = higher score, then name, then row: independent of insertion order.
+     */
+    private final class TopK {
+        private final int[] rows;
+        private final int[] scores;
+        private int size;
+
+        private TopK(int k) {
+            this.rows = new int[k];
+            this.scores = new int[k];
+        }
+
+        void offer(int row, int score) {
+            if (size < rows.length) {
+                rows[size] = row;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (size > 0 && better(row, score, rows[0], scores[0])) {
+                rows[0] = row;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        // Best first
+        List<Player> drain() {
+            Player[] out = new Player[size];
+            while (size > 0) {
+                out[size - 1] = columns.toPlayer(columnRows[rows[0]]);
+                size--;
+                rows[0] = rows[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return List.of(out);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(rows[parent], scores[parent], rows[i], scores[i])) return;
+                swap(parent, i);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int worst = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && better(rows[worst], scores[worst], rows[left], scores[left])) worst = left;
+                if (right < size && better(rows[worst], scores[worst], rows[right], scores[right])) worst = right;
+                if (worst == i) return;
+                swap(worst, i);
+                i = worst;
+            }
+        }
+
+        private boolean better(int rowA, int scoreA, int rowB, int scoreB) {
+            if (scoreA != scoreB) return scoreA > scoreB;
+            int byName = rowNames[rowA].compareTo(rowNames[rowB]);
+            return (byName != 0) ? byName < 0 : rowA < rowB;
+        }
+
+        private void swap(int i, int j) {
+            int r = rows[i];
+            rows[i] = rows[j];
+            rows[j] = r;
+            int s = scores[i];
+            scores[i] = scores[j];
+            scores[j] = s;
+        }
+    }
+
+    /**
+     * Minimal growable int array used only while building / querying.
+     */
+    static final class IntBuffer {
+        private int[] data = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        // Rows are appended in increasing order during build
+        void addUnique(int value) {
+            if (size > 0 && data[size - 1] == value) return;
+            add(value);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+
+        int[] toSortedDistinctArray() {
+            int[] out = Arrays.copyOf(data, size);
+            Arrays.sort(out);
+
+            int k = 0;
+            for (int i = 0; i < out.length; i++) {
+                if (k == 0 || out[k - 1] != out[i]) out[k++] = out[i];
+            }
+            return Arrays.copyOf(out, k);
+        }
+    }
+}
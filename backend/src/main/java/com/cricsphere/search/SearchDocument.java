@@ -0,0 +1,7 @@
+package com.cricsphere.search;
+
+/**
+ * One searchable entity (player, team, country, venue or series).
+ */
+public record SearchDocument(String type, String id, String title, String subtitle) {
+}
@@ -0,0 +1,122 @@
+package com.cricsphere.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable inverted index over the documents of ONE source
+ * (e.g. the CricAPI series list, or one cached teams payload).
+ * Replacing a source only rebuilds its own segment.
+ */
+final class SearchSegment {
+
+    private final SearchDocument[] docs;
+    private final String[] titles;   // normalized title
+    private final String[] texts;    // " " + title + " " + subtitle
+    private final String[] tokens;   // sorted, distinct
+    private final int[][] postings;  // parallel to tokens
+
+    private SearchSegment(SearchDocument[] docs, String[] titles, String[] texts,
+                          String[] tokens, int[][] postings) {
+        this.docs = docs;
+        this.titles = titles;
+        this.texts = texts;
+        this.tokens = tokens;
+        this.postings = postings;
+    }
+
+    static SearchSegment build(List<SearchDocument> documents) {
+        SearchDocument[] docs = documents.stream()
+                .filter(d -> d != null && d.title() != null && !d.title().isBlank())
+                .toArray(SearchDocument[]::new);
+
+        String[] titles = new String[docs.length];
+        String[] texts = new String[docs.length];
+        Map<String, PlayerSearchIndex.IntBuffer> map = new HashMap<>();
+
+        for (int row = 0; row < docs.length; row++) {
+            String title = PlayerSearchIndex.normalize(docs[row].title());
+            String subtitle = PlayerSearchIndex.normalize(docs[row].subtitle());
+
+            titles[row] = title;
+            texts[row] = " " + title + " " + subtitle;
+
+            for (String token : PlayerSearchIndex.tokenize(title + " " + subtitle)) {
+                map.computeIfAbsent(token, t -> new PlayerSearchIndex.IntBuffer()).addUnique(row);
+            }
+        }
+
+        String[] tokens = map.keySet().toArray(new String[0]);
+        Arrays.sort(tokens);
+
+        int[][] postings = new int[tokens.length][];
+        for (int i = 0; i < tokens.length; i++) postings[i] = map.get(tokens[i]).toArray();
+
+        return new SearchSegment(docs, titles, texts, tokens, postings);
+    }
+
+    int size() {
+        return docs.length;
+    }
+
+    /**
+     * Scores every matching document and hands it to {@code sink}.
+     */
+    void collect(String fullQuery, String[] terms, String type, HitSink sink) {
+        int from = lowerBound(terms[0]);
+
+        for (int i = from; i < tokens.length && tokens[i].startsWith(terms[0]); i++) {
+            for (int row : postings[i]) {
+                if (type != null && !type.equals(docs[row].type())) continue;
+
+                int score = score(row, fullQuery, terms);
+                if (score > 0) sink.accept(docs[row], score);
+            }
+        }
+    }
+
+    private int score(int row, String fullQuery, String[] terms) {
+        String title = titles[row];
+        String text = texts[row];
+        int score = 0;
+
+        for (String term : terms) {
+            boolean inTitle = (" " + title).contains(" " + term);
+            if (inTitle && (" " + title + " ").contains(" " + term + " ")) score += 30;
+            else if (inTitle) score += 20;
+            else if (text.contains(" " + term)) score += 8;
+            else return 0;
+        }
+
+        if (title.equals(fullQuery)) score += 100;
+        else if (title.startsWith(fullQuery)) score += 40;
+
+        return score * 8 + typeBoost(docs[row].type());
+    }
+
+    private int typeBoost(String type) {
+        return switch (type) {
+            case "team" -> 4;
+            case "country", "player" -> 3;
+            case "series" -> 2;
+            default -> 1;
+        };
+    }
+
+    private int lowerBound(String key) {
+        int lo = 0, hi = tokens.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (tokens[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    @FunctionalInterface
+    interface HitSink {
+        void accept(SearchDocument doc, int score);
+    }
+}
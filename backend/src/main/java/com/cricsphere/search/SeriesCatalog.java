@@ -0,0 +1,232 @@
+package com.cricsphere.search;
+
+import com.cricsphere.model.PageResponse;
+import com.cricsphere.model.Series;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable, pre-sorted view of the CricAPI series list.
+ * - Sorted by (startDate, id); series without a readable start date form a
+ *   tail after every dated one, returned only by pages without a date bound
+ * - Interval index: prefix-max of end dates lets a date-range query skip
+ *   every series that ended before the range, then stop at the first one
+ *   starting after it
+ * - Format bitmask per row (t20 / odi / test)
+ *
+ * Rebuilt once per daily refresh.
+ */
+public final class SeriesCatalog {
+
+    public static final SeriesCatalog EMPTY = build(List.of());
+
+    public static final int T20 = 1;
+    public static final int ODI = 2;
+    public static final int TEST = 4;
+
+    private static final long UNDATED = Long.MAX_VALUE;
+
+    private static final DateTimeFormatter MONTH_DAY = DateTimeFormatter.ofPattern("MMM d", Locale.ENGLISH);
+
+    private final Series[] rows;
+    private final long[] startDays;
+    private final long[] endDays;
+    private final long[] prefixMaxEnd;
+    private final byte[] formats;
+    private final int dated;
+
+    private SeriesCatalog(Series[] rows, long[] startDays, long[] endDays, long[] prefixMaxEnd, byte[] formats,
+                          int dated) {
+        this.rows = rows;
+        this.startDays = startDays;
+        this.endDays = endDays;
+        this.prefixMaxEnd = prefixMaxEnd;
+        this.formats = formats;
+        this.dated = dated;
+    }
+
+    public static SeriesCatalog build(List<Series> series) {
+        record Row(Series series, long start, long end) {
+        }
+
+        List<Row> list = new ArrayList<>();
+        if (series != null) {
+            for (Series s : series) {
+                if (s == null || s.getId() == null) continue;
+                LocalDate start = parseStart(s.getStartDate());
+                LocalDate end = parseEnd(s.getEndDate(), start);
+                // Undated: sorts after everything and never widens the interval index of dated rows
+                long startDay = (start != null) ? start.toEpochDay() : UNDATED;
+                long endDay = (start != null && end != null) ? end.toEpochDay() : startDay;
+                list.add(new Row(s, startDay, Math.max(startDay, endDay)));
+            }
+        }
+
+        list.sort(Comparator.comparingLong(Row::start).thenComparing(r -> r.series().getId()));
+
+        int n = list.size();
+        Series[] rows = new Series[n];
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        long[] prefixMax = new long[n];
+        byte[] formats = new byte[n];
+
+        long max = Long.MIN_VALUE;
+        int dated = 0;
+        for (int i = 0; i < n; i++) {
+            Row r = list.get(i);
+            if (r.start() != UNDATED) dated++;
+            rows[i] = r.series();
+            starts[i] = r.start();
+            ends[i] = r.end();
+            max = Math.max(max, r.end());
+            prefixMax[i] = max;
+            formats[i] = (byte) ((r.series().getT20() > 0 ? T20 : 0)
+                    | (r.series().getOdi() > 0 ? ODI : 0)
+                    | (r.series().getTest() > 0 ? TEST : 0));
+        }
+
+        return new SeriesCatalog(rows, starts, ends, prefixMax, formats, dated);
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * @param from   inclusive lower bound of the date range (null = open)
+     * @param to     inclusive upper bound of the date range (null = open)
+     * @param format bitmask of T20 / ODI / TEST (0 = any)
+     */
+    public PageResponse<Series> page(LocalDate from, LocalDate to, int format, String cursor, int limit) {
+        long fromDay = (from != null) ? from.toEpochDay() : Long.MIN_VALUE;
+        long toDay = (to != null) ? to.toEpochDay() : Long.MAX_VALUE;
+
+        // Skip series that all ended before "from" (prefixMaxEnd is monotone)
+        int lo = firstIndexWithPrefixMaxAtLeast(fromDay);
+
+        // Stop before series starting after "to"; undated series only without a date bound
+        int hi = upperBoundStart(toDay);
+        if (from != null || to != null) hi = Math.min(hi, dated);
+
+        // Resume after the cursor position
+        int pos = Math.max(lo, resumeIndex(cursor));
+
+        List<Series> items = new ArrayList<>(limit);
+        int last = -1;
+        for (int i = pos; i < hi && items.size() < limit; i++) {
+            if (endDays[i] < fromDay) continue;
+            if (format != 0 && (formats[i] & format) == 0) continue;
+            items.add(rows[i]);
+            last = i;
+        }
+
+        String next = null;
+        if (items.size() == limit && last + 1 < hi) {
+            next = PageCursor.encode(Long.toString(startDays[last]), rows[last].getId());
+        }
+
+        return new PageResponse<>(items, next, limit);
+    }
+
+    /**
+     * Ids of series running on {@code day} (start <= day <= end).
+     */
+    public List<String> runningOn(LocalDate day) {
+        long d = day.toEpochDay();
+        int lo = firstIndexWithPrefixMaxAtLeast(d);
+        int hi = Math.min(upperBoundStart(d), dated);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = lo; i < hi; i++) {
+            if (endDays[i] >= d) ids.add(rows[i].getId());
+        }
+        return ids;
+    }
+
+    public static int parseFormat(String format) {
+        if (format == null || format.isBlank()) return 0;
+
+        int mask = 0;
+        for (String f : format.toLowerCase(Locale.ROOT).split(",")) {
+            switch (f.trim()) {
+                case "t20", "t20i" -> mask |= T20;
+                case "odi" -> mask |= ODI;
+                case "test" -> mask |= TEST;
+                default -> { }
+            }
+        }
+        return mask;
+    }
+
+    private int resumeIndex(String cursor) {
+        PageCursor c = PageCursor.decode(cursor);
+        if (c == null) return 0;
+
+        // First row strictly after (startDay, id)
+        int lo = 0, hi = rows.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = Long.compare(startDays[mid], c.keyAsLong());
+            if (cmp == 0) cmp = rows[mid].getId().compareTo(c.id());
+            if (cmp <= 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int firstIndexWithPrefixMaxAtLeast(long day) {
+        int lo = 0, hi = rows.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (prefixMaxEnd[mid] < day) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int upperBoundStart(long day) {
+        int lo = 0, hi = rows.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (startDays[mid] <= day) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /* =========================================================
+        CricAPI dates: startDate is ISO ("2024-09-19"),
+        endDate is often "Oct 01" without a year
+    ========================================================= */
+    public static LocalDate parseStart(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        try {
+            return LocalDate.parse(raw.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public static LocalDate parseEnd(String raw, LocalDate start) {
+        if (raw == null || raw.isBlank()) return null;
+
+        LocalDate iso = parseStart(raw);
+        if (iso != null) return iso;
+
+        if (start == null) return null;
+        try {
+            LocalDate end = MonthDay.parse(raw.trim(), MONTH_DAY).atYear(start.getYear());
+            return end.isBefore(start) ? end.plusYears(1) : end;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.cricsphere.search;
+
+import com.cricsphere.model.SearchHit;
+import com.cricsphere.model.SearchResultPage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process inverted index across players, teams, countries, venues and series.
+ * - One immutable {@link SearchSegment} per source
+ * - Updating a source swaps only its segment (readers never block)
+ * - Queries only touch memory, never upstream
+ */
+public class UnifiedSearchIndex {
+
+    private final Map<String, SearchSegment> segments = new ConcurrentHashMap<>();
+
+    public void replaceSource(String source, List<SearchDocument> documents) {
+        if (documents == null || documents.isEmpty()) {
+            segments.remove(source);
+            return;
+        }
+        segments.put(source, SearchSegment.build(documents));
+    }
+
+    public int documentCount() {
+        return segments.values().stream().mapToInt(SearchSegment::size).sum();
+    }
+
+    public int sourceCount() {
+        return segments.size();
+    }
+
+    public SearchResultPage search(String query, String type, int page, int size) {
+        String q = PlayerSearchIndex.normalize(query);
+        String[] terms = PlayerSearchIndex.tokenize(q);
+        if (terms.length == 0) return new SearchResultPage(query, 0, page, size, List.of());
+
+        String typeFilter = (type == null || type.isBlank()) ? null : type.trim().toLowerCase();
+
+        // Same entity can come from several sources -> keep its best score
+        Map<String, SearchHit> best = new HashMap<>();
+        for (SearchSegment segment : segments.values()) {
+            segment.collect(q, terms, typeFilter, (doc, score) -> {
+                String key = doc.type() + ":" + doc.id();
+                SearchHit existing = best.get(key);
+                if (existing == null || existing.score() < score) {
+                    best.put(key, new SearchHit(doc.type(), doc.id(), doc.title(), doc.subtitle(), score));
+                }
+            });
+        }
+
+        List<SearchHit> hits = new ArrayList<>(best.values());
+        hits.sort(Comparator.comparingInt(SearchHit::score).reversed()
+                .thenComparing(SearchHit::title, String.CASE_INSENSITIVE_ORDER));
+
+        // long math: a huge page must not overflow into a negative offset
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = (int) Math.min((long) from + size, hits.size());
+
+        return new SearchResultPage(query, hits.size(), page, size, List.copyOf(hits.subList(from, to)));
+    }
+}
@@ -1,31 +1,56 @@
 package com.cricsphere.service;
 
+import com.cricsphere.analytics.MatchAnalyticsEngine;
+import com.cricsphere.analytics.SeriesLeaderboardEngine;
+import com.cricsphere.integration.CricApiCrawler;
+import com.cricsphere.integration.CricApiCrawler.CrawlResult;
 import com.cricsphere.integration.RapidApiClient;
 import com.cricsphere.model.*;
+import com.cricsphere.search.PlayerCatalog;
+import com.cricsphere.search.PlayerSearchIndex;
+import com.cricsphere.search.SeriesCatalog;
+import com.cricsphere.store.BallEventLog;
+import com.cricsphere.store.MatchArchive;
+import com.cricsphere.store.CountryColumns;
+import com.cricsphere.store.PlayerColumns;
+import com.cricsphere.util.SerializedSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CricketService {
 
-    /* =========================================================
-        CricAPI (Reference data)
-    ========================================================= */
-    @Value("${cricapi.key}")
-    private String cricApiKey;
-
-    private static final String CRICAPI_BASE = "https://api.cricapi.com/v1/";
-
     /* =========================================================
         RapidAPI Cricbuzz Base
     ========================================================= */
@@ -83,19 +108,73 @@ public class CricketService {
     private static final long TTL_24_HOUR = 24 * 60 * 60 * 1000L;
     private static final long TTL_7_DAYS  = 7L * 24 * 60 * 60 * 1000L;
 
+    private static final int PREFETCH_PER_RUN = 5;
+    private static final long PREFETCH_AHEAD_MILLIS = 10 * 60 * 1000L;
+
     private final RapidApiClient rapidApi;
-    private final RestTemplate restTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final CricApiCrawler cricApiCrawler;
+    private final MeterRegistry meterRegistry;
+    private final MatchTtlPolicy matchTtlPolicy;
+    private final BallEventLog ballEventLog;
+    private final MatchArchive matchArchive;
+    private final MatchAnalyticsEngine analyticsEngine;
+    private final SeriesLeaderboardEngine leaderboardEngine;
 
     /* ===================== CricAPI Cached Reference Data ===================== */
     private volatile SeriesListResponse cachedSeries;
-    private volatile CountryListResponse cachedCountries;
-    private volatile PlayerListResponse cachedPlayers;
 
-    private final Map<String, SeriesDetailResponse> seriesDetailCache = new ConcurrentHashMap<>();
+    /* Columnar, dictionary-encoded stores: full Player/Country objects are not retained */
+    private volatile PlayerColumns playerColumns = PlayerColumns.EMPTY;
+    private volatile CountryColumns countryColumns = CountryColumns.EMPTY;
+
+    /* Rebuilt with playerColumns, swapped in one volatile write */
+    private volatile PlayerSearchIndex playerIndex = PlayerSearchIndex.EMPTY;
+
+    /* Pre-sorted paging indexes, rebuilt with the raw lists */
+    private volatile SeriesCatalog seriesCatalog = SeriesCatalog.EMPTY;
+    private volatile PlayerCatalog playerCatalog = PlayerCatalog.EMPTY;
+
+    /* Serialized once per refresh (JSON + gzip + ETag) */
+    private volatile SerializedSnapshot seriesSnapshot;
+    private volatile SerializedSnapshot countriesSnapshot;
+    private volatile SerializedSnapshot playersSnapshot;
+
+    /* Bounded LRU + per-entry TTL, backed by Firestore */
+    private final SeriesDetailCache seriesDetailCache;
+
+    /* ===================== Reference refresh pipeline ===================== */
+    private static final List<String> REFERENCE_SOURCES = List.of("series", "players", "countries");
+
+    /* Whole refreshes run on one thread; per-source crawls on their own pool, so a refresh never waits on its own workers */
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(daemonThreads("cricapi-refresh-"));
+    private final ExecutorService sourceExecutor = Executors.newFixedThreadPool(REFERENCE_SOURCES.size(), daemonThreads("cricapi-source-"));
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final Map<String, RefreshReport> refreshReports = new ConcurrentHashMap<>();
+
+    /* Canonical keyed store for series: crawl deltas are merged in place (insertion order kept) */
+    private final Map<String, Series> seriesById = Collections.synchronizedMap(new LinkedHashMap<>());
 
     @PostConstruct
     public void init() {
-        refreshDailyData();
+        for (String source : REFERENCE_SOURCES) {
+            Gauge.builder("cricapi.refresh.bytes", refreshReports, r -> bytesOf(r.get(source)))
+                    .tag("source", source)
+                    .register(meterRegistry);
+            Gauge.builder("cricapi.refresh.records", refreshReports, r -> recordsOf(r.get(source)))
+                    .tag("source", source)
+                    .register(meterRegistry);
+        }
+
+        // Don't block startup on CricAPI
+        refreshExecutor.execute(this::refreshDailyData);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+        sourceExecutor.shutdownNow();
     }
 
     @Scheduled(cron = "0 0 3 * * *")
@@ -103,6 +182,22 @@ public class CricketService {
         refreshDailyData();
     }
 
+    /**
+     * Keeps details of currently running series warm (at most a few CricAPI hits per run).
+     */
+    @Scheduled(fixedDelay = 30 * 60 * 1000L, initialDelay = 5 * 60 * 1000L)
+    public void prefetchRunningSeries() {
+        int fetched = 0;
+        for (String id : seriesCatalog.runningOn(LocalDate.now())) {
+            if (fetched >= PREFETCH_PER_RUN) break;
+            if (!seriesDetailCache.needsRefresh(id, PREFETCH_AHEAD_MILLIS)) continue;
+
+            seriesDetailCache.prefetch(id);
+            fetched++;
+        }
+        if (fetched > 0) log.info("📚 Prefetched {} running series details", fetched);
+    }
+
     /* =========================================================
         HOME
     ========================================================= */
@@ -129,31 +224,52 @@ public class CricketService {
         MATCH CENTER (User-friendly endpoints)
     ========================================================= */
     public String getMatchOverview(String matchId) {
-        return rapidApi.fetch(String.format(MATCH_INFO, matchId), TTL_10_MIN);
+        return fetchMatchCenter(MatchResource.OVERVIEW, matchId);
     }
 
     public String getMatchScorecard(String matchId) {
-        return rapidApi.fetch(String.format(SCORECARD, matchId), TTL_10_MIN);
+        return fetchMatchCenter(MatchResource.SCORECARD, matchId);
     }
 
     public String getMatchCommentary(String matchId) {
-        return rapidApi.fetch(String.format(COMMENTARY, matchId), TTL_10_MIN);
+        return fetchMatchCenter(MatchResource.COMMENTARY, matchId);
+    }
+
+    /**
+     * Newest-first page of the match's logged deliveries (local segment files, no quota).
+     */
+    public PageResponse<BallEvent> getCommentaryLog(long matchId, String cursor, int limit) {
+        return ballEventLog.page(matchId, cursor, limit);
     }
 
     public String getMatchHCommentary(String matchId) {
-        return rapidApi.fetch(String.format(H_COMMENTARY, matchId), TTL_10_MIN);
+        String url = String.format(H_COMMENTARY, matchId);
+        return rapidApi.fetch(url, matchTtlPolicy.forMatch(url, matchId));
     }
 
     public String getMatchSquads(String matchId) {
-        return rapidApi.fetch(String.format(SQUADS, matchId), TTL_24_HOUR);
+        return archivedOr(MatchResource.SQUADS, matchId,
+                () -> rapidApi.fetch(String.format(SQUADS, matchId), TTL_24_HOUR));
     }
 
     public String getMatchOvers(String matchId) {
-        return rapidApi.fetch(String.format(OVERS, matchId), TTL_10_MIN);
+        return fetchMatchCenter(MatchResource.OVERS, matchId);
+    }
+
+    /**
+     * Rates, projections and win probability, folded incrementally from the overs payload.
+     *
+     * @return null when {@code matchId} is not a match id (nothing is fetched or tracked)
+     */
+    public MatchAnalytics getMatchAnalytics(String matchId) {
+        long id = parseMatchId(matchId);
+        if (id <= 0) return null;
+        return analyticsEngine.update(id, getMatchOvers(Long.toString(id)));
     }
 
     public String getMatchHighlights(String matchId) {
-        return rapidApi.fetch(String.format(HIGHLIGHTS, matchId), TTL_24_HOUR);
+        return archivedOr(MatchResource.HIGHLIGHTS, matchId,
+                () -> rapidApi.fetch(String.format(HIGHLIGHTS, matchId), TTL_24_HOUR));
     }
 
     public String getMatchLeanback(String matchId) {
@@ -164,6 +280,56 @@ public class CricketService {
         return rapidApi.fetch(String.format(H_LEANBACK, matchId), TTL_24_HOUR);
     }
 
+    // TTL follows the match state in the payload (frozen once complete)
+    private String fetchMatchCenter(MatchResource resource, String matchId) {
+        return archivedOr(resource, matchId, () -> {
+            String url = matchCenterUrl(resource, matchId);
+            return rapidApi.fetch(url, matchTtlPolicy.forMatch(url, matchId));
+        });
+    }
+
+    // Completed matches are served from the local archive for good
+    private String archivedOr(MatchResource resource, String matchId, Supplier<String> fetch) {
+        String archived = matchArchive.get(parseMatchId(matchId), resource);
+        return (archived != null) ? archived : fetch.get();
+    }
+
+    private static long parseMatchId(String matchId) {
+        try {
+            return Long.parseLong(matchId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    public String matchCenterUrl(MatchResource resource, String matchId) {
+        return String.format(templateOf(resource), matchId);
+    }
+
+    /**
+     * Refreshes a match-center resource unless its cached copy outlives {@code aheadMillis}.
+     *
+     * @return expiry of the untouched cached copy ({@link Long#MAX_VALUE} if archived),
+     *         0 if an upstream fetch was attempted
+     */
+    public long prefetchMatchCenter(MatchResource resource, String matchId, long aheadMillis) {
+        if (matchArchive.get(parseMatchId(matchId), resource) != null) return Long.MAX_VALUE;
+
+        String url = matchCenterUrl(resource, matchId);
+        return rapidApi.prefetch(url, matchTtlPolicy.forMatch(url, matchId), aheadMillis);
+    }
+
+    private static String templateOf(MatchResource resource) {
+        return switch (resource) {
+            case OVERVIEW -> MATCH_INFO;
+            case SCORECARD -> SCORECARD;
+            case COMMENTARY -> COMMENTARY;
+            case OVERS -> OVERS;
+            case SQUADS -> SQUADS;
+            case HIGHLIGHTS -> HIGHLIGHTS;
+        };
+    }
+
     /* =========================================================
         Backward compatibility (old names)
     ========================================================= */
@@ -290,64 +456,280 @@ public class CricketService {
     /* =========================================================
         CRICAPI (Reference Data) - refresh daily
     ========================================================= */
+    /**
+     * Refreshes series, players and countries in parallel.
+     * - Each source is stream-parsed and swapped atomically on its own
+     * - A failing source keeps its previous snapshot, the others still swap
+     * - Per-source duration / size is recorded (metrics + {@link #getRefreshReports()})
+     */
     public void refreshDailyData() {
-        log.info("🔄 Refreshing daily cricket reference data (CricAPI)...");
+        if (!refreshing.compareAndSet(false, true)) {
+            log.info("⏭️ Reference data refresh already running, skipping.");
+            return;
+        }
+
         try {
-            String suffix = "?apikey=" + cricApiKey;
+            log.info("🔄 Refreshing daily cricket reference data (CricAPI)...");
+
+            CompletableFuture<SeriesListResponse> series = CompletableFuture.supplyAsync(
+                    () -> refreshSource("series", Series.class,
+                            delta -> mergeDelta(seriesById, delta, Series::getId), seriesById::size,
+                            () -> installSeries(snapshotOf(seriesById))),
+                    sourceExecutor);
+            CompletableFuture<PlayerListResponse> players = CompletableFuture.supplyAsync(
+                    () -> refreshSource("players", Player.class,
+                            this::mergePlayers, () -> playerColumns.size(), this::installPlayers),
+                    sourceExecutor);
+            CompletableFuture<CountryListResponse> countries = CompletableFuture.supplyAsync(
+                    () -> refreshSource("countries", Country.class,
+                            this::mergeCountries, () -> countryColumns.size(), this::installCountries),
+                    sourceExecutor);
+
+            CompletableFuture.allOf(series, players, countries).join();
+
+            SeriesListResponse newSeries = series.join();
+            PlayerListResponse newPlayers = players.join();
+            CountryListResponse newCountries = countries.join();
+
+            eventPublisher.publishEvent(new ReferenceDataRefreshedEvent(newSeries, newPlayers, newCountries));
+            log.info("✅ Daily reference data refresh finished | series={}, players={}, countries={}",
+                    newSeries != null, newPlayers != null, newCountries != null);
+        } catch (Exception e) {
+            log.error("❌ Failed to refresh daily data from CricAPI: {}", e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
 
-            SeriesListResponse newSeries = restTemplate.getForObject(
-                    CRICAPI_BASE + "series" + suffix,
-                    SeriesListResponse.class
-            );
+    public Collection<RefreshReport> getRefreshReports() {
+        return refreshReports.values();
+    }
 
-            PlayerListResponse newPlayers = restTemplate.getForObject(
-                    CRICAPI_BASE + "players" + suffix,
-                    PlayerListResponse.class
-            );
+    /**
+     * Crawls one source incrementally and merges only the changed rows into its store.
+     * Derived views (catalogs, indexes, snapshots) are rebuilt only when something changed.
+     * Returns null if the source failed or nothing changed.
+     *
+     * @param merge applies the delta to the source's store, returns the number of changed rows
+     */
+    private <E, R> R refreshSource(String source, Class<E> type, ToIntFunction<List<E>> merge,
+                                   IntSupplier storeSize, Supplier<R> install) {
+        long started = System.nanoTime();
+        try {
+            CrawlResult<E> crawl = cricApiCrawler.crawl(source, type, storeSize.getAsInt() == 0);
+            int merged = merge.applyAsInt(crawl.changed());
 
-            CountryListResponse newCountries = restTemplate.getForObject(
-                    CRICAPI_BASE + "countries" + suffix,
-                    CountryListResponse.class
-            );
+            int size = storeSize.getAsInt();
+            if (size == 0) {
+                throw new IllegalStateException("no rows (pages failed=" + crawl.pagesFailed() + ")");
+            }
 
-            if (newSeries != null) cachedSeries = newSeries;
-            if (newPlayers != null) cachedPlayers = newPlayers;
-            if (newCountries != null) cachedCountries = newCountries;
+            R result = (merged > 0) ? install.get() : null;
+            recordRefresh(source, started, true, crawl.bytes(), size, null);
 
-            seriesDetailCache.clear();
-            log.info("✅ Daily reference data refreshed successfully.");
+            if (merged == 0) log.info("💤 CricAPI {} unchanged, keeping current snapshot.", source);
+            return result;
         } catch (Exception e) {
-            log.error("❌ Failed to refresh daily data from CricAPI: {}", e.getMessage());
+            recordRefresh(source, started, false, 0, 0, e.getMessage());
+            log.error("❌ Failed to refresh {} from CricAPI: {}", source, e.getMessage());
+            return null;
+        }
+    }
+
+    private <E> int mergeDelta(Map<String, E> store, List<E> delta, Function<E, String> idOf) {
+        int changed = 0;
+        for (E row : delta) {
+            String id = idOf.apply(row);
+            if (id == null) continue;
+            E previous = store.put(id, row);
+            if (!row.equals(previous)) changed++;
         }
+        return changed;
+    }
+
+    // Copy-on-write: the new columns are published before install() rebuilds the views
+    private int mergePlayers(List<Player> delta) {
+        PlayerColumns current = playerColumns;
+        int changed = current.countChanged(delta);
+        if (changed > 0) playerColumns = current.withDelta(delta);
+        return changed;
+    }
+
+    private int mergeCountries(List<Country> delta) {
+        CountryColumns current = countryColumns;
+        int changed = current.countChanged(delta);
+        if (changed > 0) countryColumns = current.withDelta(delta);
+        return changed;
+    }
+
+    private <E> List<E> snapshotOf(Map<String, E> store) {
+        synchronized (store) {
+            return List.copyOf(new ArrayList<>(store.values()));
+        }
+    }
+
+    private SeriesListResponse installSeries(List<Series> series) {
+        SeriesListResponse newSeries = SeriesListResponse.builder()
+                .status("success")
+                .data(series)
+                .build();
+
+        SeriesCatalog newCatalog = SeriesCatalog.build(newSeries.getData());
+        SerializedSnapshot newSnapshot = SerializedSnapshot.of(objectMapper, newSeries);
+        cachedSeries = newSeries;
+        seriesCatalog = newCatalog;
+        seriesSnapshot = newSnapshot;
+        return newSeries;
+    }
+
+    private PlayerListResponse installPlayers() {
+        PlayerColumns columns = playerColumns;
+
+        // Transient object view: serialized once, handed to listeners, then dropped
+        PlayerListResponse newPlayers = playerListOf(columns);
+
+        PlayerSearchIndex newIndex = PlayerSearchIndex.build(columns);
+        PlayerCatalog newCatalog = PlayerCatalog.build(columns);
+        SerializedSnapshot newSnapshot = SerializedSnapshot.of(objectMapper, newPlayers);
+        playerIndex = newIndex;
+        playerCatalog = newCatalog;
+        playersSnapshot = newSnapshot;
+        log.info("🔎 Player search index rebuilt | players={} | distinct countries={}",
+                newIndex.size(), columns.countryCardinality() - 1);
+        return newPlayers;
+    }
+
+    private CountryListResponse installCountries() {
+        CountryListResponse newCountries = countryListOf(countryColumns);
+        countriesSnapshot = SerializedSnapshot.of(objectMapper, newCountries);
+        return newCountries;
+    }
+
+    private void recordRefresh(String source, long startedNanos, boolean success,
+                               long bytes, int records, String error) {
+        long nanos = System.nanoTime() - startedNanos;
+
+        Timer.builder("cricapi.refresh.duration")
+                .tag("source", source)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        RefreshReport previous = refreshReports.get(source);
+        refreshReports.put(source, success
+                ? new RefreshReport(source, true, nanos / 1_000_000, bytes, records, null, System.currentTimeMillis())
+                // Keep the last good size figures on failure
+                : new RefreshReport(source, false, nanos / 1_000_000,
+                        (long) bytesOf(previous), (int) recordsOf(previous), error, System.currentTimeMillis()));
+
+        log.info("📦 CricAPI {} refresh | ok={} | {} ms | {} bytes | {} records",
+                source, success, nanos / 1_000_000, bytes, records);
+    }
+
+    private static double bytesOf(RefreshReport report) {
+        return (report != null) ? report.bytes() : 0;
+    }
+
+    private static double recordsOf(RefreshReport report) {
+        return (report != null) ? report.records() : 0;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
     }
 
     public SeriesListResponse getSeriesList() {
         return cachedSeries;
     }
 
+    /**
+     * Materialized from the columnar store on each call (null before the first refresh).
+     */
     public CountryListResponse getCountryList() {
-        return cachedCountries;
+        CountryColumns columns = countryColumns;
+        return (columns.size() > 0) ? countryListOf(columns) : null;
     }
 
+    /**
+     * Materialized from the columnar store on each call (null before the first refresh).
+     * Prefer {@link #getPlayersSnapshot()} or the paged views.
+     */
     public PlayerListResponse getPlayerList() {
-        return cachedPlayers;
+        PlayerColumns columns = playerColumns;
+        return (columns.size() > 0) ? playerListOf(columns) : null;
     }
 
-    public SeriesDetailResponse getSeriesDetail(String id) {
-        if (id == null || id.isBlank()) return null;
+    private static PlayerListResponse playerListOf(PlayerColumns columns) {
+        return PlayerListResponse.builder()
+                .status("success")
+                .data(columns.toList())
+                .build();
+    }
 
-        SeriesDetailResponse cached = seriesDetailCache.get(id);
-        if (cached != null) return cached;
+    private static CountryListResponse countryListOf(CountryColumns columns) {
+        return CountryListResponse.builder()
+                .status("success")
+                .data(columns.toList())
+                .build();
+    }
 
-        try {
-            String url = CRICAPI_BASE + "series_info?apikey=" + cricApiKey + "&id=" + id;
-            SeriesDetailResponse response = restTemplate.getForObject(url, SeriesDetailResponse.class);
-            if (response != null) seriesDetailCache.put(id, response);
-            return response;
-        } catch (Exception e) {
-            log.error("❌ Error fetching series details for {}: {}", id, e.getMessage());
-            return null;
-        }
+    public SerializedSnapshot getSeriesSnapshot() {
+        return seriesSnapshot;
+    }
+
+    public SerializedSnapshot getCountriesSnapshot() {
+        return countriesSnapshot;
+    }
+
+    public SerializedSnapshot getPlayersSnapshot() {
+        return playersSnapshot;
+    }
+
+    public SerializedSnapshot getSeriesDetailSnapshot(String id) {
+        return seriesDetailCache.getSnapshot(id);
+    }
+
+    public PageResponse<Series> getSeriesPage(LocalDate from, LocalDate to, String format,
+                                              String cursor, int limit) {
+        return seriesCatalog.page(from, to, SeriesCatalog.parseFormat(format), cursor, limit);
+    }
+
+    /**
+     * Archived (completed) match ids played between the two days, inclusive.
+     */
+    public List<Long> getArchivedMatches(LocalDate from, LocalDate to) {
+        return matchArchive.matchesBetween(from, to);
+    }
+
+    public PageResponse<Player> getPlayerPage(String country, String cursor, int limit) {
+        return playerCatalog.page(country, cursor, limit);
+    }
+
+    public List<Player> searchPlayers(String query, int limit) {
+        return playerIndex.search(query, limit);
+    }
+
+    /**
+     * Top run-scorers / wicket-takers of a Cricbuzz series, served from memory.
+     */
+    public SeriesLeaderboard getSeriesLeaderboard(long seriesId, int limit) {
+        return leaderboardEngine.leaderboard(seriesId, limit);
+    }
+
+    public SeriesDetailResponse getSeriesDetail(String id) {
+        return seriesDetailCache.get(id);
+    }
+
+    // CricAPI returns "data", some Cricbuzz-style payloads use "player"
+    public static List<Player> playersOf(PlayerListResponse response) {
+        if (response.getData() != null) return response.getData();
+        if (response.getPlayer() != null) return response.getPlayer();
+        return List.of();
     }
 
     /* =========================================================
@@ -1,5 +1,6 @@
 package com.cricsphere.service;
 
+import com.cricsphere.util.RequestDeadline;
 import com.google.cloud.firestore.Firestore;
 import com.google.firebase.cloud.FirestoreClient;
 import lombok.AllArgsConstructor;
@@ -12,6 +13,8 @@ import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -23,9 +26,16 @@ public class FirestoreCacheService {
         return FirestoreClient.getFirestore();
     }
 
+    private static final long READ_TIMEOUT_MILLIS = 5_000L;
+
+    /**
+     * Cached entry (fresh or expired), or null. Waits at most what is left of
+     * the current request's deadline.
+     */
     public CacheEntry get(String key) {
         try {
-            var doc = db().collection(COLLECTION).document(toDocId(key)).get().get();
+            long timeout = Math.min(READ_TIMEOUT_MILLIS, RequestDeadline.remainingOr(READ_TIMEOUT_MILLIS));
+            var doc = db().collection(COLLECTION).document(toDocId(key)).get().get(timeout, TimeUnit.MILLISECONDS);
             if (!doc.exists()) return null;
 
             String body = doc.getString("body");
@@ -41,6 +51,13 @@ public class FirestoreCacheService {
         }
     }
 
+    private static final long WRITE_TIMEOUT_MILLIS = 5_000L;
+
+    /**
+     * Writes an entry. Waits for Firestore's confirmation at most what is left
+     * of the current request's deadline; past that the write completes in the
+     * background and the request moves on.
+     */
     public void set(String key, String body, long ttlMillis) {
         try {
             long expiresAt = System.currentTimeMillis() + ttlMillis;
@@ -50,8 +67,11 @@ public class FirestoreCacheService {
             data.put("expiresAt", expiresAt);
             data.put("updatedAt", Instant.now().toString());
 
-            // ✅ IMPORTANT: wait until Firestore confirms write
-            db().collection(COLLECTION).document(toDocId(key)).set(data).get();
+            long timeout = Math.min(WRITE_TIMEOUT_MILLIS, RequestDeadline.remainingOr(WRITE_TIMEOUT_MILLIS));
+            db().collection(COLLECTION).document(toDocId(key)).set(data).get(Math.max(0L, timeout), TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException e) {
+            log.warn("⏱️ Firestore cache write still pending after deadline: {}", key);
 
         } catch (Exception e) {
             log.warn("⚠️ Firestore cache write failed: {}", e.getMessage());
@@ -0,0 +1,143 @@
+package com.cricsphere.service;
+
+import com.cricsphere.util.FieldPathFilter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * "?fields=" projection over cached JSON bodies.
+ * - Streams tokens through a Jackson filter (no tree is built)
+ * - Results are cached per (source key, projection)
+ * - A cached projection is reused only while the source body is unchanged
+ *   (same SHA-256; a 32-bit hash could hand out another body's projection)
+ */
+@Slf4j
+@Service
+public class JsonProjectionService {
+
+    private static final int MAX_PROJECTIONS = 512;
+    private static final int MAX_FILTERS = 128;
+
+    private final JsonFactory jsonFactory;
+
+    private final Map<String, FieldPathFilter> filters = new ConcurrentHashMap<>();
+
+    private final Map<String, Projection> projections = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Projection> eldest) {
+                    return size() > MAX_PROJECTIONS;
+                }
+            }
+    );
+
+    public JsonProjectionService(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Returns only the requested fields of {@code body}.
+     * Falls back to the original body if it isn't JSON or nothing can be projected.
+     */
+    public String project(String sourceKey, String body, String fields) {
+        if (body == null || body.isBlank() || fields == null || fields.isBlank()) return body;
+
+        // Never hide error payloads from the client
+        if (body.startsWith("{\"error\":true")) return body;
+
+        String normalized = normalize(fields);
+        if (normalized.isEmpty()) return body;
+
+        String cacheKey = sourceKey + "|" + normalized;
+        byte[] sourceDigest = digest(body);
+
+        Projection cached = projections.get(cacheKey);
+        if (cached != null && cached.matches(sourceDigest)) {
+            return cached.body();
+        }
+
+        FieldPathFilter filter = compiledFilter(normalized);
+        if (filter == null) return body;
+
+        try {
+            String projected = stream(body, filter);
+            projections.put(cacheKey, new Projection(sourceDigest, projected));
+            return projected;
+        } catch (Exception e) {
+            log.warn("⚠️ Field projection failed for {} | fields={} | {}", sourceKey, normalized, e.getMessage());
+            return body;
+        }
+    }
+
+    private String stream(String body, TokenFilter filter) throws Exception {
+        StringWriter out = new StringWriter(Math.min(body.length(), 8192));
+
+        try (JsonParser parser = new FilteringParserDelegate(
+                     jsonFactory.createParser(body),
+                     filter,
+                     TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH,
+                     true);
+             JsonGenerator generator = jsonFactory.createGenerator(out)) {
+
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEvent(parser);
+            }
+        }
+
+        String projected = out.toString();
+        return projected.isEmpty() ? "{}" : projected;
+    }
+
+    private FieldPathFilter compiledFilter(String normalized) {
+        FieldPathFilter filter = filters.get(normalized);
+        if (filter != null) return filter;
+
+        filter = FieldPathFilter.compile(normalized);
+        if (filter != null) {
+            if (filters.size() >= MAX_FILTERS) filters.clear();
+            filters.put(normalized, filter);
+        }
+        return filter;
+    }
+
+    // "b, a,a" and "a,b" are the same projection
+    private String normalize(String fields) {
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static byte[] digest(String body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    private record Projection(byte[] sourceDigest, String body) {
+        boolean matches(byte[] digest) {
+            return MessageDigest.isEqual(sourceDigest, digest);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.cricsphere.service;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.MatchPhase;
+import com.cricsphere.model.MatchResource;
+import com.cricsphere.model.MatchState;
+import com.cricsphere.model.MatchSummary;
+import com.cricsphere.store.MatchArchive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Freezes match-center payloads of completed matches into the {@link MatchArchive}
+ * as they are fetched, so they are never fetched again.
+ *
+ * A body is final when it says the match is complete itself, or, when it
+ * carries no state at all (squads, highlights...), when the match is known
+ * complete from its lifecycle / the feeds. A scorecard must say so itself:
+ * one fetched just before the result would otherwise be frozen half-done.
+ */
+@Slf4j
+@Component
+public class MatchArchiver {
+
+    private static final String MATCH_CENTER = "/mcenter/v1/";
+
+    private final CricketService cricketService;
+    private final MatchArchive archive;
+    private final MatchTtlPolicy matchTtlPolicy;
+    private final MatchLifecycleTracker lifecycle;
+    private final MatchSnapshotService matchSnapshots;
+
+    public MatchArchiver(CricketService cricketService,
+                         MatchArchive archive,
+                         MatchTtlPolicy matchTtlPolicy,
+                         MatchLifecycleTracker lifecycle,
+                         MatchSnapshotService matchSnapshots) {
+        this.cricketService = cricketService;
+        this.archive = archive;
+        this.matchTtlPolicy = matchTtlPolicy;
+        this.lifecycle = lifecycle;
+        this.matchSnapshots = matchSnapshots;
+    }
+
+    @EventListener
+    public void onUpstreamBodyStored(UpstreamBodyStoredEvent event) {
+        String url = event.url();
+        if (url == null || !url.contains(MATCH_CENTER)) return;
+
+        String id = matchIdOf(url);
+        MatchResource resource = resourceOf(url, id);
+        if (resource == null) return;
+
+        try {
+            long matchId = Long.parseLong(id);
+            MatchArchive.Entry entry = archive.entry(matchId);
+            if (entry != null && entry.resources().contains(resource)) return;
+
+            MatchTtlPolicy.Probe probe = matchTtlPolicy.probe(event.body());
+            if (!isFinal(matchId, resource, probe)) return;
+
+            if (archive.put(matchId, matchDay(matchId, probe), resource, event.body())) {
+                log.info("🗄️ Archived {} of completed match {}", resource, matchId);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Could not archive {}: {}", url, e.getMessage());
+        }
+    }
+
+    private boolean isFinal(long matchId, MatchResource resource, MatchTtlPolicy.Probe probe) {
+        if (probe.phase() == MatchPhase.COMPLETE) return true;
+        if (probe.phase() != MatchPhase.UNKNOWN || resource == MatchResource.SCORECARD) return false;
+
+        if (lifecycle.stateOf(matchId) == MatchState.COMPLETE) return true;
+        MatchSummary summary = matchSnapshots.findMatch(matchId);
+        return summary != null && MatchState.classify(summary.state(), summary.status()) == MatchState.COMPLETE;
+    }
+
+    // Start day of the match (UTC): from the payload, else the feeds, else today
+    private LocalDate matchDay(long matchId, MatchTtlPolicy.Probe probe) {
+        long start = probe.startMillis();
+        if (start <= 0) {
+            MatchSummary summary = matchSnapshots.findMatch(matchId);
+            if (summary != null) start = summary.startDate();
+        }
+        return (start > 0)
+                ? Instant.ofEpochMilli(start).atZone(ZoneOffset.UTC).toLocalDate()
+                : LocalDate.now(ZoneOffset.UTC);
+    }
+
+    private MatchResource resourceOf(String url, String matchId) {
+        if (matchId == null) return null;
+        for (MatchResource resource : MatchResource.values()) {
+            if (url.equals(cricketService.matchCenterUrl(resource, matchId))) return resource;
+        }
+        return null;
+    }
+
+    private static String matchIdOf(String url) {
+        int from = url.indexOf(MATCH_CENTER) + MATCH_CENTER.length();
+        int to = url.indexOf('/', from);
+        String id = url.substring(from, to < 0 ? url.length() : to);
+        return id.isEmpty() ? null : id;
+    }
+}
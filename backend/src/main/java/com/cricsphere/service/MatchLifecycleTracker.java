@@ -0,0 +1,127 @@
+package com.cricsphere.service;
+
+import com.cricsphere.model.MatchState;
+import com.cricsphere.model.MatchSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-match {@link MatchState} machine, fed from the cached feed snapshots
+ * (no upstream calls of its own).
+ *
+ * - recent feed first, then live: a match listed complete in recent can't be
+ *   revived by a live body that is a few seconds older
+ * - upcoming matches are only tracked once their start is within the horizon
+ * - transitions follow {@link MatchState#canMoveTo}; unreadable states keep the last one
+ * - a match is dropped once it has been out of every feed (or complete with its
+ *   final snapshot taken) for the retention period
+ */
+@Slf4j
+@Component
+public class MatchLifecycleTracker {
+
+    private final MatchSnapshotService matchSnapshots;
+    private final long scheduledHorizonMillis;
+    private final long retentionMillis;
+
+    private final Map<Long, Lifecycle> matches = new ConcurrentHashMap<>();
+
+    public MatchLifecycleTracker(MatchSnapshotService matchSnapshots,
+                                 @Value("${cricsphere.lifecycle.scheduled-horizon-millis:3600000}") long scheduledHorizonMillis,
+                                 @Value("${cricsphere.lifecycle.retention-millis:21600000}") long retentionMillis) {
+        this.matchSnapshots = matchSnapshots;
+        this.scheduledHorizonMillis = scheduledHorizonMillis;
+        this.retentionMillis = retentionMillis;
+    }
+
+    /**
+     * Where a match is in its lifecycle, as of the last {@link #observe(long)}.
+     *
+     * @param since              when the current state was entered
+     * @param lastSeen           last time a feed listed the match
+     * @param finalSnapshotTaken the frozen scorecard of a complete match is stored
+     */
+    public record Lifecycle(long matchId, MatchState state, long since, long lastSeen, boolean finalSnapshotTaken) {
+
+        Lifecycle seen(long now) {
+            return new Lifecycle(matchId, state, since, now, finalSnapshotTaken);
+        }
+
+        Lifecycle movedTo(MatchState next, long now) {
+            return new Lifecycle(matchId, next, now, now, false);
+        }
+
+        Lifecycle withFinalSnapshot() {
+            return new Lifecycle(matchId, state, since, lastSeen, true);
+        }
+    }
+
+    public record Transition(long matchId, MatchState from, MatchState to) {
+    }
+
+    /**
+     * Folds the current feed snapshots into the per-match states.
+     *
+     * @return transitions made by this pass (new matches have {@code from == null})
+     */
+    public synchronized List<Transition> observe(long now) {
+        List<Transition> transitions = new ArrayList<>();
+
+        for (MatchSummary m : matchSnapshots.getSummaries(MatchSnapshotService.Feed.RECENT)) {
+            apply(m, now, transitions);
+        }
+        for (MatchSummary m : matchSnapshots.getSummaries(MatchSnapshotService.Feed.LIVE)) {
+            apply(m, now, transitions);
+        }
+        for (MatchSummary m : matchSnapshots.getSummaries(MatchSnapshotService.Feed.UPCOMING)) {
+            if (m.startDate() > 0 && m.startDate() - now <= scheduledHorizonMillis) apply(m, now, transitions);
+        }
+
+        matches.values().removeIf(l -> now - l.lastSeen() > retentionMillis
+                || (l.finalSnapshotTaken() && now - l.since() > retentionMillis));
+        return transitions;
+    }
+
+    public Collection<Lifecycle> tracked() {
+        return Collections.unmodifiableCollection(matches.values());
+    }
+
+    public MatchState stateOf(long matchId) {
+        Lifecycle l = matches.get(matchId);
+        return (l != null) ? l.state() : null;
+    }
+
+    public void markFinalSnapshot(long matchId) {
+        matches.computeIfPresent(matchId, (id, l) -> l.state() == MatchState.COMPLETE ? l.withFinalSnapshot() : l);
+    }
+
+    private void apply(MatchSummary m, long now, List<Transition> transitions) {
+        MatchState observed = MatchState.classify(m.state(), m.status());
+        Lifecycle current = matches.get(m.matchId());
+
+        if (current == null) {
+            if (observed == null) return;
+            // Old results in the recent feed: nothing left to poll (only just-finished ones get a final scorecard)
+            if (observed == MatchState.COMPLETE && m.endDate() < now - retentionMillis) return;
+            matches.put(m.matchId(), new Lifecycle(m.matchId(), observed, now, now, false));
+            transitions.add(new Transition(m.matchId(), null, observed));
+            return;
+        }
+
+        if (current.state().canMoveTo(observed)) {
+            matches.put(m.matchId(), current.movedTo(observed, now));
+            transitions.add(new Transition(m.matchId(), current.state(), observed));
+            log.info("🔄 Match {} | {} -> {}", m.matchId(), current.state(), observed);
+        } else {
+            matches.put(m.matchId(), current.seen(now));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.cricsphere.service;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.MatchResource;
+import com.cricsphere.model.MatchState;
+import com.cricsphere.quota.QuotaClass;
+import com.cricsphere.quota.QuotaScheduler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh-ahead for tracked matches, paced by their {@link MatchState}.
+ *
+ * Every tick, the {@link MatchLifecycleTracker} is advanced from the cached
+ * feeds, and each match's state picks the resources to keep warm (commentary
+ * only while in play, a lighter set during breaks and rain) and how often.
+ * A resource is due when it expires before the next tick (plus a margin) and
+ * its state's cadence has elapsed since the last refresh; due resources are
+ * fetched soonest-expiring first, so users keep hitting a fresh cache.
+ * A match that completes gets one final scorecard fetch, stored frozen.
+ *
+ * Spending guards:
+ * - at most {@code max-per-tick} fetches per tick
+ * - a resource is only fetched while its quota class keeps {@code reserve-calls}
+ *   of headroom for user traffic
+ * - nothing is prefetched while the day's quota is forecast to run out
+ * Every fetch goes through the normal quota / breaker / bulkhead path.
+ *
+ * Ticks run on their own thread: a tick blocks on upstream fetches and must
+ * not hold up the shared @Scheduled thread (quota lease heartbeats etc.).
+ */
+@Slf4j
+@Component
+public class MatchPrefetchScheduler {
+
+    /* A scorecard stored for longer than this is the frozen, final one */
+    private static final long FINAL_AHEAD_MILLIS = MatchTtlPolicy.FROZEN_TTL / 2;
+
+    private final CricketService cricketService;
+    private final MatchLifecycleTracker lifecycle;
+    private final QuotaScheduler quotaScheduler;
+
+    private final boolean enabled;
+    private final long intervalMillis;
+    private final long initialDelayMillis;
+    private final long leadMillis;
+    private final int maxPerTick;
+    private final int reserveCalls;
+
+    /* match-center URL -> expiry of the copy last stored (unknown = due) */
+    private final Map<String, Long> expiresAtByUrl = new ConcurrentHashMap<>();
+
+    /* match-center URL -> last prefetch attempt (state cadence) */
+    private final Map<String, Long> attemptedAtByUrl = new ConcurrentHashMap<>();
+
+    /* final scorecard URL -> match, until a frozen copy is stored */
+    private final Map<String, Long> pendingFinal = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "match-prefetch");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public MatchPrefetchScheduler(CricketService cricketService,
+                                  MatchLifecycleTracker lifecycle,
+                                  QuotaScheduler quotaScheduler,
+                                  @Value("${cricsphere.prefetch.enabled:true}") boolean enabled,
+                                  @Value("${cricsphere.prefetch.interval-millis:15000}") long intervalMillis,
+                                  @Value("${cricsphere.prefetch.initial-delay-millis:60000}") long initialDelayMillis,
+                                  @Value("${cricsphere.prefetch.max-per-tick:6}") int maxPerTick,
+                                  @Value("${cricsphere.prefetch.reserve-calls:10}") int reserveCalls) {
+        this.cricketService = cricketService;
+        this.lifecycle = lifecycle;
+        this.quotaScheduler = quotaScheduler;
+        this.enabled = enabled;
+        this.intervalMillis = intervalMillis;
+        this.initialDelayMillis = initialDelayMillis;
+        // Due if it would expire before the next tick has had a chance to run
+        this.leadMillis = intervalMillis + 5_000L;
+        this.maxPerTick = maxPerTick;
+        this.reserveCalls = reserveCalls;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+        ticker.scheduleWithFixedDelay(this::tick, initialDelayMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    void tick() {
+        try {
+            int fetched = prefetch(System.currentTimeMillis());
+            if (fetched > 0) log.info("⏩ Prefetched {} live match resources", fetched);
+        } catch (Exception e) {
+            log.warn("⚠️ Live prefetch failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Keeps expiries current, including bodies stored by user requests.
+     */
+    @EventListener
+    public void onUpstreamBodyStored(UpstreamBodyStoredEvent event) {
+        if (event.url() == null || !event.url().contains("/mcenter/v1/")) return;
+
+        expiresAtByUrl.put(event.url(), event.expiresAt());
+        if (event.expiresAt() - System.currentTimeMillis() > FINAL_AHEAD_MILLIS) finalStored(event.url());
+    }
+
+    /**
+     * One pass over the tracked matches.
+     *
+     * @return upstream fetches attempted
+     */
+    int prefetch(long now) {
+        lifecycle.observe(now);
+        if (quotaScheduler.exhaustionFactor() > 1.0) return 0;
+
+        List<Due> due = new ArrayList<>();
+        Set<String> tracked = new HashSet<>();
+        for (MatchLifecycleTracker.Lifecycle match : lifecycle.tracked()) {
+            String id = String.valueOf(match.matchId());
+            MatchState state = match.state();
+            if (state == MatchState.COMPLETE && match.finalSnapshotTaken()) continue;
+
+            for (MatchResource resource : state.resources()) {
+                String url = cricketService.matchCenterUrl(resource, id);
+                tracked.add(url);
+
+                long attemptedAt = attemptedAtByUrl.getOrDefault(url, 0L);
+                if (now - attemptedAt < state.cadenceMillis()) continue;
+
+                if (state == MatchState.COMPLETE) {
+                    // Whatever is cached was stored while in play: fetch the final one now
+                    pendingFinal.put(url, match.matchId());
+                    due.add(new Due(id, resource, url, 0L, FINAL_AHEAD_MILLIS));
+                    continue;
+                }
+
+                long expiresAt = expiresAtByUrl.getOrDefault(url, 0L);
+                if (expiresAt - now <= leadMillis) {
+                    due.add(new Due(id, resource, url, expiresAt, leadMillis));
+                }
+            }
+        }
+        // Matches that dropped out are refetched on demand only
+        expiresAtByUrl.keySet().retainAll(tracked);
+        attemptedAtByUrl.keySet().retainAll(tracked);
+        pendingFinal.keySet().retainAll(tracked);
+
+        due.sort(Comparator.comparingLong(Due::expiresAt));
+
+        int fetched = 0;
+        for (Due d : due) {
+            if (fetched >= maxPerTick) break;
+            if (quotaScheduler.headroom(QuotaClass.of(d.url)) <= reserveCalls) continue;
+
+            attemptedAtByUrl.put(d.url, now);
+            long expiresAt = cricketService.prefetchMatchCenter(d.resource, d.matchId, d.aheadMillis);
+            if (expiresAt > 0) {
+                // Still fresh enough in the shared cache (another node refreshed it)
+                expiresAtByUrl.put(d.url, expiresAt);
+                if (d.aheadMillis == FINAL_AHEAD_MILLIS) finalStored(d.url);
+            } else {
+                fetched++;
+            }
+        }
+        return fetched;
+    }
+
+    private void finalStored(String url) {
+        Long matchId = pendingFinal.remove(url);
+        if (matchId == null) return;
+
+        lifecycle.markFinalSnapshot(matchId);
+        log.info("🏁 Final scorecard frozen | match={}", matchId);
+    }
+
+    private record Due(String matchId, MatchResource resource, String url, long expiresAt, long aheadMillis) {
+    }
+}
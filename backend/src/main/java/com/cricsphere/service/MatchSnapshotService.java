@@ -0,0 +1,283 @@
+package com.cricsphere.service;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.InningsScore;
+import com.cricsphere.model.MatchFeedSnapshot;
+import com.cricsphere.model.MatchSummary;
+import com.cricsphere.model.TeamScore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Typed, compact snapshots of the Cricbuzz live / recent / upcoming feeds.
+ * - Each refreshed upstream body is parsed exactly once
+ * - Summary requests are served from the snapshot (cost independent of document size)
+ * - The raw body is only re-read (from cache) after the feed's revalidation interval
+ */
+@Slf4j
+@Service
+public class MatchSnapshotService {
+
+    public enum Feed {
+        LIVE("/matches/v1/live", 30 * 1000L),
+        RECENT("/matches/v1/recent", 5 * 60 * 1000L),
+        UPCOMING("/matches/v1/upcoming", 5 * 60 * 1000L);
+
+        private final String path;
+        private final long revalidateMillis;
+
+        Feed(String path, long revalidateMillis) {
+            this.path = path;
+            this.revalidateMillis = revalidateMillis;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Feed, FeedHolder> holders = new EnumMap<>(Feed.class);
+
+
+    public MatchSnapshotService(CricketService cricketService, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+
+        holders.put(Feed.LIVE, new FeedHolder(cricketService::getLiveMatches));
+        holders.put(Feed.RECENT, new FeedHolder(cricketService::getRecentMatches));
+        holders.put(Feed.UPCOMING, new FeedHolder(cricketService::getUpcomingMatches));
+    }
+
+    /* =========================================================
+        Public API
+    ========================================================= */
+    public MatchFeedSnapshot getSnapshot(Feed feed) {
+        FeedHolder holder = holders.get(feed);
+        MatchFeedSnapshot current = holder.snapshot;
+
+        boolean due = current == null
+                || System.currentTimeMillis() - holder.checkedAt > feed.revalidateMillis;
+
+        if (due && holder.revalidating.compareAndSet(false, true)) {
+            try {
+                revalidate(feed, holder);
+            } finally {
+                holder.revalidating.set(false);
+            }
+        }
+
+        MatchFeedSnapshot snapshot = holder.snapshot;
+        return snapshot != null ? snapshot : emptySnapshot(feed);
+    }
+
+    public List<MatchSummary> getSummaries(Feed feed) {
+        return getSnapshot(feed).matches();
+    }
+
+    /**
+     * Looks a match up across all feeds (live first).
+     */
+    public MatchSummary findMatch(long matchId) {
+        for (Feed feed : Feed.values()) {
+            for (MatchSummary match : getSnapshot(feed).matches()) {
+                if (match.matchId() == matchId) return match;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Like {@link #findMatch} but only in snapshots already held: never
+     * revalidates a feed, so it never costs an upstream call.
+     */
+    public MatchSummary findHeldMatch(long matchId) {
+        for (Feed feed : Feed.values()) {
+            MatchFeedSnapshot snapshot = holders.get(feed).snapshot;
+            if (snapshot == null) continue;
+            for (MatchSummary match : snapshot.matches()) {
+                if (match.matchId() == matchId) return match;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rebuilds a feed snapshot as soon as RapidApiClient stores a fresh body.
+     */
+    @EventListener
+    public void onUpstreamBodyStored(UpstreamBodyStoredEvent event) {
+        for (Feed feed : Feed.values()) {
+            if (event.isFor(feed.path)) {
+                FeedHolder holder = holders.get(feed);
+                install(feed, holder, event.body());
+                return;
+            }
+        }
+    }
+
+    /* =========================================================
+        Snapshot lifecycle
+    ========================================================= */
+    private void revalidate(Feed feed, FeedHolder holder) {
+        try {
+            String body = holder.loader.get();
+            install(feed, holder, body);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not revalidate {} snapshot: {}", feed, e.getMessage());
+        } finally {
+            holder.checkedAt = System.currentTimeMillis();
+        }
+    }
+
+    private void install(Feed feed, FeedHolder holder, String body) {
+        if (body == null || body.isBlank()) return;
+
+        MatchFeedSnapshot current = holder.snapshot;
+        if (current != null && current.isFrom(body)) return;
+
+        // Keep the last good snapshot instead of an error payload
+        if (body.startsWith("{\"error\":true")) return;
+
+        try {
+            StringPool pool = new StringPool(holder.pool);
+            List<MatchSummary> matches = parse(body, pool);
+            holder.snapshot = new MatchFeedSnapshot(
+                    feed.name().toLowerCase(),
+                    Collections.unmodifiableList(matches),
+                    System.currentTimeMillis(),
+                    body.hashCode(),
+                    body.length()
+            );
+            holder.pool = pool.strings;
+            holder.checkedAt = System.currentTimeMillis();
+            log.info("🧩 {} snapshot rebuilt | matches={}", feed, matches.size());
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to parse {} feed: {}", feed, e.getMessage());
+        }
+    }
+
+    private MatchFeedSnapshot emptySnapshot(Feed feed) {
+        return new MatchFeedSnapshot(feed.name().toLowerCase(), List.of(), 0L, 0, -1);
+    }
+
+    /* =========================================================
+        Parsing (once per refresh)
+    ========================================================= */
+    private List<MatchSummary> parse(String body, StringPool pool) throws Exception {
+        JsonNode root = objectMapper.readTree(body);
+        List<MatchSummary> result = new ArrayList<>();
+
+        for (JsonNode typeMatch : root.path("typeMatches")) {
+            for (JsonNode seriesMatch : typeMatch.path("seriesMatches")) {
+                for (JsonNode match : seriesMatch.path("seriesAdWrapper").path("matches")) {
+                    MatchSummary summary = toSummary(match, pool);
+                    if (summary != null) result.add(summary);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private MatchSummary toSummary(JsonNode match, StringPool pool) {
+        JsonNode info = match.path("matchInfo");
+        long matchId = info.path("matchId").asLong(0);
+        if (matchId == 0) return null;
+
+        JsonNode score = match.path("matchScore");
+        JsonNode venue = info.path("venueInfo");
+
+        return new MatchSummary(
+                matchId,
+                info.path("seriesId").asLong(0),
+                pool.intern(info.path("seriesName").asText(null)),
+                info.path("matchDesc").asText(null),
+                pool.intern(info.path("matchFormat").asText(null)),
+                pool.intern(info.path("state").asText(null)),
+                info.path("status").asText(null),
+                parseLong(info.path("startDate")),
+                parseLong(info.path("endDate")),
+                pool.intern(venue.path("ground").asText(null)),
+                pool.intern(venue.path("city").asText(null)),
+                toTeam(info.path("team1"), score.path("team1Score"), pool),
+                toTeam(info.path("team2"), score.path("team2Score"), pool)
+        );
+    }
+
+    private TeamScore toTeam(JsonNode team, JsonNode teamScore, StringPool pool) {
+        if (team.isMissingNode()) return null;
+
+        return new TeamScore(
+                team.path("teamId").asInt(0),
+                pool.intern(team.path("teamName").asText(null)),
+                pool.intern(team.path("teamSName").asText(null)),
+                toInnings(teamScore.path("inngs1")),
+                toInnings(teamScore.path("inngs2"))
+        );
+    }
+
+    private InningsScore toInnings(JsonNode innings) {
+        if (innings.isMissingNode() || innings.isNull()) return null;
+
+        return new InningsScore(
+                innings.path("runs").asInt(0),
+                innings.path("wickets").asInt(0),
+                innings.path("overs").asDouble(0)
+        );
+    }
+
+    // Cricbuzz sends epoch millis as strings
+    private long parseLong(JsonNode node) {
+        if (node.isNumber()) return node.asLong();
+        try {
+            return Long.parseLong(node.asText("0"));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /*
+     * Team / series names repeat across snapshots -> share one instance.
+     * Each snapshot gets a new pool seeded only from the previous snapshot's,
+     * so strings that left the feed are dropped with it.
+     */
+    private static final class StringPool {
+        private final Map<String, String> previous;
+        private final Map<String, String> strings = new HashMap<>();
+
+        private StringPool(Map<String, String> previous) {
+            this.previous = previous;
+        }
+
+        private String intern(String value) {
+            if (value == null) return null;
+            String existing = strings.get(value);
+            if (existing != null) return existing;
+
+            String shared = previous.getOrDefault(value, value);
+            strings.put(shared, shared);
+            return shared;
+        }
+    }
+
+    private static final class FeedHolder {
+        private final Supplier<String> loader;
+        private final AtomicBoolean revalidating = new AtomicBoolean(false);
+        private volatile MatchFeedSnapshot snapshot;
+        private volatile Map<String, String> pool = Map.of();
+        private volatile long checkedAt;
+
+        private FeedHolder(Supplier<String> loader) {
+            this.loader = loader;
+        }
+    }
+}
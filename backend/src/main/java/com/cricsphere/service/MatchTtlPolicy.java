@@ -0,0 +1,177 @@
+package com.cricsphere.service;
+
+import com.cricsphere.model.MatchPhase;
+import com.cricsphere.model.MatchSummary;
+import com.cricsphere.quota.QuotaClass;
+import com.cricsphere.quota.QuotaScheduler;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * TTLs for match-center payloads, decided when a fresh body is stored:
+ *
+ * - COMPLETE : frozen (never refetched)
+ * - SCHEDULED: half the time to the start, between 30 min and 6 h
+ * - BREAK    : 5 min (innings break, stumps, rain...)
+ * - IN_PLAY  : the shortest TTL the live quota headroom can sustain until the
+ *              reset, given how many live URLs are being kept fresh
+ *
+ * The match state comes from the payload itself, falling back to the
+ * live/recent/upcoming feed snapshots. Non-live TTLs are also stretched
+ * by the quota forecast ({@link QuotaScheduler#stretchTtl}).
+ */
+@Slf4j
+@Component
+public class MatchTtlPolicy {
+
+    public static final long FROZEN_TTL = 10L * 365 * 24 * 60 * 60 * 1000L;
+
+    static final long MIN_LIVE_TTL = 30 * 1000L;
+    static final long MAX_LIVE_TTL = 10 * 60 * 1000L;
+    static final long BREAK_TTL = 5 * 60 * 1000L;
+    static final long MIN_SCHEDULED_TTL = 30 * 60 * 1000L;
+    static final long MAX_SCHEDULED_TTL = 6 * 60 * 60 * 1000L;
+    static final long UNKNOWN_TTL = 10 * 60 * 1000L;
+
+    /* A live URL counts as "being kept fresh" if it was stored this recently */
+    private static final long ACTIVE_WINDOW = 15 * 60 * 1000L;
+
+    private final QuotaScheduler quotaScheduler;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<MatchSnapshotService> matchSnapshots;
+
+    /* live URL -> last time it was stored */
+    private final Map<String, Long> activeLiveUrls = new ConcurrentHashMap<>();
+
+    public MatchTtlPolicy(QuotaScheduler quotaScheduler,
+                          ObjectMapper objectMapper,
+                          ObjectProvider<MatchSnapshotService> matchSnapshots) {
+        this.quotaScheduler = quotaScheduler;
+        this.objectMapper = objectMapper;
+        this.matchSnapshots = matchSnapshots;
+    }
+
+    /**
+     * TTL function for one match-center URL, applied to the fetched body.
+     */
+    public ToLongFunction<String> forMatch(String url, String matchId) {
+        return body -> ttlFor(url, matchId, body);
+    }
+
+    long ttlFor(String url, String matchId, String body) {
+        Probe probe = probe(body);
+        MatchPhase phase = probe.phase();
+        long startMillis = probe.startMillis();
+
+        if (phase == MatchPhase.UNKNOWN || startMillis <= 0) {
+            MatchSummary summary = feedSummary(matchId);
+            if (summary != null) {
+                if (phase == MatchPhase.UNKNOWN) phase = MatchPhase.fromState(summary.state());
+                if (startMillis <= 0) startMillis = summary.startDate();
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        if (phase != MatchPhase.IN_PLAY) activeLiveUrls.remove(url);
+
+        long ttl = switch (phase) {
+            case COMPLETE -> FROZEN_TTL;
+            case IN_PLAY -> liveTtl(url, now);
+            case BREAK -> quotaScheduler.stretchTtl(QuotaClass.MATCH_INFO, BREAK_TTL);
+            case SCHEDULED -> quotaScheduler.stretchTtl(QuotaClass.MATCH_INFO, scheduledTtl(startMillis, now));
+            case UNKNOWN -> quotaScheduler.stretchTtl(QuotaClass.MATCH_INFO, UNKNOWN_TTL);
+        };
+
+        log.info("⏱️ Match TTL | match={} | phase={} | ttl={}s", matchId, phase, ttl / 1000);
+        return ttl;
+    }
+
+    /**
+     * Every active live URL is refetched once per TTL until the reset:
+     * calls needed = activeUrls * timeLeft / ttl <= live headroom.
+     */
+    private long liveTtl(String url, long now) {
+        activeLiveUrls.put(url, now);
+        activeLiveUrls.values().removeIf(seen -> now - seen > ACTIVE_WINDOW);
+
+        int headroom = quotaScheduler.headroom(QuotaClass.LIVE);
+        if (headroom <= 0) return MAX_LIVE_TTL;
+
+        long timeLeft = quotaScheduler.millisUntilReset();
+        long sustainable = (long) Math.ceil((double) activeLiveUrls.size() * timeLeft / headroom);
+        return Math.max(MIN_LIVE_TTL, Math.min(MAX_LIVE_TTL, sustainable));
+    }
+
+    private static long scheduledTtl(long startMillis, long now) {
+        if (startMillis <= now) return MIN_SCHEDULED_TTL;
+        long half = (startMillis - now) / 2;
+        return Math.max(MIN_SCHEDULED_TTL, Math.min(MAX_SCHEDULED_TTL, half));
+    }
+
+    private MatchSummary feedSummary(String matchId) {
+        MatchSnapshotService snapshots = matchSnapshots.getIfAvailable();
+        if (snapshots == null) return null;
+        try {
+            return snapshots.findMatch(Long.parseLong(matchId));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /* =========================================================
+        Payload probe (streaming, stops once state and start are known)
+    ========================================================= */
+    Probe probe(String body) {
+        if (body == null || body.isBlank() || body.startsWith("{\"error\":true")) return Probe.NONE;
+
+        String state = null;
+        boolean complete = false;
+        long start = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.FIELD_NAME) continue;
+
+                String field = parser.currentName().toLowerCase(Locale.ROOT);
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    case "state" -> {
+                        if (value == JsonToken.VALUE_STRING && state == null) state = parser.getText();
+                    }
+                    case "ismatchcomplete" -> {
+                        if (value == JsonToken.VALUE_TRUE) complete = true;
+                    }
+                    case "matchstarttimestamp", "startdate" -> {
+                        if (start == 0) start = parser.getValueAsLong(0);
+                    }
+                    default -> {
+                        // keep scanning nested objects
+                    }
+                }
+
+                // The start is wanted as well: it dates archived matches
+                if ((complete || state != null) && start != 0) break;
+            }
+        } catch (Exception e) {
+            return Probe.NONE;
+        }
+
+        MatchPhase phase = complete ? MatchPhase.COMPLETE : MatchPhase.fromState(state);
+        return new Probe(phase, start);
+    }
+
+    record Probe(MatchPhase phase, long startMillis) {
+        static final Probe NONE = new Probe(MatchPhase.UNKNOWN, 0);
+    }
+}
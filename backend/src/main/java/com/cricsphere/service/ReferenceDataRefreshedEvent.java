@@ -0,0 +1,16 @@
+package com.cricsphere.service;
+
+import com.cricsphere.model.CountryListResponse;
+import com.cricsphere.model.PlayerListResponse;
+import com.cricsphere.model.SeriesListResponse;
+
+/**
+ * Published by {@link CricketService} after a CricAPI reference refresh.
+ * A null component means that source was not refreshed this time.
+ */
+public record ReferenceDataRefreshedEvent(
+        SeriesListResponse series,
+        PlayerListResponse players,
+        CountryListResponse countries
+) {
+}
@@ -0,0 +1,150 @@
+package com.cricsphere.service;
+
+import com.cricsphere.integration.CricApiClient;
+import com.cricsphere.model.SeriesDetail;
+import com.cricsphere.model.SeriesDetailResponse;
+import com.cricsphere.search.SeriesCatalog;
+import com.cricsphere.util.LruTtlCache;
+import com.cricsphere.util.LruTtlCache.Loaded;
+import com.cricsphere.util.SerializedSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * CricAPI series details:
+ * L1 bounded LRU (per-entry TTL, single-flight) -> L2 Firestore -> CricAPI.
+ *
+ * TTL depends on the series dates:
+ * - finished series barely change -> long TTL
+ * - running series get new results daily -> short TTL
+ */
+@Slf4j
+@Service
+public class SeriesDetailCache {
+
+    private static final long TTL_RUNNING  = 60 * 60 * 1000L;
+    private static final long TTL_UPCOMING = 24 * 60 * 60 * 1000L;
+    private static final long TTL_FINISHED = 7L * 24 * 60 * 60 * 1000L;
+
+    private static final String KEY_PREFIX = "cricapi:series_info:";
+
+    private final CricApiClient cricApi;
+    private final FirestoreCacheService firestoreCacheService;
+    private final ObjectMapper objectMapper;
+    private final LruTtlCache<Entry> cache;
+
+    public SeriesDetailCache(CricApiClient cricApi,
+                             FirestoreCacheService firestoreCacheService,
+                             ObjectMapper objectMapper,
+                             @Value("${cricapi.series-detail.max-entries:500}") int maxEntries) {
+        this.cricApi = cricApi;
+        this.firestoreCacheService = firestoreCacheService;
+        this.objectMapper = objectMapper;
+        this.cache = new LruTtlCache<>(maxEntries);
+    }
+
+    public SeriesDetailResponse get(String id) {
+        Entry entry = load(id);
+        return (entry != null) ? entry.response() : null;
+    }
+
+    public SerializedSnapshot getSnapshot(String id) {
+        Entry entry = load(id);
+        return (entry != null) ? entry.snapshot() : null;
+    }
+
+    /**
+     * True if the entry is missing or expires within {@code withinMillis}.
+     */
+    public boolean needsRefresh(String id, long withinMillis) {
+        Long remaining = cache.remainingTtl(id);
+        return remaining == null || remaining < withinMillis;
+    }
+
+    /**
+     * Background prefetch: reloads from CricAPI before the entry expires.
+     */
+    public void prefetch(String id) {
+        Loaded<Entry> loaded = fetchFromCricApi(id, null);
+        if (loaded != null) cache.put(id, loaded.value(), loaded.ttlMillis());
+    }
+
+    private Entry load(String id) {
+        if (id == null || id.isBlank()) return null;
+        return cache.get(id, this::loadThrough);
+    }
+
+    private Loaded<Entry> loadThrough(String id) {
+        String key = KEY_PREFIX + id;
+
+        // 1) L2: persistent Firestore tier (shared with RapidAPI data)
+        FirestoreCacheService.CacheEntry stored = firestoreCacheService.get(key);
+        if (stored != null && !firestoreCacheService.isExpired(stored)) {
+            Entry entry = fromJson(stored.getBody());
+            if (entry != null) {
+                long remaining = stored.getExpiresAt() - System.currentTimeMillis();
+                return new Loaded<>(entry, remaining);
+            }
+        }
+
+        // 2) CricAPI
+        return fetchFromCricApi(id, stored);
+    }
+
+    private Loaded<Entry> fetchFromCricApi(String id, FirestoreCacheService.CacheEntry stored) {
+        String key = KEY_PREFIX + id;
+        try {
+            SeriesDetailResponse response = cricApi.fetchSeriesInfo(id);
+            if (response == null || response.getData() == null) {
+                return staleOrNull(stored);
+            }
+
+            SerializedSnapshot snapshot = SerializedSnapshot.of(objectMapper, response);
+            if (snapshot == null) return staleOrNull(stored);
+
+            long ttl = ttlFor(response.getData());
+            firestoreCacheService.set(key, new String(snapshot.json(), StandardCharsets.UTF_8), ttl);
+
+            log.info("📚 Series detail loaded from CricAPI | id={} | ttl={}h", id, ttl / 3_600_000);
+            return new Loaded<>(new Entry(response, snapshot), ttl);
+        } catch (Exception e) {
+            log.error("❌ Error fetching series details for {}: {}", id, e.getMessage());
+            return staleOrNull(stored);
+        }
+    }
+
+    // Serve the expired L2 copy briefly instead of nothing
+    private Loaded<Entry> staleOrNull(FirestoreCacheService.CacheEntry stored) {
+        if (stored == null) return null;
+        Entry entry = fromJson(stored.getBody());
+        return (entry != null) ? new Loaded<>(entry, 5 * 60 * 1000L) : null;
+    }
+
+    private Entry fromJson(String json) {
+        try {
+            SeriesDetailResponse response = objectMapper.readValue(json, SeriesDetailResponse.class);
+            SerializedSnapshot snapshot = SerializedSnapshot.of(objectMapper, response);
+            return (snapshot != null) ? new Entry(response, snapshot) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private long ttlFor(SeriesDetail detail) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = SeriesCatalog.parseStart(detail.getStartDate());
+        LocalDate end = SeriesCatalog.parseEnd(detail.getEndDate(), start);
+
+        if (end != null && end.isBefore(today)) return TTL_FINISHED;
+        if (start != null && start.isAfter(today)) return TTL_UPCOMING;
+        return TTL_RUNNING;
+    }
+
+    private record Entry(SeriesDetailResponse response, SerializedSnapshot snapshot) {
+    }
+}
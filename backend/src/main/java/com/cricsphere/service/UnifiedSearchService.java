@@ -0,0 +1,202 @@
+package com.cricsphere.service;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.*;
+import com.cricsphere.search.SearchDocument;
+import com.cricsphere.search.UnifiedSearchIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Feeds the {@link UnifiedSearchIndex} from data we already hold:
+ * - CricAPI reference data (series, players, countries) on every daily refresh
+ * - RapidAPI team / venue / match payloads whenever RapidApiClient stores a fresh body
+ *
+ * Searching never calls upstream.
+ */
+@Slf4j
+@Service
+public class UnifiedSearchService {
+
+    private static final Pattern TEAM_LIST    = Pattern.compile("/teams/v1/(international|league|domestic|women)");
+    private static final Pattern TEAM_PLAYERS = Pattern.compile("/teams/v1/(\\d+)/players");
+    private static final Pattern VENUE_INFO   = Pattern.compile("/venues/v1/(\\d+)");
+
+    private final CricketService cricketService;
+    private final ObjectMapper objectMapper;
+
+    private final UnifiedSearchIndex index = new UnifiedSearchIndex();
+
+    public UnifiedSearchService(CricketService cricketService, ObjectMapper objectMapper) {
+        this.cricketService = cricketService;
+        this.objectMapper = objectMapper;
+    }
+
+    public SearchResultPage search(String query, String type, int page, int size) {
+        return index.search(query, type, page, size);
+    }
+
+    /* =========================================================
+        CricAPI reference data
+    ========================================================= */
+
+    // Initial refresh runs in @PostConstruct, before listeners are registered
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedFromReferenceData() {
+        onReferenceDataRefreshed(new ReferenceDataRefreshedEvent(
+                cricketService.getSeriesList(),
+                cricketService.getPlayerList(),
+                cricketService.getCountryList()
+        ));
+    }
+
+    @EventListener
+    public void onReferenceDataRefreshed(ReferenceDataRefreshedEvent event) {
+        if (event.series() != null && event.series().getData() != null) {
+            List<SearchDocument> docs = new ArrayList<>();
+            for (Series s : event.series().getData()) {
+                docs.add(new SearchDocument("series", s.getId(), s.getName(), dateRange(s)));
+            }
+            index.replaceSource("cricapi:series", docs);
+        }
+
+        if (event.players() != null) {
+            List<SearchDocument> docs = new ArrayList<>();
+            for (Player p : CricketService.playersOf(event.players())) {
+                docs.add(new SearchDocument("player", p.getId(), p.getName(), p.getCountry()));
+            }
+            index.replaceSource("cricapi:players", docs);
+        }
+
+        if (event.countries() != null && event.countries().getData() != null) {
+            List<SearchDocument> docs = new ArrayList<>();
+            for (Country c : event.countries().getData()) {
+                docs.add(new SearchDocument("country", c.getId(), c.getName(), null));
+            }
+            index.replaceSource("cricapi:countries", docs);
+        }
+
+        log.info("🔎 Unified search index updated | sources={}, documents={}",
+                index.sourceCount(), index.documentCount());
+    }
+
+    /* =========================================================
+        RapidAPI payloads (incremental, per source)
+    ========================================================= */
+    @EventListener
+    public void onUpstreamBodyStored(UpstreamBodyStoredEvent event) {
+        String path = pathOf(event.url());
+        if (path == null) return;
+
+        try {
+            Matcher m;
+            if ((m = TEAM_LIST.matcher(path)).matches()) {
+                index.replaceSource("rapid:" + path, teamsFromList(readTree(event.body()), m.group(1)));
+            } else if ((m = TEAM_PLAYERS.matcher(path)).matches()) {
+                index.replaceSource("rapid:" + path, playersFromTeam(readTree(event.body())));
+            } else if ((m = VENUE_INFO.matcher(path)).matches()) {
+                index.replaceSource("rapid:" + path, venueFromInfo(readTree(event.body()), m.group(1)));
+            } else if (path.startsWith("/matches/v1/")
+                    || path.endsWith("/schedule")
+                    || path.endsWith("/results")
+                    || path.endsWith("/matches")) {
+                index.replaceSource("rapid:" + path, teamsAndVenuesFromMatches(readTree(event.body())));
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Search indexing skipped for {}: {}", path, e.getMessage());
+        }
+    }
+
+    private List<SearchDocument> teamsFromList(JsonNode root, String category) {
+        List<SearchDocument> docs = new ArrayList<>();
+        for (JsonNode team : root.path("list")) {
+            // Entries without teamId are section headers ("Test Teams")
+            if (!team.hasNonNull("teamId")) continue;
+            docs.add(new SearchDocument("team",
+                    team.path("teamId").asText(),
+                    team.path("teamName").asText(null),
+                    join(team.path("teamSName").asText(null), category)));
+        }
+        return docs;
+    }
+
+    private List<SearchDocument> playersFromTeam(JsonNode root) {
+        List<SearchDocument> docs = new ArrayList<>();
+        for (JsonNode player : root.path("player")) {
+            // Entries without id are role headers ("BATSMEN")
+            if (!player.hasNonNull("id")) continue;
+            docs.add(new SearchDocument("player",
+                    player.path("id").asText(),
+                    player.path("name").asText(null),
+                    player.path("battingStyle").asText(null)));
+        }
+        return docs;
+    }
+
+    private List<SearchDocument> venueFromInfo(JsonNode root, String venueId) {
+        if (!root.hasNonNull("ground")) return List.of();
+        return List.of(new SearchDocument("venue", venueId,
+                root.path("ground").asText(),
+                join(root.path("city").asText(null), root.path("country").asText(null))));
+    }
+
+    private List<SearchDocument> teamsAndVenuesFromMatches(JsonNode root) {
+        List<SearchDocument> docs = new ArrayList<>();
+        for (JsonNode info : root.findValues("matchInfo")) {
+            addTeam(docs, info.path("team1"));
+            addTeam(docs, info.path("team2"));
+
+            JsonNode venue = info.path("venueInfo");
+            if (venue.hasNonNull("id") && venue.hasNonNull("ground")) {
+                docs.add(new SearchDocument("venue",
+                        venue.path("id").asText(),
+                        venue.path("ground").asText(),
+                        venue.path("city").asText(null)));
+            }
+        }
+        return docs;
+    }
+
+    private void addTeam(List<SearchDocument> docs, JsonNode team) {
+        if (!team.hasNonNull("teamId") || !team.hasNonNull("teamName")) return;
+        docs.add(new SearchDocument("team",
+                team.path("teamId").asText(),
+                team.path("teamName").asText(),
+                team.path("teamSName").asText(null)));
+    }
+
+    /* =========================================================
+        Helpers
+    ========================================================= */
+    private JsonNode readTree(String body) throws Exception {
+        return objectMapper.readTree(body);
+    }
+
+    private String pathOf(String url) {
+        try {
+            return URI.create(url).getPath();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private String dateRange(Series s) {
+        return join(s.getStartDate(), s.getEndDate());
+    }
+
+    private String join(String a, String b) {
+        if (a == null || a.isBlank()) return b;
+        if (b == null || b.isBlank()) return a;
+        return a + " " + b;
+    }
+}
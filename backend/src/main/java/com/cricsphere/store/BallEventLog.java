@@ -0,0 +1,409 @@
+package com.cricsphere.store;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.BallEvent;
+import com.cricsphere.model.PageResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, ball-by-ball log per match, in local segment files.
+ *
+ * - every stored COMMENTARY body is diffed against the log: deliveries whose
+ *   ball id is not past the match's high-water mark are duplicates and dropped
+ * - records are [int length][JSON] frames; a segment is closed after
+ *   {@code segment-records} records ({@code <data-dir>/ball-log/<matchId>/<segment>.seg})
+ * - an in-memory offset per record (rebuilt by scanning the files the first time
+ *   a match is touched) lets a page seek straight to its records, so reading
+ *   costs the page, not the log, and never an upstream call
+ * - a torn frame at the tail (crash mid-write) is truncated on load
+ * - only appends create a match's directory; reading a match with nothing
+ *   logged answers an empty page
+ */
+@Slf4j
+@Component
+public class BallEventLog {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int MAX_OPEN_MATCHES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Path root;
+    private final int segmentRecords;
+
+    /*
+     * Offset indexes of recently used matches; evicted ones are rebuilt from disk.
+     * A log in use (see acquire/release) is never evicted, so one match never has
+     * two MatchLogs: a second one's scan could cut a frame still being written.
+     */
+    private final Map<Long, MatchLog> open = new LinkedHashMap<>(16, 0.75f, true);
+
+    public BallEventLog(ObjectMapper objectMapper,
+                        @Value("${cricsphere.data-dir:data}") String dataDir,
+                        @Value("${cricsphere.ball-log.segment-records:512}") int segmentRecords) {
+        this.objectMapper = objectMapper;
+        this.root = Path.of(dataDir).toAbsolutePath().resolve("ball-log");
+        this.segmentRecords = Math.max(1, segmentRecords);
+    }
+
+    /**
+     * Appends the new deliveries of every freshly stored commentary body.
+     */
+    @EventListener
+    public void onUpstreamBodyStored(UpstreamBodyStoredEvent event) {
+        if (!event.isFor("/comm") || !event.url().contains("/mcenter/v1/")) return;
+
+        long matchId = matchIdOf(event.url());
+        if (matchId <= 0) return;
+
+        try {
+            int appended = append(matchId, extract(event.body()));
+            if (appended > 0) log.info("📼 Ball log | match={} | +{} balls", matchId, appended);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not append ball log for match {}: {}", matchId, e.getMessage());
+        }
+    }
+
+    /**
+     * Appends deliveries not logged yet (any order, duplicates allowed).
+     *
+     * @return number of records written
+     */
+    public int append(long matchId, List<BallEvent> events) {
+        if (events.isEmpty()) return 0;
+
+        List<BallEvent> sorted = new ArrayList<>(events);
+        sorted.sort(Comparator.comparingLong(BallEvent::ballId));
+        MatchLog matchLog = acquire(matchId, true);
+        try {
+            return matchLog.append(sorted);
+        } finally {
+            release(matchLog);
+        }
+    }
+
+    /**
+     * Newest-first page of a match's deliveries.
+     *
+     * @param cursor {@code nextCursor} of the previous page, null for the latest balls
+     */
+    public PageResponse<BallEvent> page(long matchId, String cursor, int limit) {
+        MatchLog matchLog = acquire(matchId, false);
+        if (matchLog == null) return new PageResponse<>(List.of(), null, limit);
+        try {
+            return page(matchLog, cursor, limit);
+        } finally {
+            release(matchLog);
+        }
+    }
+
+    private PageResponse<BallEvent> page(MatchLog matchLog, String cursor, int limit) {
+        long count = matchLog.count();
+
+        long end = count;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                end = Math.min(count, Math.max(0, Long.parseLong(cursor)));
+            } catch (NumberFormatException ignored) {
+                // unknown cursor: start from the latest ball
+            }
+        }
+        long start = Math.max(0, end - limit);
+
+        List<BallEvent> items = matchLog.read(start, end);
+        String next = (start > 0) ? String.valueOf(start) : null;
+        return new PageResponse<>(items, next, limit);
+    }
+
+    public long size(long matchId) {
+        MatchLog matchLog = acquire(matchId, false);
+        if (matchLog == null) return 0;
+        try {
+            return matchLog.count();
+        } finally {
+            release(matchLog);
+        }
+    }
+
+    /**
+     * Deliveries in a Cricbuzz commentary body (non-ball notes are skipped).
+     */
+    List<BallEvent> extract(String body) throws IOException {
+        if (body == null || body.isBlank()) return List.of();
+
+        List<BallEvent> events = new ArrayList<>();
+        for (JsonNode c : objectMapper.readTree(body).path("commentaryList")) {
+            int ballNbr = c.path("ballNbr").asInt(0);
+            int inningsId = c.path("inningsId").asInt(0);
+            if (ballNbr <= 0 || inningsId <= 0) continue;
+
+            events.add(new BallEvent(
+                    BallEvent.idOf(inningsId, ballNbr),
+                    -1L,
+                    inningsId,
+                    ballNbr,
+                    c.path("overNumber").asDouble(0),
+                    c.path("event").asText(null),
+                    c.path("commText").asText(null),
+                    c.path("timestamp").asLong(0)
+            ));
+        }
+        return events;
+    }
+
+    /**
+     * Pins the match's log until {@link #release}. Without {@code create}, a match
+     * with nothing logged gets null: reads take no slot and create no directory.
+     */
+    MatchLog acquire(long matchId, boolean create) {
+        synchronized (open) {
+            MatchLog matchLog = open.get(matchId);
+            if (matchLog == null) {
+                Path dir = dirOf(matchId);
+                if (!create && !Files.isDirectory(dir)) return null;
+                matchLog = new MatchLog(dir);
+                open.put(matchId, matchLog);
+            }
+            matchLog.users++;
+            return matchLog;
+        }
+    }
+
+    // Unpins, then evicts least recently used logs that nobody is using
+    void release(MatchLog matchLog) {
+        synchronized (open) {
+            matchLog.users--;
+            Iterator<MatchLog> eldestFirst = open.values().iterator();
+            while (open.size() > MAX_OPEN_MATCHES && eldestFirst.hasNext()) {
+                if (eldestFirst.next().users == 0) eldestFirst.remove();
+            }
+        }
+    }
+
+    private Path dirOf(long matchId) {
+        return root.resolve(Long.toString(matchId));
+    }
+
+    private static long matchIdOf(String url) {
+        int from = url.indexOf("/mcenter/v1/") + "/mcenter/v1/".length();
+        int to = url.indexOf('/', from);
+        try {
+            return Long.parseLong(url.substring(from, to < 0 ? url.length() : to));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /* =========================================================
+        One match: segment files + record offsets
+    ========================================================= */
+    final class MatchLog {
+
+        private final Path dir;
+
+        /* Callers between acquire and release (guarded by `open`) */
+        private int users;
+
+        /* Segment and byte offset of record `seq` (parallel arrays, no boxing) */
+        private int[] segmentOf = new int[64];
+        private long[] offsets = new long[64];
+        private int count;
+
+        private int tailSegment;
+        private int tailRecords;
+        private long tailBytes;
+        private long lastBallId = -1L;
+        private boolean loaded;
+
+        private MatchLog(Path dir) {
+            this.dir = dir;
+        }
+
+        synchronized long count() {
+            ensureLoaded();
+            return count;
+        }
+
+        synchronized int append(List<BallEvent> sorted) {
+            ensureLoaded();
+
+            int appended = 0;
+            ByteArrayOutputStream pending = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(pending);
+
+            try {
+                for (BallEvent event : sorted) {
+                    if (event.ballId() <= lastBallId) continue;
+
+                    if (tailRecords == segmentRecords) {
+                        write(tailSegment, pending);
+                        tailSegment++;
+                        tailRecords = 0;
+                        tailBytes = 0;
+                    }
+
+                    byte[] json = objectMapper.writeValueAsBytes(event.withSeq(count));
+                    out.writeInt(json.length);
+                    out.write(json);
+
+                    addRecord(tailSegment, tailBytes);
+                    tailRecords++;
+                    tailBytes += Integer.BYTES + json.length;
+                    lastBallId = event.ballId();
+                    appended++;
+                }
+                write(tailSegment, pending);
+            } catch (IOException e) {
+                // Offsets past what reached the disk would point at nothing: reload from the files
+                loaded = false;
+                throw new UncheckedIOException(e);
+            }
+            return appended;
+        }
+
+        synchronized List<BallEvent> read(long start, long end) {
+            ensureLoaded();
+            return readRange(start, end);
+        }
+
+        private List<BallEvent> readRange(long start, long end) {
+            List<BallEvent> items = new ArrayList<>((int) Math.max(0, end - start));
+            if (start >= end) return items;
+
+            FileChannel channel = null;
+            int channelSegment = -1;
+            try {
+                for (int seq = (int) end - 1; seq >= start; seq--) {
+                    if (segmentOf[seq] != channelSegment) {
+                        closeQuietly(channel);
+                        channelSegment = segmentOf[seq];
+                        channel = FileChannel.open(segmentFile(channelSegment), StandardOpenOption.READ);
+                    }
+                    items.add(readRecord(channel, offsets[seq]));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                closeQuietly(channel);
+            }
+            return items;
+        }
+
+        private void ensureLoaded() {
+            if (loaded) return;
+
+            count = 0;
+            tailSegment = 0;
+            tailRecords = 0;
+            tailBytes = 0;
+            lastBallId = -1L;
+            if (Files.isDirectory(dir)) {
+                try {
+                    List<Path> segments;
+                    try (Stream<Path> files = Files.list(dir)) {
+                        segments = files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                                .sorted()
+                                .toList();
+                    }
+                    for (Path segment : segments) scan(segment);
+                    if (count > 0) lastBallId = readRange(count - 1, count).get(0).ballId();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            loaded = true;
+        }
+
+        // Indexes the frames of one segment, cutting off a torn tail. Only runs under this
+        // log's monitor, and this is the match's only MatchLog, so no append is in flight
+        private void scan(Path segment) throws IOException {
+            String name = segment.getFileName().toString();
+            int number = Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = channel.size();
+                long position = 0;
+                int records = 0;
+                ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+
+                while (position + Integer.BYTES <= size) {
+                    header.clear();
+                    channel.read(header, position);
+                    int length = header.flip().getInt();
+                    if (length <= 0 || position + Integer.BYTES + length > size) break;
+
+                    addRecord(number, position);
+                    records++;
+                    position += Integer.BYTES + length;
+                }
+                if (position < size) {
+                    log.warn("⚠️ Truncating torn ball log tail | {} | {} -> {} bytes", segment, size, position);
+                    channel.truncate(position);
+                }
+                tailSegment = number;
+                tailRecords = records;
+                tailBytes = position;
+            }
+        }
+
+        private BallEvent readRecord(FileChannel channel, long offset) throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(header, offset);
+            ByteBuffer json = ByteBuffer.allocate(header.flip().getInt());
+            channel.read(json, offset + Integer.BYTES);
+            return objectMapper.readValue(json.array(), BallEvent.class);
+        }
+
+        private void write(int segment, ByteArrayOutputStream pending) throws IOException {
+            if (pending.size() == 0) return;
+            Files.createDirectories(dir);
+            Files.write(segmentFile(segment), pending.toByteArray(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            pending.reset();
+        }
+
+        private void addRecord(int segment, long offset) {
+            if (count == offsets.length) {
+                segmentOf = Arrays.copyOf(segmentOf, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            segmentOf[count] = segment;
+            offsets[count++] = offset;
+        }
+
+        private Path segmentFile(int segment) {
+            return dir.resolve(String.format("%08d%s", segment, SEGMENT_SUFFIX));
+        }
+
+        private void closeQuietly(FileChannel channel) {
+            if (channel == null) return;
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // read-only channel
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.cricsphere.store;
+
+import com.cricsphere.model.Country;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar store of the CricAPI country list.
+ *
+ * Names and flags go through a {@link StringPool}; id -> row through {@link IdRowIndex}.
+ *
+ * Immutable once published, same copy-on-write model as {@link PlayerColumns}.
+ */
+public final class CountryColumns {
+
+    public static final CountryColumns EMPTY = new CountryColumns(0);
+
+    private int size;
+
+    private String[] ids;
+    private int[] names;
+    private int[] flags;
+
+    private final StringPool namePool;
+    private final StringPool flagPool;
+    private final IdRowIndex idIndex;
+
+    private CountryColumns(int capacity) {
+        this.ids = new String[capacity];
+        this.names = new int[capacity];
+        this.flags = new int[capacity];
+        this.namePool = new StringPool();
+        this.flagPool = new StringPool();
+        this.idIndex = new IdRowIndex(capacity);
+    }
+
+    private CountryColumns(CountryColumns source, int capacity) {
+        this.size = source.size;
+        this.ids = Arrays.copyOf(source.ids, capacity);
+        this.names = Arrays.copyOf(source.names, capacity);
+        this.flags = Arrays.copyOf(source.flags, capacity);
+        this.namePool = source.namePool.copy();
+        this.flagPool = source.flagPool.copy();
+        this.idIndex = source.idIndex.copy();
+    }
+
+    public static CountryColumns build(List<Country> countries) {
+        return EMPTY.withDelta(countries);
+    }
+
+    /* =========================================================
+        Writes (copy-on-write)
+    ========================================================= */
+    public CountryColumns withDelta(List<Country> delta) {
+        if (delta == null || delta.isEmpty()) return this;
+
+        CountryColumns next = new CountryColumns(this, size + delta.size());
+        for (Country c : delta) {
+            if (c == null || c.getId() == null) continue;
+
+            int row = next.idIndex.get(c.getId());
+            if (row < 0) {
+                row = next.size++;
+                next.ids[row] = c.getId();
+                next.idIndex.put(c.getId(), row);
+            }
+            next.names[row] = next.namePool.intern(c.getName());
+            next.flags[row] = next.flagPool.intern(c.getGenericFlag());
+        }
+
+        return (next.size == next.ids.length) ? next : new CountryColumns(next, next.size);
+    }
+
+    public int countChanged(List<Country> delta) {
+        int changed = 0;
+        for (Country c : delta) {
+            if (c == null || c.getId() == null) continue;
+            int row = rowOf(c.getId());
+            if (row < 0
+                    || names[row] != namePool.codeOf(c.getName())
+                    || flags[row] != flagPool.codeOf(c.getGenericFlag())) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /* =========================================================
+        Reads
+    ========================================================= */
+    public int size() {
+        return size;
+    }
+
+    public int rowOf(String id) {
+        return idIndex.get(id);
+    }
+
+    public String id(int row) {
+        return ids[row];
+    }
+
+    public String name(int row) {
+        return namePool.value(names[row]);
+    }
+
+    public Country toCountry(int row) {
+        return Country.builder()
+                .id(ids[row])
+                .name(namePool.value(names[row]))
+                .genericFlag(flagPool.value(flags[row]))
+                .build();
+    }
+
+    public List<Country> toList() {
+        List<Country> out = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) out.add(toCountry(row));
+        return out;
+    }
+}
@@ -0,0 +1,98 @@
+package com.cricsphere.store;
+
+import java.util.Arrays;
+
+/**
+ * id -> row lookup with open addressing over parallel arrays
+ * (no boxed Integer values, no per-entry node objects).
+ *
+ * Keys are the same String instances as the owning id column,
+ * so the index itself only adds two arrays.
+ */
+public final class IdRowIndex {
+
+    private static final int EMPTY = -1;
+
+    private String[] keys;
+    private int[] rows;
+    private int mask;
+    private int size;
+
+    public IdRowIndex(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    private IdRowIndex(IdRowIndex source) {
+        this.keys = Arrays.copyOf(source.keys, source.keys.length);
+        this.rows = Arrays.copyOf(source.rows, source.rows.length);
+        this.mask = source.mask;
+        this.size = source.size;
+    }
+
+    /**
+     * Row of the id, or -1 if absent.
+     */
+    public int get(String id) {
+        if (id == null) return EMPTY;
+
+        int slot = mix(id.hashCode()) & mask;
+        while (rows[slot] != EMPTY) {
+            if (keys[slot].equals(id)) return rows[slot];
+            slot = (slot + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    public void put(String id, int row) {
+        if ((size + 1) * 2 > keys.length) grow();
+
+        int slot = mix(id.hashCode()) & mask;
+        while (rows[slot] != EMPTY) {
+            if (keys[slot].equals(id)) {
+                keys[slot] = id;
+                rows[slot] = row;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = id;
+        rows[slot] = row;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public IdRowIndex copy() {
+        return new IdRowIndex(this);
+    }
+
+    private void grow() {
+        String[] oldKeys = keys;
+        int[] oldRows = rows;
+
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldRows[i] != EMPTY) put(oldKeys[i], oldRows[i]);
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        rows = new int[capacity];
+        Arrays.fill(rows, EMPTY);
+        mask = capacity - 1;
+    }
+
+    // Spread hashCode bits: ids often share long prefixes
+    private static int mix(int h) {
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return h;
+    }
+}
@@ -0,0 +1,79 @@
+package com.cricsphere.store;
+
+import java.util.Arrays;
+
+/**
+ * long id -> row lookup with open addressing over parallel primitive arrays
+ * (no boxed Long keys or Integer values, no per-entry node objects).
+ */
+public final class LongRowIndex {
+
+    private static final int EMPTY = -1;
+
+    private long[] keys;
+    private int[] rows;
+    private int mask;
+    private int size;
+
+    public LongRowIndex(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Row of the id, or -1 if absent.
+     */
+    public int get(long id) {
+        int slot = mix(id) & mask;
+        while (rows[slot] != EMPTY) {
+            if (keys[slot] == id) return rows[slot];
+            slot = (slot + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    public void put(long id, int row) {
+        if ((size + 1) * 2 > keys.length) grow();
+
+        int slot = mix(id) & mask;
+        while (rows[slot] != EMPTY) {
+            if (keys[slot] == id) {
+                rows[slot] = row;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = id;
+        rows[slot] = row;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldRows = rows;
+
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldRows[i] != EMPTY) put(oldKeys[i], oldRows[i]);
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        rows = new int[capacity];
+        Arrays.fill(rows, EMPTY);
+        mask = capacity - 1;
+    }
+
+    // Player / match ids are dense: spread them over the table
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
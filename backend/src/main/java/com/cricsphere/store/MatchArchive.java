@@ -0,0 +1,251 @@
+package com.cricsphere.store;
+
+import com.cricsphere.model.MatchResource;
+import com.cricsphere.util.LruTtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local, compressed archive of completed matches: their payloads never
+ * change again, so they are kept forever instead of expiring and being refetched.
+ *
+ * - one gzip file per match: {@code <data-dir>/match-archive/<yyyy>/<MM>/<matchId>.cma}
+ *   holding [magic][matchId][match day][count] then (resource, UTF-8 body) pairs
+ * - resources are added as they show up; an archived resource is never replaced
+ * - writes go to a temp file that is atomically moved over the old one
+ * - indexes (matchId -> file + resources, day -> matchIds) are memory only and
+ *   rebuilt by scanning the files at startup ({@link #rebuildIndexes()})
+ */
+@Slf4j
+@Component
+public class MatchArchive {
+
+    private static final int MAGIC = 0x434D4131; // "CMA1"
+    private static final String SUFFIX = ".cma";
+
+    /* Hot completed matches are read a lot: keep a few decoded archives */
+    private static final int DECODED_CACHE_ENTRIES = 32;
+    private static final long DECODED_CACHE_TTL = 60 * 60 * 1000L;
+
+    private final Path root;
+
+    private final Map<Long, Entry> byMatch = new ConcurrentHashMap<>();
+    private final NavigableMap<LocalDate, Set<Long>> byDate = new ConcurrentSkipListMap<>();
+    private final LruTtlCache<Map<MatchResource, String>> decoded = new LruTtlCache<>(DECODED_CACHE_ENTRIES);
+
+    public MatchArchive(@Value("${cricsphere.data-dir:data}") String dataDir) {
+        this.root = Path.of(dataDir).toAbsolutePath().resolve("match-archive");
+    }
+
+    /**
+     * Archived match: where its file is, which day it was played, what it holds.
+     */
+    public record Entry(long matchId, LocalDate date, Path file, Set<MatchResource> resources) {
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuildIndexes();
+    }
+
+    /* =========================================================
+        Reads
+    ========================================================= */
+    /**
+     * Archived body, or null if this resource of the match isn't archived.
+     */
+    public String get(long matchId, MatchResource resource) {
+        Entry entry = byMatch.get(matchId);
+        if (entry == null || !entry.resources().contains(resource)) return null;
+
+        Map<MatchResource, String> bodies = decoded.get(Long.toString(matchId), key -> {
+            try {
+                return new LruTtlCache.Loaded<>(read(entry.file()).bodies, DECODED_CACHE_TTL);
+            } catch (IOException e) {
+                log.warn("⚠️ Could not read archive of match {}: {}", matchId, e.getMessage());
+                return null;
+            }
+        });
+        return (bodies != null) ? bodies.get(resource) : null;
+    }
+
+    public boolean contains(long matchId) {
+        return byMatch.containsKey(matchId);
+    }
+
+    public Entry entry(long matchId) {
+        return byMatch.get(matchId);
+    }
+
+    /**
+     * Archived matches played between {@code from} and {@code to} (inclusive), by day;
+     * empty when {@code from} is after {@code to}.
+     */
+    public List<Long> matchesBetween(LocalDate from, LocalDate to) {
+        List<Long> ids = new ArrayList<>();
+        if (from.isAfter(to)) return ids;
+        for (Set<Long> day : byDate.subMap(from, true, to, true).values()) ids.addAll(day);
+        return ids;
+    }
+
+    public int size() {
+        return byMatch.size();
+    }
+
+    /* =========================================================
+        Writes
+    ========================================================= */
+    /**
+     * Adds a resource to the match's archive (created on first use).
+     *
+     * @param date match day, only used when the archive is created
+     * @return false if the resource was already archived
+     */
+    public synchronized boolean put(long matchId, LocalDate date, MatchResource resource, String body) {
+        Entry existing = byMatch.get(matchId);
+        if (existing != null && existing.resources().contains(resource)) return false;
+
+        try {
+            Map<MatchResource, String> bodies = new EnumMap<>(MatchResource.class);
+            LocalDate day = date;
+            Path file;
+            if (existing != null) {
+                Archived archived = read(existing.file());
+                bodies.putAll(archived.bodies);
+                day = archived.date;
+                file = existing.file();
+            } else {
+                file = fileFor(matchId, day);
+            }
+            bodies.put(resource, body);
+
+            write(file, matchId, day, bodies);
+            decoded.invalidate(Long.toString(matchId));
+            index(new Entry(matchId, day, file, Collections.unmodifiableSet(EnumSet.copyOf(bodies.keySet()))));
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rebuilds both indexes from the archive files alone.
+     *
+     * @return number of archived matches found
+     */
+    public synchronized int rebuildIndexes() {
+        byMatch.clear();
+        byDate.clear();
+        decoded.clear();
+
+        if (!Files.isDirectory(root)) return 0;
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).toList();
+        } catch (IOException e) {
+            log.warn("⚠️ Could not scan match archive: {}", e.getMessage());
+            return 0;
+        }
+
+        for (Path file : files) {
+            try {
+                Archived archived = read(file);
+                index(new Entry(archived.matchId, archived.date, file,
+                        Collections.unmodifiableSet(EnumSet.copyOf(archived.bodies.keySet()))));
+            } catch (Exception e) {
+                log.warn("⚠️ Skipping unreadable archive {}: {}", file, e.getMessage());
+            }
+        }
+        log.info("🗄️ Match archive indexed | matches={} | days={}", byMatch.size(), byDate.size());
+        return byMatch.size();
+    }
+
+    /* =========================================================
+        File format
+    ========================================================= */
+    private record Archived(long matchId, LocalDate date, Map<MatchResource, String> bodies) {
+    }
+
+    private void index(Entry entry) {
+        byMatch.put(entry.matchId(), entry);
+        byDate.computeIfAbsent(entry.date(), d -> new ConcurrentSkipListSet<>()).add(entry.matchId());
+    }
+
+    private Path fileFor(long matchId, LocalDate date) {
+        return root.resolve(String.format("%04d", date.getYear()))
+                .resolve(String.format("%02d", date.getMonthValue()))
+                .resolve(matchId + SUFFIX);
+    }
+
+    private static void write(Path file, long matchId, LocalDate date, Map<MatchResource, String> bodies) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+            out.writeInt(MAGIC);
+            out.writeLong(matchId);
+            out.writeLong(date.toEpochDay());
+            out.writeInt(bodies.size());
+            for (Map.Entry<MatchResource, String> e : bodies.entrySet()) {
+                byte[] body = e.getValue().getBytes(StandardCharsets.UTF_8);
+                out.writeUTF(e.getKey().name());
+                out.writeInt(body.length);
+                out.write(body);
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Archived read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC) throw new IOException("not a match archive");
+
+            long matchId = in.readLong();
+            LocalDate date = LocalDate.ofEpochDay(in.readLong());
+            int count = in.readInt();
+
+            Map<MatchResource, String> bodies = new EnumMap<>(MatchResource.class);
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                byte[] body = in.readNBytes(in.readInt());
+                try {
+                    bodies.put(MatchResource.valueOf(name), new String(body, StandardCharsets.UTF_8));
+                } catch (IllegalArgumentException e) {
+                    // resource no longer known: skip it
+                }
+            }
+            return new Archived(matchId, date, bodies);
+        }
+    }
+}
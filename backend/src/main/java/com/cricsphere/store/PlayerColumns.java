@@ -0,0 +1,199 @@
+package com.cricsphere.store;
+
+import com.cricsphere.model.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Columnar, dictionary-encoded store of the CricAPI player list.
+ *
+ * - id / name / faceImageId: one String[] per column (high cardinality)
+ * - country / role / battingStyle / bowlingStyle: int codes into a
+ *   {@link StringPool} (a few dozen distinct values across all rows)
+ * - id -> row through {@link IdRowIndex}
+ *
+ * Immutable once published: {@link #withDelta(List)} copies and returns a new
+ * instance, so readers never see a half-applied refresh.
+ * {@link Player} objects are only materialized for rows that are returned.
+ */
+public final class PlayerColumns {
+
+    public static final PlayerColumns EMPTY = new PlayerColumns(0);
+
+    private int size;
+
+    private String[] ids;
+    private String[] names;
+    private String[] faceImageIds;
+
+    private int[] countries;
+    private int[] roles;
+    private int[] battingStyles;
+    private int[] bowlingStyles;
+
+    private final StringPool countryPool;
+    private final StringPool rolePool;
+    private final StringPool battingPool;
+    private final StringPool bowlingPool;
+
+    private final IdRowIndex idIndex;
+
+    private PlayerColumns(int capacity) {
+        allocate(capacity);
+        this.countryPool = new StringPool();
+        this.rolePool = new StringPool();
+        this.battingPool = new StringPool();
+        this.bowlingPool = new StringPool();
+        this.idIndex = new IdRowIndex(capacity);
+    }
+
+    private PlayerColumns(PlayerColumns source, int capacity) {
+        this.size = source.size;
+        this.ids = Arrays.copyOf(source.ids, capacity);
+        this.names = Arrays.copyOf(source.names, capacity);
+        this.faceImageIds = Arrays.copyOf(source.faceImageIds, capacity);
+        this.countries = Arrays.copyOf(source.countries, capacity);
+        this.roles = Arrays.copyOf(source.roles, capacity);
+        this.battingStyles = Arrays.copyOf(source.battingStyles, capacity);
+        this.bowlingStyles = Arrays.copyOf(source.bowlingStyles, capacity);
+        this.countryPool = source.countryPool.copy();
+        this.rolePool = source.rolePool.copy();
+        this.battingPool = source.battingPool.copy();
+        this.bowlingPool = source.bowlingPool.copy();
+        this.idIndex = source.idIndex.copy();
+    }
+
+    public static PlayerColumns build(List<Player> players) {
+        return EMPTY.withDelta(players);
+    }
+
+    /* =========================================================
+        Writes (copy-on-write)
+    ========================================================= */
+    /**
+     * New columns with the delta upserted by id (rows without id are skipped).
+     */
+    public PlayerColumns withDelta(List<Player> delta) {
+        if (delta == null || delta.isEmpty()) return this;
+
+        PlayerColumns next = new PlayerColumns(this, size + delta.size());
+        for (Player p : delta) {
+            if (p == null || p.getId() == null) continue;
+
+            int row = next.idIndex.get(p.getId());
+            if (row < 0) {
+                row = next.size++;
+                next.ids[row] = p.getId();
+                next.idIndex.put(p.getId(), row);
+            }
+            next.write(row, p);
+        }
+        return next.trimmed();
+    }
+
+    /**
+     * Number of delta rows that are new or differ from the stored row.
+     */
+    public int countChanged(List<Player> delta) {
+        int changed = 0;
+        for (Player p : delta) {
+            if (p == null || p.getId() == null) continue;
+            int row = rowOf(p.getId());
+            if (row < 0 || !sameAs(row, p)) changed++;
+        }
+        return changed;
+    }
+
+    private void write(int row, Player p) {
+        names[row] = p.getName();
+        faceImageIds[row] = p.getFaceImageId();
+        countries[row] = countryPool.intern(p.getCountry());
+        roles[row] = rolePool.intern(p.getRole());
+        battingStyles[row] = battingPool.intern(p.getBattingStyle());
+        bowlingStyles[row] = bowlingPool.intern(p.getBowlingStyle());
+    }
+
+    private boolean sameAs(int row, Player p) {
+        return Objects.equals(names[row], p.getName())
+                && Objects.equals(faceImageIds[row], p.getFaceImageId())
+                && countries[row] == countryPool.codeOf(p.getCountry())
+                && roles[row] == rolePool.codeOf(p.getRole())
+                && battingStyles[row] == battingPool.codeOf(p.getBattingStyle())
+                && bowlingStyles[row] == bowlingPool.codeOf(p.getBowlingStyle());
+    }
+
+    private PlayerColumns trimmed() {
+        return (size == ids.length) ? this : new PlayerColumns(this, size);
+    }
+
+    private void allocate(int capacity) {
+        ids = new String[capacity];
+        names = new String[capacity];
+        faceImageIds = new String[capacity];
+        countries = new int[capacity];
+        roles = new int[capacity];
+        battingStyles = new int[capacity];
+        bowlingStyles = new int[capacity];
+    }
+
+    /* =========================================================
+        Reads
+    ========================================================= */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Row of the player id, or -1.
+     */
+    public int rowOf(String id) {
+        return idIndex.get(id);
+    }
+
+    public String id(int row) {
+        return ids[row];
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public int countryCode(int row) {
+        return countries[row];
+    }
+
+    /**
+     * Distinct country codes (including the null code 0).
+     */
+    public int countryCardinality() {
+        return countryPool.size();
+    }
+
+    public String countryValue(int code) {
+        return countryPool.value(code);
+    }
+
+    /**
+     * Materializes one row (pooled strings are shared, not copied).
+     */
+    public Player toPlayer(int row) {
+        return Player.builder()
+                .id(ids[row])
+                .name(names[row])
+                .country(countryPool.value(countries[row]))
+                .role(rolePool.value(roles[row]))
+                .battingStyle(battingPool.value(battingStyles[row]))
+                .bowlingStyle(bowlingPool.value(bowlingStyles[row]))
+                .faceImageId(faceImageIds[row])
+                .build();
+    }
+
+    public List<Player> toList() {
+        List<Player> out = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) out.add(toPlayer(row));
+        return out;
+    }
+}
@@ -0,0 +1,73 @@
+package com.cricsphere.store;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary for a low-cardinality string column.
+ * Each distinct value is stored once and referenced by an int code.
+ *
+ * Code 0 is reserved for null, so a fresh int[] column means "all null".
+ * Pools are only written while their owning column set is being built.
+ */
+public final class StringPool {
+
+    public static final int NULL_CODE = 0;
+
+    private String[] values;
+    private final Map<String, Integer> codes;
+    private int size;
+
+    public StringPool() {
+        this.values = new String[16];
+        this.codes = new HashMap<>();
+        this.size = 1; // NULL_CODE
+    }
+
+    private StringPool(StringPool source) {
+        this.values = Arrays.copyOf(source.values, source.values.length);
+        this.codes = new HashMap<>(source.codes);
+        this.size = source.size;
+    }
+
+    /**
+     * Code of the value, adding it to the pool if new.
+     */
+    public int intern(String value) {
+        if (value == null) return NULL_CODE;
+
+        Integer existing = codes.get(value);
+        if (existing != null) return existing;
+
+        if (size == values.length) values = Arrays.copyOf(values, size * 2);
+        int code = size++;
+        values[code] = value;
+        codes.put(value, code);
+        return code;
+    }
+
+    /**
+     * Code of an existing value, or -1 if the pool never saw it.
+     */
+    public int codeOf(String value) {
+        if (value == null) return NULL_CODE;
+        Integer code = codes.get(value);
+        return (code != null) ? code : -1;
+    }
+
+    public String value(int code) {
+        return values[code];
+    }
+
+    /**
+     * Number of codes, including the null code.
+     */
+    public int size() {
+        return size;
+    }
+
+    public StringPool copy() {
+        return new StringPool(this);
+    }
+}
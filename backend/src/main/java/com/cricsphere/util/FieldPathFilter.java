@@ -0,0 +1,115 @@
+package com.cricsphere.util;
+
+import com.fasterxml.jackson.core.filter.TokenFilter;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming Jackson filter for "?fields=" projections.
+ *
+ * Syntax (comma separated dotted paths):
+ * - "matchInfo.team1.teamName"  exact path, arrays are transparent
+ * - "*"                         any single property name
+ * - "**"                        any number of levels (including zero)
+ *
+ * Example: "**.teamName,**.matchScore"
+ */
+public class FieldPathFilter extends TokenFilter {
+
+    private final Set<Node> active;
+
+    private FieldPathFilter(Set<Node> active) {
+        this.active = active;
+    }
+
+    /**
+     * Compiles a raw "fields" parameter into a root filter.
+     * Returns null if no usable path was given.
+     */
+    public static FieldPathFilter compile(String fields) {
+        if (fields == null || fields.isBlank()) return null;
+
+        Node root = new Node();
+        boolean any = false;
+
+        for (String path : fields.split(",")) {
+            String trimmed = path.trim();
+            if (trimmed.isEmpty()) continue;
+
+            Node node = root;
+            for (String segment : trimmed.split("\\.")) {
+                if (segment.isEmpty()) continue;
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+                if ("**".equals(segment)) node.descendant = true;
+            }
+
+            if (node != root) {
+                node.terminal = true;
+                any = true;
+            }
+        }
+
+        if (!any) return null;
+
+        Set<Node> start = new HashSet<>();
+        addWithClosure(start, root);
+        return new FieldPathFilter(start);
+    }
+
+    @Override
+    public TokenFilter includeProperty(String name) {
+        Set<Node> next = new HashSet<>();
+
+        for (Node node : active) {
+            Node exact = node.children.get(name);
+            if (exact != null) addWithClosure(next, exact);
+
+            Node wildcard = node.children.get("*");
+            if (wildcard != null) addWithClosure(next, wildcard);
+
+            // "**" keeps consuming levels
+            if (node.descendant) next.add(node);
+        }
+
+        if (next.isEmpty()) return null;
+
+        for (Node node : next) {
+            if (node.terminal) return TokenFilter.INCLUDE_ALL;
+        }
+
+        return new FieldPathFilter(next);
+    }
+
+    @Override
+    public TokenFilter includeElement(int index) {
+        // Arrays don't consume a path segment
+        return this;
+    }
+
+    @Override
+    public TokenFilter includeRootValue(int index) {
+        return this;
+    }
+
+    @Override
+    protected boolean _includeScalar() {
+        // A scalar reached by a partial path is not a match
+        return false;
+    }
+
+    private static void addWithClosure(Set<Node> target, Node node) {
+        if (!target.add(node)) return;
+
+        Node descendant = node.children.get("**");
+        if (descendant != null) addWithClosure(target, descendant);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean terminal;
+        private boolean descendant;
+    }
+}
@@ -0,0 +1,133 @@
+package com.cricsphere.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Small in-memory cache:
+ * - bounded (LRU eviction)
+ * - per-entry TTL
+ * - single-flight loading: concurrent misses for one key share one load
+ *
+ * The loader returns a {@link Loaded} value carrying its own TTL, or null
+ * when nothing could be loaded (nulls are not cached).
+ */
+public class LruTtlCache<V> {
+
+    private final int maxEntries;
+    private final Map<String, Entry<V>> entries;
+    private final Map<String, CompletableFuture<Loaded<V>>> inFlight = new ConcurrentHashMap<>();
+
+    public LruTtlCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 256), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > LruTtlCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Fresh value, or null if absent / expired.
+     */
+    public V getIfFresh(String key) {
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        return (entry != null && !entry.isExpired()) ? entry.value : null;
+    }
+
+    /**
+     * Millis until the entry expires (negative if expired, null if absent).
+     */
+    public Long remainingTtl(String key) {
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        return (entry != null) ? entry.expiresAt - System.currentTimeMillis() : null;
+    }
+
+    public V get(String key, Function<String, Loaded<V>> loader) {
+        V fresh = getIfFresh(key);
+        if (fresh != null) return fresh;
+
+        CompletableFuture<Loaded<V>> mine = new CompletableFuture<>();
+        CompletableFuture<Loaded<V>> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            Loaded<V> shared = join(existing);
+            return (shared != null) ? shared.value() : null;
+        }
+
+        try {
+            // Another thread may have finished loading between the check and putIfAbsent
+            V raced = getIfFresh(key);
+            if (raced != null) {
+                mine.complete(new Loaded<>(raced, 0L));
+                return raced;
+            }
+
+            Loaded<V> loaded = loader.apply(key);
+            if (loaded != null && loaded.value() != null) put(key, loaded.value(), loaded.ttlMillis());
+            mine.complete(loaded);
+            return (loaded != null) ? loaded.value() : null;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public void put(String key, V value, long ttlMillis) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Loaded<V> join(CompletableFuture<Loaded<V>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    /**
+     * A loaded value with the TTL it should be cached for.
+     */
+    public record Loaded<V>(V value, long ttlMillis) {
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.cricsphere.util;
+
+/**
+ * Time budget of the API request being served on this thread.
+ *
+ * Set by the web layer for each request and read by every blocking stage
+ * (lock wait, Firestore read, upstream call), so each stage only gets the
+ * time that is left. Threads without a request (schedulers, prefetch) have
+ * no deadline and use the stages' own timeouts.
+ *
+ * Also records whether a stale copy was served, so the response can say so.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    /* Expiry time of the stale copy served, -1 if the response is fresh */
+    private volatile long staleExpiredAt = -1;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static RequestDeadline start(long timeoutMillis) {
+        RequestDeadline deadline = new RequestDeadline(System.nanoTime() + timeoutMillis * 1_000_000L);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * Deadline of the current request, or null outside a request.
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Millis left for the current request, or {@code fallback} outside a request.
+     */
+    public static long remainingOr(long fallback) {
+        RequestDeadline deadline = CURRENT.get();
+        return (deadline != null) ? deadline.remainingMillis() : fallback;
+    }
+
+    /**
+     * True if the current request ran out of time.
+     */
+    public static boolean isExpired() {
+        RequestDeadline deadline = CURRENT.get();
+        return deadline != null && deadline.remainingMillis() <= 0;
+    }
+
+    /**
+     * Marks the current request's response as served from a stale copy.
+     */
+    public static void markStale(long expiredAtMillis) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null) deadline.staleExpiredAt = expiredAtMillis;
+    }
+
+    public long remainingMillis() {
+        return Math.max(0, (deadlineNanos - System.nanoTime()) / 1_000_000L);
+    }
+
+    public boolean isStale() {
+        return staleExpiredAt >= 0;
+    }
+
+    /**
+     * Seconds since the served copy expired (0 if fresh).
+     */
+    public long staleSeconds() {
+        return isStale() ? Math.max(0, (System.currentTimeMillis() - staleExpiredAt) / 1000) : 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.cricsphere.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body serialized ONCE (JSON + gzip) with a strong ETag per
+ * encoding (the gzip variant's is suffixed "-gz", since its bytes differ).
+ * Reference data only changes on the daily refresh, so serving these
+ * bytes directly keeps per-request cost constant.
+ */
+public final class SerializedSnapshot {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    private SerializedSnapshot(byte[] json, byte[] gzip, String etag) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+        this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    /**
+     * Returns null if {@code value} is null or can't be serialized.
+     */
+    public static SerializedSnapshot of(ObjectMapper mapper, Object value) {
+        if (value == null) return null;
+        try {
+            return ofJson(mapper.writeValueAsBytes(value));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public static SerializedSnapshot ofJson(byte[] json) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        }
+        return new SerializedSnapshot(json, out.toByteArray(), strongEtag(json));
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    public byte[] gzip() {
+        return gzip;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public String gzipEtag() {
+        return gzipEtag;
+    }
+
+    /**
+     * Handles "*", lists and weak validators ("W/") as RFC 9110 weak comparison.
+     * Either encoding's tag matches: both name the same content.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag) || tag.equals(gzipEtag)) return true;
+        }
+        return false;
+    }
+
+    private static String strongEtag(byte[] json) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+
+        StringBuilder sb = new StringBuilder(34).append('"');
+        for (int i = 0; i < 16; i++) sb.append(String.format("%02x", hash[i]));
+        return sb.append('"').toString();
+    }
+
+    @Override
+    public String toString() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
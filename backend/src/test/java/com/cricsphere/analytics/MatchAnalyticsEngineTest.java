@@ -0,0 +1,125 @@
+package com.cricsphere.analytics;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.InningsAnalytics;
+import com.cricsphere.model.MatchAnalytics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchAnalyticsEngineTest {
+
+    private final MatchAnalyticsEngine engine = new MatchAnalyticsEngine(new ObjectMapper());
+
+    @Test
+    void firstInningsRatesAndProjection() {
+        // Act: 10 overs at 8 an over, 1 wicket
+        MatchAnalytics a = engine.update(1, overs("T20", innings(1, "IND", 1, 10, 8, 1)));
+
+        // Assert
+        InningsAnalytics first = a.innings().get(0);
+        assertEquals(80, first.runs());
+        assertEquals(10, first.overs());
+        assertEquals(8.0, first.runRate(), 1e-9);
+        assertEquals(8.0, first.recentRunRate(), 1e-9);
+        assertEquals(80 + (int) Math.round(10 * 8.0 * WinProbability.wicketResource(1)), first.projectedTotal());
+        assertNull(first.target());
+        assertEquals(20, a.scheduledOvers());
+        assertEquals("IND", a.battingTeam());
+        assertTrue(a.winProbability() > 0.3 && a.winProbability() < 0.7, "near par: " + a.winProbability());
+    }
+
+    @Test
+    void newOversAreFoldedIncrementally_andRepeatsCostNothing() {
+        // Arrange
+        MatchAnalytics before = engine.update(2, overs("T20", innings(1, "IND", 1, 5, 6, 0)));
+
+        // Act: the refreshed list overlaps the first 5 overs
+        MatchAnalytics after = engine.update(2, overs("T20", innings(1, "IND", 1, 7, 6, 0)));
+        MatchAnalytics repeat = engine.update(2, overs("T20", innings(1, "IND", 1, 7, 6, 0)));
+
+        // Assert
+        assertEquals(30, before.innings().get(0).runs());
+        assertEquals(42, after.innings().get(0).runs());
+        assertEquals(7, after.innings().get(0).overs());
+        assertSame(after, repeat);
+    }
+
+    @Test
+    void chaseHasTargetRequiredRateAndSwingingProbability() {
+        // Arrange: 160 set, chasing side 60/1 after 10
+        String firstInnings = innings(1, "IND", 1, 20, 8, 5);
+
+        // Act
+        MatchAnalytics cruising = engine.update(3, overs("T20",
+                innings(2, "AUS", 1, 10, 6, 1) + "," + firstInnings));
+        MatchAnalytics collapsing = engine.update(4, overs("T20",
+                innings(2, "AUS", 1, 10, 6, 8) + "," + firstInnings));
+
+        // Assert
+        InningsAnalytics chase = cruising.innings().get(1);
+        assertEquals(161, chase.target());
+        assertEquals((161 - 60) / 10.0, chase.requiredRate(), 1e-9);
+        assertEquals("AUS", cruising.battingTeam());
+        assertTrue(chase.projectedTotal() <= 161);
+        assertTrue(collapsing.winProbability() < cruising.winProbability());
+        assertTrue(collapsing.winProbability() < 0.2, "8 down needing 101: " + collapsing.winProbability());
+    }
+
+    @Test
+    void chaseCompletedOrAllOutIsDecided() {
+        // Act
+        MatchAnalytics won = engine.update(5, overs("ODI",
+                innings(2, "AUS", 1, 30, 9, 3) + "," + innings(1, "IND", 1, 50, 5, 9)));
+        MatchAnalytics lost = engine.update(6, overs("ODI",
+                innings(2, "AUS", 1, 30, 4, 10) + "," + innings(1, "IND", 1, 50, 5, 9)));
+
+        // Assert
+        assertEquals(1.0, won.winProbability());
+        assertEquals(0.0, lost.winProbability());
+    }
+
+    @Test
+    void testMatchesGetRatesButNoProjection() {
+        // Act
+        MatchAnalytics a = engine.update(7, overs("TEST", innings(1, "ENG", 1, 30, 3, 2)));
+
+        // Assert
+        assertEquals(3.0, a.innings().get(0).runRate(), 1e-9);
+        assertNull(a.innings().get(0).projectedTotal());
+        assertNull(a.winProbability());
+    }
+
+    @Test
+    void storedOversBodyIsFoldedFromTheEvent() {
+        // Act
+        engine.onUpstreamBodyStored(new UpstreamBodyStoredEvent(
+                "https://cricbuzz-cricket2.p.rapidapi.com/mcenter/v1/8/overs",
+                overs("T20", innings(1, "IND", 1, 3, 10, 0)), 0L));
+
+        // Assert
+        assertEquals(30, engine.get(8).innings().get(0).runs());
+    }
+
+    // Cricbuzz-shaped overs payload: over list (newest first) before the header
+    private static String overs(String format, String overList) {
+        return "{\"overSepList\":[" + overList + "],\"matchHeader\":{\"matchFormat\":\"" + format + "\"}}";
+    }
+
+    // Overs `from`..`to` of an innings at `perOver` runs, `wickets` down by the last one (newest first)
+    private static String innings(int inningsId, String team, int from, int to, int perOver, int wickets) {
+        StringBuilder sb = new StringBuilder();
+        for (int over = to; over >= from; over--) {
+            if (over != to) sb.append(',');
+            int down = (over == to) ? wickets : Math.min(wickets, over * wickets / to);
+            sb.append("{\"inningsId\":").append(inningsId).append(",\"overNum\":").append(over)
+                    .append(",\"runs\":").append(perOver).append(",\"score\":").append(over * perOver)
+                    .append(",\"wickets\":").append(down).append(",\"batTeamName\":\"").append(team).append("\"}");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,201 @@
+package com.cricsphere.analytics;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.LeaderboardRow;
+import com.cricsphere.model.MatchResource;
+import com.cricsphere.model.MatchSummary;
+import com.cricsphere.model.SeriesLeaderboard;
+import com.cricsphere.service.MatchSnapshotService;
+import com.cricsphere.store.MatchArchive;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeriesLeaderboardEngineTest {
+
+    @SuppressWarnings("unchecked")
+    private final SeriesLeaderboardEngine engine = new SeriesLeaderboardEngine(
+            new ObjectMapper(), mock(MatchArchive.class), mock(ObjectProvider.class));
+
+    @Test
+    void aggregatesAcrossMatchesOfASeries() {
+        // Arrange
+        engine.fold(1, scorecard(7, bat(11, "Rohit", 50, 40), bat(12, "Gill", 20, 25), bowl(21, "Starc", "4", 30, 2)));
+
+        // Act
+        engine.fold(2, scorecard(7, bat(11, "Rohit", 30, 20), bowl(21, "Starc", "3.4", 25, 1), bowl(22, "Cummins", "4", 20, 3)));
+        SeriesLeaderboard board = engine.leaderboard(7, 10);
+
+        // Assert
+        assertEquals(2, board.matches());
+        LeaderboardRow top = board.runs().get(0);
+        assertEquals(11, top.playerId());
+        assertEquals(2, top.matches());
+        assertEquals(80, top.runs());
+        assertEquals(60, top.balls());
+        assertEquals(100.0 * 80 / 60, top.strikeRate(), 1e-9);
+
+        // 3 wickets each: fewer runs conceded ranks first
+        assertEquals(22, board.wickets().get(0).playerId());
+        assertEquals(21, board.wickets().get(1).playerId());
+        assertEquals(46, board.wickets().get(1).ballsBowled());
+    }
+
+    @Test
+    void changedScorecardReplacesItsOldContribution() {
+        // Arrange: live scorecard mid-innings
+        engine.fold(1, scorecard(7, bat(11, "Rohit", 10, 8)));
+
+        // Act: the same match, later
+        int touched = engine.fold(1, scorecard(7, bat(11, "Rohit", 64, 45)));
+        int unchanged = engine.fold(1, scorecard(7, bat(11, "Rohit", 64, 45)));
+
+        // Assert
+        LeaderboardRow rohit = engine.leaderboard(7, 10).runs().get(0);
+        assertEquals(64, rohit.runs());
+        assertEquals(45, rohit.balls());
+        assertEquals(1, rohit.matches());
+        assertTrue(touched > 0);
+        assertEquals(0, unchanged);
+    }
+
+    @Test
+    void ordersByRunsThenFewerBalls_andHonoursLimit() {
+        // Arrange
+        engine.fold(1, scorecard(7, bat(11, "A", 40, 30), bat(12, "B", 40, 20), bat(13, "C", 70, 50)));
+
+        // Act
+        SeriesLeaderboard board = engine.leaderboard(7, 2);
+
+        // Assert
+        assertEquals(2, board.runs().size());
+        assertEquals(13, board.runs().get(0).playerId());
+        assertEquals(12, board.runs().get(1).playerId());
+    }
+
+    @Test
+    void readsLegacyScorecardShapeFromEvents() {
+        // Arrange
+        String legacy = """
+                {"matchHeader":{"seriesId":9},"scoreCard":[{
+                  "batTeamDetails":{"batsmenData":{"bat_1":{"batId":31,"batName":"Root","runs":88,"balls":120,"fours":9,"sixes":1,"outDesc":"c Smith"}}},
+                  "bowlTeamDetails":{"bowlersData":{"bowl_1":{"bowlerId":41,"bowlName":"Lyon","overs":"30.2","runs":70,"wickets":4}}}}]}
+                """;
+
+        // Act
+        engine.onUpstreamBodyStored(new UpstreamBodyStoredEvent(
+                "https://cricbuzz-cricket.p.rapidapi.com/mcenter/v1/5/scard", legacy, 0L));
+        SeriesLeaderboard board = engine.leaderboard(9, 10);
+
+        // Assert
+        assertEquals(88, board.runs().get(0).runs());
+        assertEquals(4, board.wickets().get(0).wickets());
+        assertEquals(182, board.wickets().get(0).ballsBowled());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seriesFromFeedsUsesOnlyHeldSnapshots() {
+        // Arrange: the scorecard names no series, the held live snapshot does
+        MatchSnapshotService snapshots = mock(MatchSnapshotService.class);
+        ObjectProvider<MatchSnapshotService> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(snapshots);
+        when(snapshots.findHeldMatch(6)).thenReturn(new MatchSummary(
+                6, 12, "Series", null, null, null, null, 0, 0, null, null, null, null));
+        SeriesLeaderboardEngine feedBacked = new SeriesLeaderboardEngine(
+                new ObjectMapper(), mock(MatchArchive.class), provider);
+        String noSeries = scorecard(7, bat(11, "Rohit", 50, 40)).replace("\"seriesId\":7,", "");
+
+        // Act
+        feedBacked.fold(6, noSeries);
+
+        // Assert: folded into series 12 without revalidating any feed
+        assertEquals(50, feedBacked.leaderboard(12, 10).runs().get(0).runs());
+        verify(snapshots, never()).findMatch(anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void idleSeriesDroppedPastTheCapIsRebuiltFromTheArchive() {
+        // Arrange: series 7 has two archived matches, then goes quiet
+        MatchArchive archive = mock(MatchArchive.class);
+        AtomicLong now = new AtomicLong(1_000_000_000L);
+        SeriesLeaderboardEngine bounded = new SeriesLeaderboardEngine(
+                new ObjectMapper(), archive, mock(ObjectProvider.class), now::get);
+        archived(archive, 1, scorecard(7, bat(11, "Rohit", 50, 40)));
+        archived(archive, 2, scorecard(7, bat(11, "Rohit", 30, 20), bowl(21, "Starc", "4", 30, 2)));
+        bounded.fold(1, scorecard(7, bat(11, "Rohit", 50, 40)));
+        bounded.fold(2, scorecard(7, bat(11, "Rohit", 30, 20), bowl(21, "Starc", "4", 30, 2)));
+        now.addAndGet(SeriesLeaderboardEngine.IDLE_MILLIS + 1);
+
+        // Act: more live series than the cap (not archived, so never dropped)
+        for (int i = 0; i < SeriesLeaderboardEngine.MAX_SERIES; i++) {
+            bounded.fold(1_000 + i, scorecard(100 + i, bat(50 + i, "P" + i, 10, 10)));
+        }
+        int held = bounded.heldSeries();
+        SeriesLeaderboard board = bounded.leaderboard(7, 10);
+
+        // Assert: only series 7 was dropped, and its totals came back whole
+        assertEquals(SeriesLeaderboardEngine.MAX_SERIES, held);
+        assertEquals(2, board.matches());
+        assertEquals(80, board.runs().get(0).runs());
+        assertEquals(2, board.runs().get(0).matches());
+        assertEquals(2, board.wickets().get(0).wickets());
+
+        // A new match of the series adds to the rebuilt totals
+        bounded.fold(3, scorecard(7, bat(11, "Rohit", 5, 4)));
+        assertEquals(85, bounded.leaderboard(7, 10).runs().get(0).runs());
+        assertEquals(10, bounded.leaderboard(100, 10).runs().get(0).runs());
+    }
+
+    private static void archived(MatchArchive archive, long matchId, String scorecard) {
+        when(archive.get(matchId, MatchResource.SCORECARD)).thenReturn(scorecard);
+        when(archive.entry(matchId)).thenReturn(new MatchArchive.Entry(
+                matchId, LocalDate.of(2026, 3, 1), Path.of("unused"), Set.of(MatchResource.SCORECARD)));
+    }
+
+    @Test
+    void unknownSeriesIsEmpty() {
+        // Act
+        SeriesLeaderboard board = engine.leaderboard(404, 10);
+
+        // Assert
+        assertEquals(0, board.matches());
+        assertTrue(board.runs().isEmpty());
+    }
+
+    private static String scorecard(long seriesId, String... players) {
+        StringBuilder bats = new StringBuilder();
+        StringBuilder bowls = new StringBuilder();
+        for (String p : players) {
+            StringBuilder target = p.contains("\"overs\"") ? bowls : bats;
+            if (!target.isEmpty()) target.append(',');
+            target.append(p);
+        }
+        return "{\"seriesId\":" + seriesId + ",\"ismatchcomplete\":false,\"scorecard\":[{\"inningsid\":1,"
+                + "\"batsman\":[" + bats + "],\"bowler\":[" + bowls + "]}]}";
+    }
+
+    private static String bat(long id, String name, int runs, int balls) {
+        return "{\"id\":" + id + ",\"name\":\"" + name + "\",\"runs\":" + runs + ",\"balls\":" + balls
+                + ",\"fours\":0,\"sixes\":0,\"outdec\":\"not out\"}";
+    }
+
+    private static String bowl(long id, String name, String overs, int runs, int wickets) {
+        return "{\"id\":" + id + ",\"name\":\"" + name + "\",\"overs\":\"" + overs + "\",\"runs\":" + runs
+                + ",\"wickets\":" + wickets + "}";
+    }
+}
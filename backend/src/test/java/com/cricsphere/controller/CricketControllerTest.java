@@ -0,0 +1,165 @@
+package com.cricsphere.controller;
+
+import com.cricsphere.model.CountryListResponse;
+import com.cricsphere.service.CricketService;
+import com.cricsphere.service.MatchSnapshotService;
+import com.cricsphere.service.UnifiedSearchService;
+import com.cricsphere.util.SerializedSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CricketControllerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    private final CricketService cricketService = mock(CricketService.class);
+    private final CricketController controller = new CricketController(
+            cricketService, mock(MatchSnapshotService.class), mock(UnifiedSearchService.class));
+
+    @Test
+    void reversedArchiveRangeIsABadRequest() {
+        // Act
+        ResponseEntity<Object> response = controller.getArchivedMatches(DAY, DAY.minusDays(1));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(String.valueOf(response.getBody()).startsWith("{\"error\":true,\"status\":400"));
+        verify(cricketService, never()).getArchivedMatches(any(), any());
+    }
+
+    @Test
+    void archiveRangeIsCappedAtInclusiveDays() {
+        // Arrange
+        LocalDate lastAllowed = DAY.plusDays(CricketController.MAX_ARCHIVE_RANGE_DAYS - 1);
+        when(cricketService.getArchivedMatches(DAY, lastAllowed)).thenReturn(List.of(7L));
+
+        // Act
+        ResponseEntity<Object> widest = controller.getArchivedMatches(DAY, lastAllowed);
+        ResponseEntity<Object> tooWide = controller.getArchivedMatches(DAY, lastAllowed.plusDays(1));
+
+        // Assert
+        assertEquals(List.of(7L), widest.getBody());
+        assertEquals(HttpStatus.BAD_REQUEST, tooWide.getStatusCode());
+        verify(cricketService, never()).getArchivedMatches(DAY, lastAllowed.plusDays(1));
+    }
+
+    @Test
+    void singleDayWhenToIsMissing() {
+        // Arrange
+        when(cricketService.getArchivedMatches(DAY, DAY)).thenReturn(List.of(3L));
+
+        // Act
+        ResponseEntity<Object> response = controller.getArchivedMatches(DAY, null);
+
+        // Assert
+        assertEquals(List.of(3L), response.getBody());
+    }
+
+    @Test
+    void invalidMatchIdForAnalyticsIsABadRequest() {
+        // Arrange: the service answers null for ids it can't use
+        when(cricketService.getMatchAnalytics("abc")).thenReturn(null);
+
+        // Act
+        ResponseEntity<Object> response = controller.getMatchAnalytics("abc");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(String.valueOf(response.getBody()).contains("Invalid match id"));
+    }
+
+    @Test
+    void snapshotIsGzippedOnlyWhenAccepted() throws Exception {
+        // Arrange
+        SerializedSnapshot snapshot = SerializedSnapshot.ofJson("[{\"name\":\"India\"}]".getBytes(StandardCharsets.UTF_8));
+        when(cricketService.getCountriesSnapshot()).thenReturn(snapshot);
+
+        // Act
+        ResponseEntity<Object> gzip = controller.getCountries(null, "br, GZIP");
+        ResponseEntity<Object> identity = controller.getCountries(null, null);
+        ResponseEntity<Object> refused = controller.getCountries(null, "gzip;q=0, br");
+
+        // Assert: each encoding has its own strong validator
+        assertSame(snapshot.gzip(), gzip.getBody());
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(snapshot.gzipEtag(), gzip.getHeaders().getETag());
+        assertSame(snapshot.json(), identity.getBody());
+        assertNull(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(snapshot.etag(), identity.getHeaders().getETag());
+        assertNotEquals(gzip.getHeaders().getETag(), identity.getHeaders().getETag());
+        assertSame(snapshot.json(), refused.getBody());
+        for (ResponseEntity<Object> response : List.of(gzip, identity, refused)) {
+            assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getFirst(HttpHeaders.VARY));
+            assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        }
+    }
+
+    @Test
+    void matchingEtagIsNotModifiedWithoutBody() throws Exception {
+        // Arrange
+        SerializedSnapshot snapshot = SerializedSnapshot.ofJson("[]".getBytes(StandardCharsets.UTF_8));
+        when(cricketService.getCountriesSnapshot()).thenReturn(snapshot);
+
+        // Act
+        ResponseEntity<Object> response = controller.getCountries("W/" + snapshot.etag(), "gzip");
+        ResponseEntity<Object> fromGzip = controller.getCountries(snapshot.gzipEtag(), null);
+
+        // Assert: either variant's tag validates, the answer names the variant it would send
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(snapshot.gzipEtag(), response.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, fromGzip.getStatusCode());
+        assertEquals(snapshot.etag(), fromGzip.getHeaders().getETag());
+    }
+
+    @Test
+    void acceptEncodingHonoursQValues() {
+        // Act + Assert
+        assertTrue(CricketController.acceptsGzip("gzip"));
+        assertTrue(CricketController.acceptsGzip("deflate, gzip;q=0.5"));
+        assertTrue(CricketController.acceptsGzip("x-gzip"));
+        assertTrue(CricketController.acceptsGzip("*"));
+        assertTrue(CricketController.acceptsGzip("br;q=1.0, gzip; Q=0.001"));
+        assertFalse(CricketController.acceptsGzip("gzip;q=0"));
+        assertFalse(CricketController.acceptsGzip("gzip;q=0.000, *"));
+        assertFalse(CricketController.acceptsGzip("*;q=0"));
+        assertFalse(CricketController.acceptsGzip("br, identity"));
+        assertFalse(CricketController.acceptsGzip("gzip;q=abc"));
+        assertFalse(CricketController.acceptsGzip(null));
+    }
+
+    @Test
+    void withoutSnapshotTheListIsSerializedNormally() {
+        // Arrange
+        when(cricketService.getCountriesSnapshot()).thenReturn(null);
+        CountryListResponse countries = new CountryListResponse();
+        when(cricketService.getCountryList()).thenReturn(countries);
+
+        // Act
+        ResponseEntity<Object> response = controller.getCountries("\"anything\"", "gzip");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(countries, response.getBody());
+        assertNull(response.getHeaders().getETag());
+    }
+}
@@ -0,0 +1,79 @@
+package com.cricsphere.controller;
+
+import com.cricsphere.limit.RequestPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadSheddingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoadSheddingFilter filter = new LoadSheddingFilter(meterRegistry, true, 5, 5, 5, 500, 0.8, 2);
+
+    @Test
+    void classifiesPaths() {
+        assertEquals(RequestPriority.CRITICAL, LoadSheddingFilter.priorityOf("/live/summary"));
+        assertEquals(RequestPriority.CRITICAL, LoadSheddingFilter.priorityOf("/match/42/scorecard"));
+        assertEquals(RequestPriority.NORMAL, LoadSheddingFilter.priorityOf("/upcoming"));
+        assertEquals(RequestPriority.LOW, LoadSheddingFilter.priorityOf("/players/search"));
+        assertEquals(RequestPriority.LOW, LoadSheddingFilter.priorityOf("/news/7"));
+    }
+
+    @Test
+    void shedsWith503AndRetryAfterWhenSaturated() throws Exception {
+        // Arrange: every slot taken
+        for (int i = 0; i < 5; i++) assertNotNull(filter.limiter().tryAcquire(RequestPriority.NORMAL));
+
+        // Act
+        MockHttpServletResponse response = call("/api/v1/cricket/upcoming");
+
+        // Assert
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(response.getContentAsString().contains("\"status\":503"));
+        assertEquals(1.0, meterRegistry.get("http.concurrency.shed").tag("priority", "normal").counter().count());
+    }
+
+    @Test
+    void liveRequestsAreAdmittedWhenSaturated() throws Exception {
+        // Arrange
+        for (int i = 0; i < 5; i++) filter.limiter().tryAcquire(RequestPriority.NORMAL);
+
+        // Act
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/cricket/live"), response, chain);
+
+        // Assert: reached the controller, slot freed afterwards
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(5, filter.limiter().inflight());
+    }
+
+    @Test
+    void otherPathsAreNotLimited() throws Exception {
+        // Arrange
+        for (int i = 0; i < 5; i++) filter.limiter().tryAcquire(RequestPriority.NORMAL);
+
+        // Act
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/auth/login"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(0.0, meterRegistry.get("http.concurrency.shed").tag("priority", "normal").counter().count());
+    }
+
+    private MockHttpServletResponse call(String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", uri), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,49 @@
+package com.cricsphere.controller;
+
+import com.cricsphere.util.RequestDeadline;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestDeadlineFilterTest {
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(8_000L, 200L, 20_000L);
+
+    @Test
+    void timeoutComesFromHeaderWithinBounds() {
+        assertEquals(8_000L, filter.timeoutFor(request(null)));
+        assertEquals(1_500L, filter.timeoutFor(request("1500")));
+        assertEquals(200L, filter.timeoutFor(request("5")));
+        assertEquals(20_000L, filter.timeoutFor(request("999999")));
+        assertEquals(8_000L, filter.timeoutFor(request("soon")));
+    }
+
+    @Test
+    void deadlineIsVisibleDuringTheRequestOnly() throws Exception {
+        // Arrange
+        AtomicLong seen = new AtomicLong(-1);
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+        }, (req, res, next) -> seen.set(RequestDeadline.remainingOr(-1)));
+
+        // Act
+        filter.doFilter(request("1500"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertTrue(seen.get() > 1_000 && seen.get() <= 1_500, "remaining " + seen.get());
+        assertNull(RequestDeadline.current());
+    }
+
+    private static MockHttpServletRequest request(String timeout) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/cricket/live");
+        if (timeout != null) request.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, timeout);
+        return request;
+    }
+}
@@ -0,0 +1,100 @@
+package com.cricsphere.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Bulkhead bulkhead = new Bulkhead("news", 1, 1, 200L, meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void classifiesEndpointsByUrl() {
+        String base = "https://cricbuzz-cricket2.p.rapidapi.com";
+
+        assertEquals(EndpointClass.LIVE, EndpointClass.of(base + "/matches/v1/live"));
+        assertEquals(EndpointClass.LIVE, EndpointClass.of(base + "/home/v1/index"));
+        assertEquals(EndpointClass.MATCH_CENTER, EndpointClass.of(base + "/mcenter/v1/100/hcomm"));
+        assertEquals(EndpointClass.TEAMS_PLAYERS, EndpointClass.of(base + "/teams/v1/2/players"));
+        assertEquals(EndpointClass.TEAMS_PLAYERS, EndpointClass.of(base + "/stats/v1/player/1/career"));
+        assertEquals(EndpointClass.NEWS, EndpointClass.of(base + "/news/v1/detail/7"));
+        assertEquals(EndpointClass.REFERENCE, EndpointClass.of(base + "/stats/v1/rankings/teams"));
+    }
+
+    @Test
+    void rejectsAtOnceWhenRunningAndQueueAreFull() throws Exception {
+        // Arrange: one running, one queued
+        CompletableFuture<String> running = bulkhead.submit(this::blockUntilReleased);
+        CompletableFuture<String> queued = bulkhead.submit(() -> "queued");
+        awaitActive(1);
+
+        // Act
+        CompletableFuture<String> rejected = bulkhead.submit(() -> "rejected");
+
+        // Assert
+        assertTrue(rejected.isCompletedExceptionally());
+        assertInstanceOf(BulkheadFullException.class, cause(rejected));
+        assertEquals(1.0, meterRegistry.get("rapidapi.bulkhead.saturation").gauge().value());
+        assertEquals(1.0, meterRegistry.get("rapidapi.bulkhead.rejected").tag("reason", "full").counter().count());
+
+        release.countDown();
+        assertEquals("released", running.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void queuedCallIsDroppedAfterQueueTimeout() throws Exception {
+        // Arrange
+        bulkhead.submit(this::blockUntilReleased);
+        awaitActive(1);
+
+        // Act
+        long start = System.nanoTime();
+        CompletableFuture<String> queued = bulkhead.submit(() -> "queued");
+        Throwable error = cause(queued);
+        long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert: failed after ~200 ms, not when the running call finished
+        assertInstanceOf(BulkheadFullException.class, error);
+        assertTrue(waited < 1_000, "waited " + waited + " ms");
+        assertEquals(1.0, meterRegistry.get("rapidapi.bulkhead.rejected").tag("reason", "queue-timeout").counter().count());
+        assertEquals(0.5, bulkhead.saturation());
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "released";
+    }
+
+    private void awaitActive(int n) throws InterruptedException {
+        for (int i = 0; i < 100 && meterRegistry.get("rapidapi.bulkhead.active").gauge().value() < n; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static Throwable cause(CompletableFuture<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(2, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+}
@@ -0,0 +1,91 @@
+package com.cricsphere.integration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, 30_000L, now::get);
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onResult(true);
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void opensOnFailureRateAndRefusesCalls() {
+        // Arrange
+        record(false, false, true, true);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(30_000L, breaker.millisUntilRetry());
+    }
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        // Arrange: 4 failures, then 10 successes push them out
+        record(false, false, false, false, false, false, true);
+        for (int i = 0; i < 10; i++) record(false);
+
+        // Act
+        record(true, true, true, true);
+
+        // Assert: 4 failures out of the last 10
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void halfOpenLetsOneProbeThroughAndClosesOnSuccess() {
+        // Arrange
+        record(true, true, true, true);
+        now.addAndGet(30_000L);
+
+        // Act
+        boolean probe = breaker.tryAcquire();
+        boolean second = breaker.tryAcquire();
+        breaker.onResult(false);
+
+        // Assert
+        assertTrue(probe);
+        assertFalse(second);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void failedProbeReopens() {
+        // Arrange
+        record(true, true, true, true);
+        now.addAndGet(30_000L);
+
+        // Act
+        assertTrue(breaker.tryAcquire());
+        breaker.onResult(true);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    private void record(boolean... failed) {
+        for (boolean f : failed) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onResult(f);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.cricsphere.integration;
+
+import com.cricsphere.model.CricApiInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CricApiCrawlerTest {
+
+    private static final int PAGE = 25;
+
+    @TempDir
+    Path dataDir;
+
+    // Stub CricAPI: `rows` rows, pages at `failing` offsets answer with a failure status
+    private final CricApiClient cricApi = mock(CricApiClient.class);
+    private final List<Integer> requested = new CopyOnWriteArrayList<>();
+    private final Set<Integer> failing = new HashSet<>();
+    private int rows;
+
+    private final List<CricApiCrawler> crawlers = new ArrayList<>();
+
+    CricApiCrawlerTest() {
+        when(cricApi.fetchList(eq("players"), anyInt(), eq(String.class))).thenAnswer(inv -> {
+            int offset = inv.getArgument(1);
+            requested.add(offset);
+            if (failing.contains(offset)) return new CricApiPage<String>(List.of(), "failure", null, 0, 0);
+
+            List<String> data = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + PAGE, rows); i++) data.add("row" + i);
+            CricApiInfo info = CricApiInfo.builder().totalRows(rows).build();
+            return new CricApiPage<>(data, "success", info, 100, 1);
+        });
+    }
+
+    @AfterEach
+    void shutdown() {
+        crawlers.forEach(CricApiCrawler::shutdown);
+    }
+
+    @Test
+    void failedTailPageIsPlannedAgain() {
+        // Arrange: budget of 3 -> page 0 plus two more per run
+        CricApiCrawler crawler = crawler(3);
+        rows = 100;
+        failing.add(50);
+        crawler.crawl("players", String.class, true);
+
+        // Act
+        failing.clear();
+        requested.clear();
+        rows = 125; // the list also grew meanwhile
+        CricApiCrawler.CrawlResult<String> second = crawler.crawl("players", String.class, false);
+
+        // Assert: the tail resumes at the failed page, not at the previous total
+        assertEquals(List.of(0, 50, 75), requested.stream().sorted().toList());
+        assertTrue(second.changed().contains("row50"));
+    }
+
+    @Test
+    void budgetCutTailContinuesNextRun() {
+        // Arrange: budget of 3 -> page 0 plus two more per run
+        CricApiCrawler crawler = crawler(3);
+        rows = 250;
+        crawler.crawl("players", String.class, true);
+
+        // Act
+        requested.clear();
+        crawler.crawl("players", String.class, false);
+
+        // Assert
+        assertEquals(List.of(0, 75, 100), requested.stream().sorted().toList());
+    }
+
+    @Test
+    void coldStoreAfterRestartFetchesFromTheStartAgain() {
+        // Arrange: a full crawl, persisted
+        rows = 75;
+        crawler(12).crawl("players", String.class, true);
+
+        // Act: new process, same data dir, nothing held in memory
+        requested.clear();
+        CricApiCrawler.CrawlResult<String> afterRestart = crawler(12).crawl("players", String.class, true);
+
+        // Assert
+        assertEquals(List.of(0, 25, 50), requested.stream().sorted().toList());
+        assertEquals(75, afterRestart.changed().size());
+        assertTrue(afterRestart.complete());
+    }
+
+    @Test
+    void unchangedPagesAreNotReported() {
+        // Arrange
+        CricApiCrawler crawler = crawler(12);
+        rows = 75;
+        crawler.crawl("players", String.class, true);
+
+        // Act
+        CricApiCrawler.CrawlResult<String> again = crawler.crawl("players", String.class, false);
+
+        // Assert
+        assertTrue(again.changed().isEmpty());
+        assertFalse(again.pagesFetched() < 3);
+    }
+
+    @Test
+    void knownTotalOnlyMovesThroughArrivedPages() {
+        // Assert
+        assertEquals(50, CricApiCrawler.advanceKnownTotal(0, Set.of(0, 25, 75), 100, PAGE));
+        assertEquals(100, CricApiCrawler.advanceKnownTotal(60, Set.of(0, 50, 75), 100, PAGE));
+        assertEquals(60, CricApiCrawler.advanceKnownTotal(60, Set.of(0), 100, PAGE));
+        assertEquals(80, CricApiCrawler.advanceKnownTotal(120, Set.of(0), 80, PAGE));
+    }
+
+    private CricApiCrawler crawler(int pageBudget) {
+        CricApiCrawler crawler = new CricApiCrawler(cricApi, new ObjectMapper(), pageBudget, 10, dataDir.toString());
+        crawlers.add(crawler);
+        return crawler;
+    }
+}
@@ -0,0 +1,217 @@
+package com.cricsphere.integration;
+
+import com.cricsphere.quota.InMemoryQuotaStore;
+import com.cricsphere.quota.QuotaScheduler;
+import com.cricsphere.service.FirestoreCacheService;
+import com.cricsphere.util.RequestDeadline;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RapidApiClientResilienceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-10T10:00:00Z"), ZoneId.of("UTC"));
+
+    // Stub upstream: /fail -> 500, /slow -> first call takes 2s, everything else answers at once
+    private final AtomicInteger failCalls = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+    private final ExecutorService serverThreads = Executors.newCachedThreadPool();
+    private HttpServer upstream;
+    private String baseUrl;
+
+    private final AtomicLong now = new AtomicLong(CLOCK.millis());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FirestoreCacheService firestore = mock(FirestoreCacheService.class);
+    private final RapidApiKeyPool pool = new RapidApiKeyPool(List.of("key"), new InMemoryQuotaStore(), 100, 10,
+            120_000L, ZoneId.of("UTC"), CLOCK, "test-node", 3_600_000L);
+
+    @BeforeEach
+    void startUpstream() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        upstream.setExecutor(serverThreads);
+        upstream.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            int status = 200;
+            if (path.startsWith("/fail")) {
+                failCalls.incrementAndGet();
+                status = 500;
+            } else if (path.startsWith("/slow") && slowCalls.incrementAndGet() == 1) {
+                sleep(2_000);
+            }
+
+            byte[] body = ("{\"path\":\"" + path + "\",\"n\":" + slowCalls.get() + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        upstream.start();
+        baseUrl = "http://127.0.0.1:" + upstream.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopUpstream() {
+        upstream.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void openBreakerServesStaleWithoutCallingUpstream() {
+        // Arrange
+        RapidApiClient client = client(false);
+        when(firestore.get(anyString())).thenReturn(new FirestoreCacheService.CacheEntry("{\"stale\":true}", 0L));
+        when(firestore.isExpired(any())).thenReturn(true);
+
+        // Act: 4 server errors open the breaker, the next calls never leave the process
+        for (int i = 0; i < 4; i++) client.fetch(baseUrl + "/fail/" + i, 60_000L);
+        String body = client.fetch(baseUrl + "/fail/next", 60_000L);
+
+        // Assert
+        assertEquals("{\"stale\":true}", body);
+        assertEquals(4, failCalls.get());
+        assertEquals(0, pool.used());
+        assertEquals(2.0, meterRegistry.get("rapidapi.breaker.state").gauge().value());
+    }
+
+    @Test
+    void missedRereadUnderTheLockKeepsTheStaleCopy() {
+        // Arrange: the first read finds a stale copy, the re-read under the lock times out
+        RapidApiClient client = client(false);
+        when(firestore.get(anyString())).thenReturn(new FirestoreCacheService.CacheEntry("{\"stale\":true}", 0L), null);
+        when(firestore.isExpired(any())).thenReturn(true);
+
+        // Act
+        String body = client.fetch(baseUrl + "/fail/once", 60_000L);
+
+        // Assert
+        assertEquals("{\"stale\":true}", body);
+        assertEquals(1, failCalls.get());
+    }
+
+    @Test
+    void breakerProbesAgainAfterOpenWindow() {
+        // Arrange
+        RapidApiClient client = client(false);
+        for (int i = 0; i < 4; i++) client.fetch(baseUrl + "/fail/" + i, 60_000L);
+
+        // Act
+        now.addAndGet(30_000L);
+        String body = client.fetch(baseUrl + "/ok", 60_000L);
+
+        // Assert
+        assertTrue(body.contains("/ok"), body);
+        assertEquals(0.0, meterRegistry.get("rapidapi.breaker.state").gauge().value());
+    }
+
+    @Test
+    void unadmittedResultDoesNotDecideTheHalfOpenProbe() {
+        // Arrange: open the breaker, then let the window pass so one probe is due
+        UpstreamHealth health = health(false);
+        CircuitBreaker breaker = health.breaker("host");
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            health.record("host", 1_000_000L, true, true);
+        }
+        now.addAndGet(30_000L);
+        assertTrue(breaker.tryAcquire());
+
+        // Act: a hedge finishing first must not close the breaker for the probe
+        health.record("host", 1_000_000L, false, false);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        health.record("host", 1_000_000L, false, true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void slowCallIsHedgedAfterP95() {
+        // Arrange: fast history gives a p95 well under the 2s stall
+        RapidApiClient client = client(true);
+        for (int i = 0; i < 20; i++) client.fetch(baseUrl + "/warmup/" + i, 60_000L);
+        now.addAndGet(5_000L);
+
+        // Act
+        long start = System.nanoTime();
+        String body = client.fetch(baseUrl + "/slow", 60_000L);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert: the hedge answered, both attempts hold a quota slot
+        assertTrue(body.contains("\"n\":2"), body);
+        assertTrue(elapsedMillis < 1_500, "took " + elapsedMillis + " ms");
+        assertEquals(22, pool.used());
+        assertEquals(1.0, meterRegistry.get("rapidapi.hedge.won").counter().count());
+    }
+
+    @Test
+    void expiredDeadlineServesStaleAndStillCachesTheLateBody() {
+        // Arrange
+        RapidApiClient client = client(false);
+        when(firestore.get(anyString())).thenReturn(new FirestoreCacheService.CacheEntry("{\"stale\":true}", 0L));
+        when(firestore.isExpired(any())).thenReturn(true);
+        RequestDeadline deadline = RequestDeadline.start(300);
+
+        try {
+            // Act
+            long start = System.nanoTime();
+            String body = client.fetch(baseUrl + "/slow", 60_000L);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Assert: answered from cache within the budget, flagged stale
+            assertEquals("{\"stale\":true}", body);
+            assertTrue(elapsedMillis < 1_000, "took " + elapsedMillis + " ms");
+            assertTrue(deadline.isStale());
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        // The upstream answer arrives later and is stored for the next request
+        verify(firestore, timeout(5_000)).set(anyString(), contains("/slow"), anyLong());
+        assertEquals(1, pool.used());
+    }
+
+    private RapidApiClient client(boolean hedging) {
+        return new RapidApiClient(new RestTemplateBuilder(), firestore, event -> {
+        }, new QuotaScheduler(pool, meterRegistry), pool, health(hedging),
+                new UpstreamBulkheads(new MockEnvironment(), meterRegistry));
+    }
+
+    private UpstreamHealth health(boolean hedging) {
+        return new UpstreamHealth(
+                new UpstreamHealth.Settings(20, 4, 0.5, 30_000L, 5_000L, hedging, 20, 50L, 3_000L),
+                meterRegistry, now::get);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
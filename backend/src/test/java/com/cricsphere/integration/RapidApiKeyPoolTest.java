@@ -0,0 +1,175 @@
+package com.cricsphere.integration;
+
+import com.cricsphere.quota.InMemoryQuotaStore;
+import com.cricsphere.quota.QuotaClass;
+import com.cricsphere.quota.QuotaLedger;
+import com.cricsphere.quota.QuotaScheduler;
+import com.cricsphere.service.FirestoreCacheService;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class RapidApiKeyPoolTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-10T10:00:00Z"), ZoneId.of("UTC"));
+    private static final long BENCH_MILLIS = 3_600_000L;
+
+    // Stub upstream: answers by key ("bad" -> 403, "limited" -> 429, anything else -> 200)
+    private final Map<String, AtomicInteger> callsByKey = new ConcurrentHashMap<>();
+    private HttpServer upstream;
+    private String baseUrl;
+
+    @BeforeEach
+    void startUpstream() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        upstream.createContext("/", exchange -> {
+            String key = exchange.getRequestHeaders().getFirst("x-rapidapi-key");
+            callsByKey.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+
+            int status = switch (key) {
+                case "bad" -> 403;
+                case "limited" -> 429;
+                default -> 200;
+            };
+            byte[] body = ("{\"key\":\"" + key + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        upstream.start();
+        baseUrl = "http://127.0.0.1:" + upstream.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void spreadsReservationsOverKeysLeastUsedFirst() {
+        // Arrange
+        RapidApiKeyPool pool = pool("k1", "k2", "k3");
+        Map<String, Integer> perKey = new ConcurrentHashMap<>();
+
+        // Act
+        for (int i = 0; i < 30; i++) {
+            long reservation = pool.tryReserve();
+            assertNotEquals(QuotaLedger.REFUSED, reservation);
+            perKey.merge(pool.secretFor(reservation), 1, Integer::sum);
+        }
+
+        // Assert: 30 calls over 3 keys with 100 each, evenly
+        assertEquals(Map.of("k1", 10, "k2", 10, "k3", 10), perKey);
+        assertEquals(30, pool.used());
+        assertEquals(270, pool.remaining());
+        assertEquals(300, pool.limit());
+    }
+
+    @Test
+    void reservationTokenIdentifiesItsKeyAndDay() {
+        // Arrange
+        RapidApiKeyPool pool = pool("k1", "k2");
+
+        // Act
+        long first = pool.tryReserve();
+        long second = pool.tryReserve();
+
+        // Assert
+        assertNotEquals(pool.secretFor(first), pool.secretFor(second));
+        assertEquals(pool.currentEpoch(), pool.epochOf(first));
+
+        pool.release(first);
+        pool.release(second);
+        assertEquals(0, pool.used());
+    }
+
+    @Test
+    void forbiddenKeyIsBenchedAndRequestRetriedOnAnotherKey() {
+        // Arrange
+        RapidApiKeyPool pool = pool("bad", "good");
+        QuotaScheduler scheduler = new QuotaScheduler(pool, new SimpleMeterRegistry());
+        RapidApiClient client = client(pool, scheduler);
+
+        // Act
+        String first = client.fetch(baseUrl + "/matches/v1/live", 60_000L);
+        String second = client.fetch(baseUrl + "/matches/v1/recent", 60_000L);
+
+        // Assert: one 403, then everything goes to the healthy key; the 403 isn't counted
+        assertEquals("{\"key\":\"good\"}", first);
+        assertEquals("{\"key\":\"good\"}", second);
+        assertEquals(1, callsByKey.get("bad").get());
+        assertEquals(2, callsByKey.get("good").get());
+        assertEquals(2, pool.used());
+        assertEquals(1, scheduler.used(QuotaClass.LIVE));
+        assertEquals(1, scheduler.used(QuotaClass.MATCH_INFO));
+        assertEquals(100, pool.limit());
+    }
+
+    @Test
+    void rateLimitedKeyIsExhaustedWithoutStoppingTheOthers() {
+        // Arrange
+        RapidApiKeyPool pool = pool("limited", "good");
+        RapidApiClient client = client(pool);
+
+        // Act
+        String body = client.fetch(baseUrl + "/matches/v1/live", 60_000L);
+
+        // Assert
+        assertEquals("{\"key\":\"good\"}", body);
+        assertEquals(99, pool.remaining());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("good", pool.secretFor(pool.tryReserve()));
+        }
+    }
+
+    @Test
+    void allKeysFailingFallsBackToErrorWithoutSpendingQuota() {
+        // Arrange
+        RapidApiKeyPool pool = pool("bad");
+        RapidApiClient client = client(pool);
+
+        // Act
+        String body = client.fetch(baseUrl + "/matches/v1/live", 60_000L);
+
+        // Assert
+        assertTrue(body.contains("\"error\":true"), body);
+        assertEquals(0, pool.used());
+        assertEquals(QuotaLedger.REFUSED, pool.tryReserve());
+    }
+
+    private RapidApiKeyPool pool(String... keys) {
+        return new RapidApiKeyPool(List.of(keys), new InMemoryQuotaStore(), 100, 10, 120_000L,
+                ZoneId.of("UTC"), CLOCK, "test-node", BENCH_MILLIS);
+    }
+
+    private RapidApiClient client(RapidApiKeyPool pool) {
+        return client(pool, new QuotaScheduler(pool, new SimpleMeterRegistry()));
+    }
+
+    private RapidApiClient client(RapidApiKeyPool pool, QuotaScheduler scheduler) {
+        return new RapidApiClient(new RestTemplateBuilder(), mock(FirestoreCacheService.class), event -> {
+        }, scheduler, pool, new UpstreamHealth(
+                new UpstreamHealth.Settings(20, 10, 0.5, 30_000L, 5_000L, false, 20, 50L, 3_000L),
+                new SimpleMeterRegistry(), CLOCK::millis),
+                new UpstreamBulkheads(new MockEnvironment(), new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.cricsphere.limit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local load test: closed-loop clients against a simulated backend with a
+ * fixed capacity (a few "workers", fixed service time), with and without
+ * the {@link ConcurrencyLimiter}.
+ *
+ * Past saturation, unlimited latency grows with the number of clients (they
+ * all queue), while with the limiter the admitted requests keep a flat p99 and
+ * the excess is shed at once. Not part of the test suite, run manually:
+ *
+ *   mvn -q test-compile
+ *   java -cp target/test-classes:target/classes com.cricsphere.limit.ConcurrencyLimiterLoadTest [seconds-per-step]
+ */
+public class ConcurrencyLimiterLoadTest {
+
+    private static final int WORKERS = 8;
+    private static final long SERVICE_MICROS = 2_000;
+    private static final int[] CLIENTS = {4, 8, 16, 32, 64, 128};
+
+    public static void main(String[] args) throws Exception {
+        int seconds = (args.length > 0) ? Integer.parseInt(args[0]) : 3;
+
+        System.out.printf("backend: %d workers x %d us%n%n", WORKERS, SERVICE_MICROS);
+        System.out.printf("%-10s %8s %10s %10s %10s %10s %8s%n",
+                "mode", "clients", "ok/s", "p50 ms", "p99 ms", "shed %", "limit");
+
+        for (boolean limited : new boolean[]{false, true}) {
+            // One limiter per mode, kept across steps like in a running server
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(new VegasLimit(20, 4, 200, 500), 0.8);
+            for (int clients : CLIENTS) {
+                run(limited ? "limited" : "unlimited", clients, seconds, limited ? limiter : null);
+            }
+            System.out.println();
+        }
+    }
+
+    private static void run(String mode, int clients, int seconds, ConcurrencyLimiter limiter) throws Exception {
+        Semaphore backend = new Semaphore(WORKERS, true);
+        List<List<Long>> latencies = new ArrayList<>();
+        LongAdder shed = new LongAdder();
+        AtomicBoolean stop = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(clients);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+
+        for (int c = 0; c < clients; c++) {
+            List<Long> mine = new ArrayList<>();
+            latencies.add(mine);
+            pool.execute(() -> {
+                try {
+                    while (!stop.get()) {
+                        long start = System.nanoTime();
+                        ConcurrencyLimiter.Permit permit = null;
+                        if (limiter != null) {
+                            permit = limiter.tryAcquire(RequestPriority.NORMAL);
+                            if (permit == null) {
+                                shed.increment();
+                                // Client honours Retry-After (scaled down)
+                                TimeUnit.MILLISECONDS.sleep(5);
+                                continue;
+                            }
+                        }
+                        try {
+                            backend.acquire();
+                            try {
+                                busyWait(SERVICE_MICROS);
+                            } finally {
+                                backend.release();
+                            }
+                        } finally {
+                            if (permit != null) permit.release();
+                        }
+                        mine.add(System.nanoTime() - start);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        TimeUnit.SECONDS.sleep(seconds);
+        stop.set(true);
+        done.await();
+        pool.shutdown();
+
+        List<Long> all = new ArrayList<>();
+        latencies.forEach(all::addAll);
+        Collections.sort(all);
+
+        double ok = all.size();
+        double shedPct = (shed.sum() + ok == 0) ? 0 : 100.0 * shed.sum() / (shed.sum() + ok);
+        System.out.printf("%-10s %8d %10.0f %10.2f %10.2f %10.1f %8s%n",
+                mode, clients, ok / seconds, percentile(all, 0.50), percentile(all, 0.99), shedPct,
+                (limiter != null) ? String.valueOf(limiter.limit()) : "-");
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) return 0;
+        int i = (int) Math.min(sorted.size() - 1, Math.ceil(p * sorted.size()) - 1);
+        return sorted.get(Math.max(0, i)) / 1_000_000.0;
+    }
+
+    private static void busyWait(long micros) throws InterruptedException {
+        // Sleep-based service time: workers are a capacity limit, not CPU
+        TimeUnit.MICROSECONDS.sleep(micros);
+    }
+}
@@ -0,0 +1,92 @@
+package com.cricsphere.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VegasLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    private long now;
+
+    @Test
+    void growsWhileLatencyStaysAtBaseline() {
+        // Arrange
+        VegasLimit limit = new VegasLimit(20, 4, 200, 500);
+
+        // Act: fully used, latency flat
+        feed(limit, 2_000, 10 * MS, limit::limit);
+
+        // Assert
+        assertTrue(limit.limit() > 40, "limit " + limit.limit());
+    }
+
+    @Test
+    void shrinksWhenRequestsQueue() {
+        // Arrange: baseline 10 ms at limit 100
+        VegasLimit limit = new VegasLimit(100, 4, 200, 500);
+        feed(limit, 200, 10 * MS, () -> 10);
+        int before = limit.limit();
+
+        // Act: latency 4x the baseline with the limit in use
+        feed(limit, 5_000, 40 * MS, limit::limit);
+
+        // Assert
+        assertTrue(limit.limit() < before / 2, before + " -> " + limit.limit());
+        assertTrue(limit.limit() >= 4);
+    }
+
+    @Test
+    void doesNotMoveWhenAppLimited() {
+        // Arrange
+        VegasLimit limit = new VegasLimit(20, 4, 200, 500);
+
+        // Act: only 2 in flight, far below the limit
+        feed(limit, 1_000, 10 * MS, () -> 2);
+
+        // Assert
+        assertEquals(20, limit.limit());
+    }
+
+    @Test
+    void limiterShedsLowPriorityFirstAndAlwaysAdmitsCritical() {
+        // Arrange: limit 10, low priority capped at 8
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new VegasLimit(10, 10, 10, 500), 0.8);
+        for (int i = 0; i < 8; i++) assertNotNull(limiter.tryAcquire(RequestPriority.NORMAL));
+
+        // Act / Assert
+        assertNull(limiter.tryAcquire(RequestPriority.LOW));
+        assertNotNull(limiter.tryAcquire(RequestPriority.NORMAL));
+        assertNotNull(limiter.tryAcquire(RequestPriority.NORMAL));
+        assertNull(limiter.tryAcquire(RequestPriority.NORMAL));
+        assertNotNull(limiter.tryAcquire(RequestPriority.CRITICAL));
+        assertEquals(11, limiter.inflight());
+    }
+
+    @Test
+    void releaseIsIdempotent() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new VegasLimit(10, 4, 10, 500), 0.8);
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire(RequestPriority.NORMAL);
+
+        // Act
+        permit.release();
+        permit.release();
+
+        // Assert
+        assertEquals(0, limiter.inflight());
+    }
+
+    private void feed(VegasLimit limit, int samples, long rttNanos, IntSupplier inflight) {
+        for (int i = 0; i < samples; i++) {
+            now += MS;
+            limit.update(rttNanos, inflight.getAsInt(), now);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cricsphere.quota;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contention benchmark: lock-free {@link QuotaLedger} vs the previous
+ * synchronized day-rotation + check-then-act counter.
+ *
+ * Each thread loops reserve/release (a fetch that misses cache and fails) and
+ * a plain day check (a cache hit). Not part of the test suite, run manually:
+ *
+ *   mvn -q test-compile
+ *   java -cp target/test-classes:target/classes com.cricsphere.quota.QuotaLedgerBenchmark [threads] [seconds]
+ */
+public class QuotaLedgerBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int threads = (args.length > 0) ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int seconds = (args.length > 1) ? Integer.parseInt(args[1]) : 3;
+
+        QuotaLedger ledger = new QuotaLedger(100, ZoneId.of("UTC"), Clock.systemUTC());
+        SynchronizedCounter legacy = new SynchronizedCounter(100);
+
+        // Warm-up, then measure
+        run("ledger (warm-up)", threads, 1, () -> {
+            ledger.release(ledger.tryReserve());
+            ledger.currentEpoch();
+        });
+        run("synchronized (warm-up)", threads, 1, () -> {
+            legacy.release(legacy.tryReserve());
+            legacy.rotateDayIfNeeded();
+        });
+
+        run("lock-free ledger", threads, seconds, () -> {
+            ledger.release(ledger.tryReserve());
+            ledger.currentEpoch();
+        });
+        run("synchronized counter", threads, seconds, () -> {
+            legacy.release(legacy.tryReserve());
+            legacy.rotateDayIfNeeded();
+        });
+    }
+
+    private static void run(String name, int threads, int seconds, Runnable op) throws Exception {
+        LongAdder ops = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long local = 0;
+                while ((local & 1023) != 0 || System.nanoTime() < deadline) {
+                    op.run();
+                    local++;
+                }
+                ops.add(local);
+            });
+        }
+
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(seconds + 10L, TimeUnit.SECONDS);
+
+        System.out.printf("%-24s threads=%-3d %,15d ops/s%n", name, threads, ops.sum() / seconds);
+    }
+
+    /**
+     * The previous RapidApiClient scheme, kept here only for comparison.
+     */
+    private static final class SynchronizedCounter {
+        private final int limit;
+        private final AtomicInteger count = new AtomicInteger();
+        private LocalDate currentDay = LocalDate.now();
+
+        private SynchronizedCounter(int limit) {
+            this.limit = limit;
+        }
+
+        synchronized void rotateDayIfNeeded() {
+            LocalDate today = LocalDate.now();
+            if (!today.equals(currentDay)) {
+                currentDay = today;
+                count.set(0);
+            }
+        }
+
+        boolean tryReserve() {
+            rotateDayIfNeeded();
+            if (count.get() >= limit) return false;
+            count.incrementAndGet();
+            return true;
+        }
+
+        void release(boolean reserved) {
+            if (reserved) count.decrementAndGet();
+        }
+    }
+}
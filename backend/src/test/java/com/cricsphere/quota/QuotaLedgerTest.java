@@ -0,0 +1,99 @@
+package com.cricsphere.quota;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class QuotaLedgerTest {
+
+    private static final ZoneId RESET_ZONE = ZoneId.of("Asia/Kolkata");
+
+    @Test
+    void concurrentReservationsNeverOvershootLimit() throws Exception {
+        // Arrange
+        QuotaLedger ledger = new QuotaLedger(100, RESET_ZONE, Clock.systemUTC());
+        int threads = 16;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        if (ledger.tryReserve() != QuotaLedger.REFUSED) granted.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(100, granted.get());
+        assertEquals(100, ledger.used());
+        assertEquals(0, ledger.remaining());
+    }
+
+    @Test
+    void releaseReturnsSlotWithinSameEpochOnly() {
+        // Arrange
+        MutableClock clock = new MutableClock(at(2026, 3, 10, 23, 0));
+        QuotaLedger ledger = new QuotaLedger(2, RESET_ZONE, clock);
+
+        // Act
+        long first = ledger.tryReserve();
+        long second = ledger.tryReserve();
+        long refused = ledger.tryReserve();
+        ledger.release(second);
+
+        // Assert
+        assertNotEquals(QuotaLedger.REFUSED, first);
+        assertEquals(QuotaLedger.REFUSED, refused);
+        assertEquals(1, ledger.used());
+
+        // A slot from yesterday must not free one of today's
+        clock.now = at(2026, 3, 11, 0, 30);
+        long today = ledger.tryReserve();
+        ledger.release(first);
+
+        assertNotEquals(first, today);
+        assertEquals(1, ledger.used());
+    }
+
+    @Test
+    void rollsOverAtMidnightInResetZone() {
+        // Arrange
+        MutableClock clock = new MutableClock(at(2026, 3, 10, 23, 59));
+        QuotaLedger ledger = new QuotaLedger(1, RESET_ZONE, clock);
+        ledger.exhaust();
+
+        // Act + Assert
+        assertEquals(QuotaLedger.REFUSED, ledger.tryReserve());
+        assertEquals(60_000, ledger.millisUntilReset());
+
+        clock.now = at(2026, 3, 11, 0, 0);
+        assertEquals(0, ledger.used());
+        assertNotEquals(QuotaLedger.REFUSED, ledger.tryReserve());
+    }
+
+    private static Instant at(int year, int month, int day, int hour, int minute) {
+        return ZonedDateTime.of(year, month, day, hour, minute, 0, 0, RESET_ZONE).toInstant();
+    }
+}
@@ -0,0 +1,118 @@
+package com.cricsphere.quota;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuotaSchedulerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-10T00:30:00Z"));
+    private final QuotaScheduler scheduler = new QuotaScheduler(
+            new QuotaLedger(100, ZoneId.of("UTC"), clock), new SimpleMeterRegistry());
+
+    @Test
+    void classifiesEndpointsByUrl() {
+        String base = "https://cricbuzz-cricket2.p.rapidapi.com";
+
+        assertEquals(QuotaClass.LIVE, QuotaClass.of(base + "/matches/v1/live"));
+        assertEquals(QuotaClass.LIVE, QuotaClass.of(base + "/mcenter/v1/100/scard"));
+        assertEquals(QuotaClass.MATCH_INFO, QuotaClass.of(base + "/mcenter/v1/100"));
+        assertEquals(QuotaClass.MATCH_INFO, QuotaClass.of(base + "/mcenter/v1/100/teams"));
+        assertEquals(QuotaClass.NEWS, QuotaClass.of(base + "/news/v1/detail/7"));
+        assertEquals(QuotaClass.REFERENCE, QuotaClass.of(base + "/stats/v1/player/1/career"));
+    }
+
+    @Test
+    void lowPriorityCannotSpendHigherPrioritiesBudgetEarlyInTheDay() {
+        // Act: news borrows only what lower classes (reference) left unused
+        int news = spend(QuotaClass.NEWS, 1_000);
+
+        // Assert: live + match info shares (45 + 25) stay protected
+        assertTrue(news <= 31, "news spent " + news);
+        assertEquals(100 - news, spend(QuotaClass.LIVE, 1_000));
+    }
+
+    @Test
+    void unusedHigherPriorityBudgetBecomesBorrowableLateInTheDay() {
+        // Arrange
+        clock.now = Instant.parse("2026-03-10T23:00:00Z");
+
+        // Act
+        int reference = spend(QuotaClass.REFERENCE, 1_000);
+
+        // Assert: with ~1h left only a sliver of the higher shares is still held back
+        assertTrue(reference >= 90, "reference spent " + reference);
+    }
+
+    @Test
+    void highBurnRateStretchesTtlsCappedPerClass() {
+        // Arrange: 50 calls in the first 6 hours -> ~200 predicted for the day
+        clock.now = Instant.parse("2026-03-10T06:00:00Z");
+        spend(QuotaClass.LIVE, 40);
+        spend(QuotaClass.MATCH_INFO, 10);
+
+        // Act
+        long live = scheduler.stretchTtl(QuotaClass.LIVE, 60_000);
+        long news = scheduler.stretchTtl(QuotaClass.NEWS, 60_000);
+
+        // Assert
+        assertEquals(2.0, scheduler.exhaustionFactor(), 0.01);
+        assertEquals(120_000, live, 1_000);
+        assertEquals(120_000, news, 1_000);
+    }
+
+    @Test
+    void noStretchWhileOnTrack() {
+        clock.now = Instant.parse("2026-03-10T12:00:00Z");
+        spend(QuotaClass.LIVE, 20);
+
+        assertEquals(60_000, scheduler.stretchTtl(QuotaClass.NEWS, 60_000));
+    }
+
+    @Test
+    void releasedCallsGoBackToTheClass() {
+        long reservation = scheduler.tryReserve(QuotaClass.NEWS);
+        scheduler.release(QuotaClass.NEWS, reservation);
+
+        assertEquals(0, scheduler.used(QuotaClass.NEWS));
+        assertEquals(0, scheduler.used());
+    }
+
+    @Test
+    void classBudgetsAreSharedAcrossInstances_notMultipliedByThem() {
+        // Arrange: two instances leasing from one pool of 100
+        InMemoryQuotaStore store = new InMemoryQuotaStore();
+        SharedQuotaLedger a = new SharedQuotaLedger(store, "rapidapi", 100, 10, 120_000, ZoneId.of("UTC"), clock, "a");
+        SharedQuotaLedger b = new SharedQuotaLedger(store, "rapidapi", 100, 10, 120_000, ZoneId.of("UTC"), clock, "b");
+        QuotaScheduler onA = new QuotaScheduler(a, new SimpleMeterRegistry());
+        QuotaScheduler onB = new QuotaScheduler(b, new SimpleMeterRegistry());
+
+        // Act: news traffic on both, early in the day
+        int news = spend(onA, QuotaClass.NEWS, 1_000);
+        a.heartbeat();
+        news += spend(onB, QuotaClass.NEWS, 1_000);
+        b.heartbeat();
+        news += spend(onA, QuotaClass.NEWS, 1_000);
+
+        // Assert: roughly one instance's worth (31 on a single node), not two
+        assertTrue(news <= 36, "news spent " + news);
+        assertTrue(spend(onA, QuotaClass.LIVE, 1_000) + spend(onB, QuotaClass.LIVE, 1_000) >= 64);
+    }
+
+    private int spend(QuotaClass quotaClass, int attempts) {
+        return spend(scheduler, quotaClass, attempts);
+    }
+
+    private static int spend(QuotaScheduler scheduler, QuotaClass quotaClass, int attempts) {
+        int spent = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (scheduler.tryReserve(quotaClass) != QuotaLedger.REFUSED) spent++;
+        }
+        return spent;
+    }
+}
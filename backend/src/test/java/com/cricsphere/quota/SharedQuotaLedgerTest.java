@@ -0,0 +1,149 @@
+package com.cricsphere.quota;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SharedQuotaLedgerTest {
+
+    private static final ZoneId RESET_ZONE = ZoneId.of("UTC");
+    private static final long LEASE_TTL = Duration.ofMinutes(2).toMillis();
+
+    private final InMemoryQuotaStore store = new InMemoryQuotaStore();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-10T10:00:00Z"));
+
+    @Test
+    void nodesSharingAStoreNeverExceedDailyLimit() throws Exception {
+        // Arrange
+        SharedQuotaLedger a = node("a");
+        SharedQuotaLedger b = node("b");
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            SharedQuotaLedger node = (t % 2 == 0) ? a : b;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        if (node.tryReserve() != QuotaLedger.REFUSED) granted.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(100, granted.get());
+        assertEquals(100, a.used() + b.used());
+        assertEquals(100, store.read("rapidapi").leased());
+    }
+
+    @Test
+    void restartedNodeDoesNotResetTheDay() {
+        // Arrange: first process spends 30 calls, then restarts (new node id, no clean shutdown)
+        SharedQuotaLedger before = node("before");
+        spend(before, 30);
+
+        // Act
+        SharedQuotaLedger after = node("after");
+        int spent = spend(after, 1_000);
+
+        // Assert
+        assertEquals(70, spent);
+    }
+
+    @Test
+    void deadNodesUnspentLeaseIsReclaimed() {
+        // Arrange: node leases a block, spends 2, heartbeats, then dies
+        SharedQuotaLedger dead = node("dead");
+        spend(dead, 2);
+        dead.heartbeat();
+
+        SharedQuotaLedger survivor = node("survivor");
+        assertEquals(90, spend(survivor, 1_000));
+
+        // Act: lease TTL passes without a heartbeat from the dead node
+        clock.advance(Duration.ofMinutes(5));
+        int reclaimed = spend(survivor, 1_000);
+
+        // Assert
+        assertEquals(8, reclaimed);
+        assertEquals(100, store.read("rapidapi").leased());
+    }
+
+    @Test
+    void cleanShutdownReturnsUnspentCalls() {
+        // Arrange
+        SharedQuotaLedger leaving = node("leaving");
+        spend(leaving, 3);
+
+        // Act
+        leaving.returnLease();
+
+        // Assert
+        assertEquals(3, store.read("rapidapi").leased());
+        assertEquals(97, spend(node("other"), 1_000));
+    }
+
+    @Test
+    void newProviderDayStartsWithFullPool() {
+        // Arrange
+        SharedQuotaLedger node = node("a");
+        spend(node, 1_000);
+
+        // Act
+        clock.advance(Duration.ofDays(1));
+
+        // Assert
+        assertEquals(100, spend(node, 1_000));
+    }
+
+    @Test
+    void spentEverywhereCountsReportedCallsNotUnspentLeases() {
+        // Arrange: a leases a block of 10, spends 3 and reports it
+        SharedQuotaLedger a = node("a");
+        spend(a, 3);
+        a.heartbeat();
+
+        // Act
+        SharedQuotaLedger b = node("b");
+        spend(b, 2);
+
+        // Assert: 7 leased-but-unspent calls on a are not counted
+        assertEquals(5, b.spentEverywhere());
+        assertEquals(0.5, b.localShare(), 1e-9);
+    }
+
+    @Test
+    void localShareIsOneUntilSomethingIsLeased() {
+        assertEquals(1.0, node("fresh").localShare(), 1e-9);
+    }
+
+    private SharedQuotaLedger node(String id) {
+        return new SharedQuotaLedger(store, "rapidapi", 100, 10, LEASE_TTL, RESET_ZONE, clock, id);
+    }
+
+    private static int spend(SharedQuotaLedger node, int attempts) {
+        int spent = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (node.tryReserve() != QuotaLedger.REFUSED) spent++;
+        }
+        return spent;
+    }
+}
@@ -0,0 +1,53 @@
+package com.cricsphere.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PageCursorTest {
+
+    @Test
+    void roundTripsKeyAndId() {
+        // Act
+        String cursor = PageCursor.encode("jose buttler", "a1b2-c3");
+        PageCursor decoded = PageCursor.decode(cursor);
+
+        // Assert
+        assertEquals(new PageCursor("jose buttler", "a1b2-c3"), decoded);
+    }
+
+    @Test
+    void roundTripsNonAsciiAndEmptyParts() {
+        // Act + Assert
+        assertEquals(new PageCursor("ñandú ?&/+=", ""), PageCursor.decode(PageCursor.encode("ñandú ?&/+=", "")));
+        assertEquals(new PageCursor("", "42"), PageCursor.decode(PageCursor.encode("", "42")));
+    }
+
+    @Test
+    void encodingIsUrlSafeWithoutPadding() {
+        // Act: bytes chosen so that standard Base64 would need '+', '/' and '='
+        String cursor = PageCursor.encode("ûÿ¿", "?>");
+
+        // Assert
+        assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="), cursor);
+    }
+
+    @Test
+    void unusableCursorsDecodeToNull() {
+        // Act + Assert
+        assertNull(PageCursor.decode(null));
+        assertNull(PageCursor.decode("  "));
+        assertNull(PageCursor.decode("***not base64***"));
+        assertNull(PageCursor.decode("bm8tc2VwYXJhdG9y")); // "no-separator"
+    }
+
+    @Test
+    void numericKeysParseAndOthersSortFirst() {
+        // Act + Assert
+        assertEquals(19_985L, new PageCursor("19985", "x").keyAsLong());
+        assertEquals(-3L, new PageCursor("-3", "x").keyAsLong());
+        assertEquals(Long.MIN_VALUE, new PageCursor("soon", "x").keyAsLong());
+    }
+}
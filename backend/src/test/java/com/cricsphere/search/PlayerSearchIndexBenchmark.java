@@ -0,0 +1,67 @@
+package com.cricsphere.search;
+
+import com.cricsphere.model.Player;
+import com.cricsphere.store.PlayerColumns;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Typeahead latency over a synthetic player list of CricAPI size, for short
+ * (1-2 letter), word-prefix, multi-term and infix queries.
+ *
+ * Prints p50 / p99 per query kind. Not part of the test suite, run manually:
+ *
+ *   mvn -q test-compile
+ *   java -cp target/test-classes:target/classes com.cricsphere.search.PlayerSearchIndexBenchmark [players] [iterations]
+ */
+public class PlayerSearchIndexBenchmark {
+
+    private static final String[] FIRST = {"Virat", "Rohit", "Joe", "Steve", "Kane", "Babar", "Shubman",
+            "Pat", "Mitchell", "Rashid", "Quinton", "Jos", "Ben", "David", "Trent", "Shaheen"};
+    private static final String[] LAST = {"Kohli", "Sharma", "Root", "Smith", "Williamson", "Azam", "Gill",
+            "Cummins", "Starc", "Khan", "de Kock", "Buttler", "Stokes", "Warner", "Boult", "Afridi"};
+    private static final String[] COUNTRY = {"India", "England", "Australia", "New Zealand", "Pakistan",
+            "Afghanistan", "South Africa", "Sri Lanka", "Bangladesh", "West Indies"};
+
+    public static void main(String[] args) {
+        int players = (args.length > 0) ? Integer.parseInt(args[0]) : 20_000;
+        int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 20_000;
+
+        Random random = new Random(42);
+        List<Player> list = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            list.add(Player.builder()
+                    .id("p" + i)
+                    .name(FIRST[random.nextInt(FIRST.length)] + " " + LAST[random.nextInt(LAST.length)] + i)
+                    .country(COUNTRY[random.nextInt(COUNTRY.length)])
+                    .build());
+        }
+        PlayerSearchIndex index = PlayerSearchIndex.build(PlayerColumns.build(list));
+
+        String[][] kinds = {
+                {"short", "s", "ro", "jo"},
+                {"prefix", "vira", "sharm", "will"},
+                {"multi", "joe root", "kane new", "rashid afg"},
+                {"infix", "ohli", "illiam", "utle"}
+        };
+
+        for (String[] kind : kinds) run(index, kind[0], Arrays.copyOfRange(kind, 1, kind.length), iterations / 4);
+        for (String[] kind : kinds) run(index, kind[0], Arrays.copyOfRange(kind, 1, kind.length), iterations);
+    }
+
+    private static void run(PlayerSearchIndex index, String kind, String[] queries, int iterations) {
+        long[] nanos = new long[iterations];
+        int found = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            found += index.search(queries[i % queries.length], 10).size();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%-8s p50=%7.1f us  p99=%7.1f us  (hits=%d)%n", kind,
+                nanos[iterations / 2] / 1e3, nanos[(int) (iterations * 0.99)] / 1e3, found);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cricsphere.search;
+
+import com.cricsphere.model.Player;
+import com.cricsphere.store.PlayerColumns;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerSearchIndexTest {
+
+    @Test
+    void commonPrefixRanksEveryCandidate_notTheFirstInserted() {
+        // Arrange: thousands of weak matches inserted before the best one
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) players.add(player("p" + i, "Sam Tester" + i, "India"));
+        players.add(player("best", "Sam", "India"));
+        PlayerSearchIndex index = PlayerSearchIndex.build(PlayerColumns.build(players));
+
+        // Act
+        List<Player> hits = index.search("sam", 3);
+
+        // Assert
+        assertEquals(3, hits.size());
+        assertEquals("best", hits.get(0).getId());
+    }
+
+    @Test
+    void wholeWordBeatsPrefixBeatsInfix() {
+        // Arrange
+        PlayerSearchIndex index = PlayerSearchIndex.build(PlayerColumns.build(List.of(
+                player("1", "Rohitash Kumar", "India"),
+                player("2", "Rohit Sharma", "India"),
+                player("3", "Prohit Singh", "India"))));
+
+        // Act
+        List<Player> hits = index.search("rohit", 10);
+
+        // Assert
+        assertEquals(List.of("2", "1"), hits.stream().map(Player::getId).toList());
+    }
+
+    @Test
+    void tiesPreferShorterNames_andResultIsIndependentOfInsertionOrder() {
+        // Arrange
+        List<Player> players = List.of(
+                player("1", "Joe Root Junior", "England"),
+                player("2", "Joe Root", "England"),
+                player("3", "Joe Denly", "England"));
+        List<Player> reversed = new ArrayList<>(players);
+        Collections.reverse(reversed);
+
+        // Act
+        List<Player> a = PlayerSearchIndex.build(PlayerColumns.build(players)).search("joe", 3);
+        List<Player> b = PlayerSearchIndex.build(PlayerColumns.build(reversed)).search("joe", 3);
+
+        // Assert
+        assertEquals(List.of("2", "3", "1"), a.stream().map(Player::getId).toList());
+        assertEquals(a, b);
+    }
+
+    @Test
+    void countryTermsAndInfixFallback() {
+        // Arrange
+        PlayerSearchIndex index = PlayerSearchIndex.build(PlayerColumns.build(List.of(
+                player("1", "Virat Kohli", "India"),
+                player("2", "Kane Williamson", "New Zealand"))));
+
+        // Act
+        List<Player> byCountry = index.search("kane new", 5);
+        List<Player> infix = index.search("ohli", 5);
+        List<Player> accents = index.search("Kóhli", 5);
+
+        // Assert
+        assertEquals("2", byCountry.get(0).getId());
+        assertEquals("1", infix.get(0).getId());
+        assertEquals("1", accents.get(0).getId());
+        assertTrue(index.search("zzz", 5).isEmpty());
+    }
+
+    private static Player player(String id, String name, String country) {
+        return Player.builder().id(id).name(name).country(country).build();
+    }
+}
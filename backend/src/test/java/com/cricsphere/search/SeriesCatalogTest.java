@@ -0,0 +1,151 @@
+package com.cricsphere.search;
+
+import com.cricsphere.model.PageResponse;
+import com.cricsphere.model.Series;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SeriesCatalogTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2026, 3, 1);
+
+    private final List<Series> series = List.of(
+            series("s5", "2026-03-20", "Apr 10", 1, 0, 0),
+            series("s2", "2026-02-01", "Mar 05", 0, 1, 0),
+            series("s1", "2026-01-10", "Jan 30", 0, 0, 2),
+            series("s4", "2026-03-01", "2026-03-02", 1, 1, 0),
+            series("s3", "2026-03-01", "Mar 31", 0, 0, 1),
+            series("s6", "2026-12-20", "Jan 05", 1, 0, 0),
+            series(null, "2026-03-01", "Mar 02", 1, 0, 0)
+    );
+
+    @Test
+    void pagesWalkEveryRowInStartThenIdOrder() {
+        // Arrange
+        SeriesCatalog catalog = SeriesCatalog.build(series);
+
+        // Act
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PageResponse<Series> page = catalog.page(null, null, 0, cursor, 2);
+            page.items().forEach(s -> ids.add(s.getId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert: rows without an id are dropped, the last page ends the walk
+        assertEquals(List.of("s1", "s2", "s3", "s4", "s5", "s6"), ids);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void cursorStaysValidAcrossARebuild() {
+        // Arrange
+        PageResponse<Series> first = SeriesCatalog.build(series).page(null, null, 0, null, 3);
+
+        // Act: a series starting before the cursor row is added by the next refresh
+        List<Series> refreshed = new ArrayList<>(series);
+        refreshed.add(series("s0", "2026-01-01", "Jan 02", 1, 0, 0));
+        PageResponse<Series> second = SeriesCatalog.build(refreshed).page(null, null, 0, first.nextCursor(), 3);
+
+        // Assert
+        assertEquals(List.of("s1", "s2", "s3"), first.items().stream().map(Series::getId).toList());
+        assertEquals(List.of("s4", "s5", "s6"), second.items().stream().map(Series::getId).toList());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void dateRangeKeepsSeriesOverlappingIt() {
+        // Arrange
+        SeriesCatalog catalog = SeriesCatalog.build(series);
+
+        // Act: s2 started earlier but is still running, s1 is over, s5 hasn't started
+        PageResponse<Series> page = catalog.page(MARCH_1, MARCH_1.plusDays(10), 0, null, 10);
+
+        // Assert
+        assertEquals(List.of("s2", "s3", "s4"), page.items().stream().map(Series::getId).toList());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void undatedSeriesOnlyAppearWithoutADateBound() {
+        // Arrange: undated rows used to sort first and match every range
+        List<Series> withUndated = new ArrayList<>(series);
+        withUndated.add(series("u1", "TBC", null, 1, 0, 0));
+        withUndated.add(series("u2", null, "Mar 05", 0, 1, 0));
+        SeriesCatalog catalog = SeriesCatalog.build(withUndated);
+
+        // Act
+        PageResponse<Series> ranged = catalog.page(MARCH_1, MARCH_1.plusDays(10), 0, null, 10);
+        PageResponse<Series> fromOnly = catalog.page(LocalDate.of(2026, 12, 1), null, 0, null, 10);
+        List<String> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageResponse<Series> page = catalog.page(null, null, 0, cursor, 4);
+            page.items().forEach(s -> all.add(s.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(List.of("s2", "s3", "s4"), ranged.items().stream().map(Series::getId).toList());
+        assertEquals(List.of("s6"), fromOnly.items().stream().map(Series::getId).toList());
+        assertEquals(List.of("s1", "s2", "s3", "s4", "s5", "s6", "u1", "u2"), all);
+        assertEquals(List.of("s6"), catalog.runningOn(LocalDate.of(2027, 1, 2)));
+    }
+
+    @Test
+    void formatFilterMatchesAnyRequestedFormat() {
+        // Arrange
+        SeriesCatalog catalog = SeriesCatalog.build(series);
+
+        // Act
+        PageResponse<Series> tests = catalog.page(null, null, SeriesCatalog.parseFormat("test"), null, 10);
+        PageResponse<Series> limitedOvers = catalog.page(null, null, SeriesCatalog.parseFormat("ODI, t20i"), null, 10);
+
+        // Assert
+        assertEquals(List.of("s1", "s3"), tests.items().stream().map(Series::getId).toList());
+        assertEquals(List.of("s2", "s4", "s5", "s6"), limitedOvers.items().stream().map(Series::getId).toList());
+        assertEquals(0, SeriesCatalog.parseFormat("hundred"));
+    }
+
+    @Test
+    void unreadableCursorStartsFromTheTop() {
+        // Act
+        PageResponse<Series> page = SeriesCatalog.build(series).page(null, null, 0, "garbage!", 1);
+
+        // Assert
+        assertEquals("s1", page.items().get(0).getId());
+    }
+
+    @Test
+    void endDatesWithoutYearFollowTheStart() {
+        // Act + Assert
+        assertEquals(LocalDate.of(2026, 3, 5), SeriesCatalog.parseEnd("Mar 05", LocalDate.of(2026, 2, 1)));
+        assertEquals(LocalDate.of(2027, 1, 5), SeriesCatalog.parseEnd("Jan 05", LocalDate.of(2026, 12, 20)));
+        assertEquals(LocalDate.of(2026, 4, 1), SeriesCatalog.parseEnd("2026-04-01", null));
+        assertNull(SeriesCatalog.parseEnd("Mar 05", null));
+        assertNull(SeriesCatalog.parseStart("soon"));
+    }
+
+    @Test
+    void runningOnUsesInferredEndDates() {
+        // Act
+        List<String> running = SeriesCatalog.build(series).runningOn(LocalDate.of(2027, 1, 2));
+
+        // Assert
+        assertEquals(List.of("s6"), running);
+    }
+
+    private static Series series(String id, String start, String end, int t20, int odi, int test) {
+        return Series.builder().id(id).name("Series " + id).startDate(start).endDate(end)
+                .t20(t20).odi(odi).test(test).build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.cricsphere.search;
+
+import com.cricsphere.model.SearchHit;
+import com.cricsphere.model.SearchResultPage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnifiedSearchIndexTest {
+
+    private final UnifiedSearchIndex index = new UnifiedSearchIndex();
+
+    @Test
+    void ranksAcrossSources_andKeepsBestScorePerEntity() {
+        // Arrange
+        index.replaceSource("players", List.of(new SearchDocument("player", "1", "Joe Root", "England")));
+        index.replaceSource("teams", List.of(
+                new SearchDocument("team", "2", "England", "International"),
+                new SearchDocument("team", "3", "England Lions", "A team")));
+        index.replaceSource("countries", List.of(new SearchDocument("team", "2", "England", "ENG")));
+
+        // Act
+        SearchResultPage page = index.search("england", null, 0, 10);
+
+        // Assert
+        assertEquals(3, page.total());
+        assertEquals("2", page.results().get(0).id());
+        assertEquals("3", page.results().get(1).id());
+    }
+
+    @Test
+    void typeFilterAndPaging() {
+        // Arrange
+        List<SearchDocument> docs = new ArrayList<>();
+        for (int i = 0; i < 25; i++) docs.add(new SearchDocument("series", "s" + i, "Test Series " + i, null));
+        docs.add(new SearchDocument("venue", "v", "Test Ground", null));
+        index.replaceSource("series", docs);
+
+        // Act
+        SearchResultPage second = index.search("test", "series", 1, 10);
+
+        // Assert
+        assertEquals(25, second.total());
+        assertEquals(10, second.results().size());
+        assertTrue(second.results().stream().map(SearchHit::type).allMatch("series"::equals));
+    }
+
+    @Test
+    void hugePageIsEmpty_notAnOverflow() {
+        // Arrange
+        index.replaceSource("players", List.of(new SearchDocument("player", "1", "Joe Root", "England")));
+
+        // Act
+        SearchResultPage page = index.search("joe", null, Integer.MAX_VALUE, 50);
+
+        // Assert
+        assertEquals(1, page.total());
+        assertTrue(page.results().isEmpty());
+    }
+}
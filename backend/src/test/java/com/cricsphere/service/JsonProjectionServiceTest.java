@@ -0,0 +1,116 @@
+package com.cricsphere.service;
+
+import com.cricsphere.util.FieldPathFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JsonProjectionServiceTest {
+
+    private static final String MATCH = """
+            {"matchInfo":{"matchId":7,"team1":{"teamName":"India","teamSName":"IND"},\
+            "team2":{"teamName":"Australia","teamSName":"AUS"}},\
+            "matchScore":{"team1Score":{"inngs1":{"runs":180}}},\
+            "innings":[{"id":1,"teamName":"India"},{"id":2,"teamName":"Australia"}]}""";
+
+    private final JsonProjectionService service = new JsonProjectionService(new ObjectMapper());
+
+    @Test
+    void exactPathKeepsOnlyThatBranch() {
+        // Act
+        String projected = service.project("k", MATCH, "matchInfo.team1.teamName");
+
+        // Assert
+        assertEquals("{\"matchInfo\":{\"team1\":{\"teamName\":\"India\"}}}", projected);
+    }
+
+    @Test
+    void singleWildcardMatchesOneLevel() {
+        // Act
+        String projected = service.project("k", MATCH, "matchInfo.*.teamSName");
+
+        // Assert
+        assertEquals("{\"matchInfo\":{\"team1\":{\"teamSName\":\"IND\"},\"team2\":{\"teamSName\":\"AUS\"}}}", projected);
+    }
+
+    @Test
+    void descendantWildcardReachesAnyDepthThroughArrays() {
+        // Act
+        String projected = service.project("k", MATCH, "**.teamName");
+
+        // Assert
+        assertEquals("{\"matchInfo\":{\"team1\":{\"teamName\":\"India\"},\"team2\":{\"teamName\":\"Australia\"}},"
+                + "\"innings\":[{\"teamName\":\"India\"},{\"teamName\":\"Australia\"}]}", projected);
+    }
+
+    @Test
+    void terminalObjectIsKeptWhole() {
+        // Act
+        String projected = service.project("k", MATCH, "matchScore, matchInfo.matchId");
+
+        // Assert
+        assertEquals("{\"matchInfo\":{\"matchId\":7},\"matchScore\":{\"team1Score\":{\"inngs1\":{\"runs\":180}}}}",
+                projected);
+    }
+
+    @Test
+    void partialPathToAScalarIsNotAMatch() {
+        // Act
+        String projected = service.project("k", MATCH, "matchInfo.matchId.value,missing");
+
+        // Assert
+        assertEquals("{}", projected);
+    }
+
+    @Test
+    void errorPayloadsAndBlankFieldsPassThrough() {
+        // Arrange
+        String error = "{\"error\":true,\"status\":429,\"message\":\"quota\"}";
+
+        // Act + Assert
+        assertSame(error, service.project("k", error, "message"));
+        assertSame(MATCH, service.project("k", MATCH, " , "));
+        assertSame(MATCH, service.project("k", MATCH, null));
+        assertNull(FieldPathFilter.compile(" ,. ,"));
+    }
+
+    @Test
+    void notJsonFallsBackToTheBody() {
+        // Act
+        String projected = service.project("k", "not json {", "a");
+
+        // Assert
+        assertEquals("not json {", projected);
+    }
+
+    @Test
+    void bodiesWithTheSameLengthAndHashCodeAreNotConfused() {
+        // Arrange: "Aa" and "BB" share String.hashCode(), so these bodies collide too
+        String first = "{\"k\":\"Aa\"}";
+        String second = "{\"k\":\"BB\"}";
+
+        // Act
+        String a = service.project("feed", first, "k");
+        String b = service.project("feed", second, "k");
+
+        // Assert
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals("{\"k\":\"Aa\"}", a);
+        assertEquals("{\"k\":\"BB\"}", b);
+    }
+
+    @Test
+    void projectionIsCachedPerSourceAndReusedOnlyForTheSameBody() {
+        // Act: same projection in another order, then a changed body under the same key
+        String first = service.project("live", MATCH, "matchInfo.matchId,matchScore");
+        String reordered = service.project("live", MATCH, "matchScore, matchInfo.matchId,matchScore");
+        String changed = service.project("live", MATCH.replace("\"matchId\":7", "\"matchId\":8"), "matchInfo.matchId");
+
+        // Assert
+        assertSame(first, reordered);
+        assertEquals("{\"matchInfo\":{\"matchId\":8}}", changed);
+    }
+}
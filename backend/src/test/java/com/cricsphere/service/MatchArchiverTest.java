@@ -0,0 +1,109 @@
+package com.cricsphere.service;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.MatchResource;
+import com.cricsphere.model.MatchState;
+import com.cricsphere.quota.QuotaLedger;
+import com.cricsphere.quota.QuotaScheduler;
+import com.cricsphere.store.MatchArchive;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MatchArchiverTest {
+
+    private static final String BASE = "https://cricbuzz-cricket2.p.rapidapi.com/mcenter/v1/";
+
+    @TempDir
+    Path dataDir;
+
+    private final CricketService cricketService = mock(CricketService.class);
+    private final MatchSnapshotService snapshots = mock(MatchSnapshotService.class);
+    private final MatchLifecycleTracker lifecycle = mock(MatchLifecycleTracker.class);
+
+    private MatchArchive archive;
+    private MatchArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        when(cricketService.matchCenterUrl(any(), anyString())).thenAnswer(inv -> {
+            MatchResource r = inv.getArgument(0);
+            String id = inv.getArgument(1);
+            return switch (r) {
+                case OVERVIEW -> BASE + id;
+                case SCORECARD -> BASE + id + "/scard";
+                case COMMENTARY -> BASE + id + "/comm";
+                case OVERS -> BASE + id + "/overs";
+                case SQUADS -> BASE + id + "/teams";
+                case HIGHLIGHTS -> BASE + id + "/hlights";
+            };
+        });
+
+        MatchTtlPolicy policy = new MatchTtlPolicy(
+                new QuotaScheduler(new QuotaLedger(100, ZoneId.of("UTC"), Clock.systemUTC()), new SimpleMeterRegistry()),
+                new ObjectMapper(),
+                new StaticListableBeanFactory().getBeanProvider(MatchSnapshotService.class));
+        archive = new MatchArchive(dataDir.toString());
+        archiver = new MatchArchiver(cricketService, archive, policy, lifecycle, snapshots);
+    }
+
+    @Test
+    void completedScorecardIsArchivedUnderItsMatchDay() {
+        // Act
+        stored("7/scard", "{\"ismatchcomplete\":true,\"matchStartTimestamp\":1760090400000}");
+
+        // Assert
+        assertEquals(LocalDate.of(2025, 10, 10), archive.entry(7).date());
+        assertEquals("{\"ismatchcomplete\":true,\"matchStartTimestamp\":1760090400000}",
+                archive.get(7, MatchResource.SCORECARD));
+    }
+
+    @Test
+    void liveBodiesAreNotArchived() {
+        // Arrange: even if the lifecycle already says complete
+        when(lifecycle.stateOf(8L)).thenReturn(MatchState.COMPLETE);
+
+        // Act
+        stored("8", "{\"matchInfo\":{\"state\":\"In Progress\"}}");
+        stored("8/scard", "{\"ismatchcomplete\":false,\"scorecard\":[]}");
+
+        // Assert
+        assertFalse(archive.contains(8));
+    }
+
+    @Test
+    void statelessBodiesFollowTheKnownMatchState() {
+        // Arrange
+        when(lifecycle.stateOf(9L)).thenReturn(MatchState.COMPLETE);
+
+        // Act
+        stored("9/teams", "{\"team1\":{\"players\":[]}}");
+        stored("10/teams", "{\"team1\":{\"players\":[]}}");
+        stored("9/hcomm", "{\"commentaryList\":[]}");
+
+        // Assert
+        assertEquals("{\"team1\":{\"players\":[]}}", archive.get(9, MatchResource.SQUADS));
+        assertNull(archive.entry(10));
+        assertEquals(1, archive.size());
+    }
+
+    private void stored(String path, String body) {
+        archiver.onUpstreamBodyStored(new UpstreamBodyStoredEvent(BASE + path, body, 0L));
+    }
+}
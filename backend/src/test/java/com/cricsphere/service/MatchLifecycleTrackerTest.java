@@ -0,0 +1,148 @@
+package com.cricsphere.service;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.MatchPhase;
+import com.cricsphere.model.MatchState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Replays recorded Cricbuzz feed bodies (src/test/resources/payloads/lifecycle)
+ * through the snapshot service, at fixed clock values.
+ */
+class MatchLifecycleTrackerTest {
+
+    private static final String BASE = "https://cricbuzz-cricket2.p.rapidapi.com/matches/v1/";
+    private static final long MATCH = 112233L;
+    private static final long START = 1760090400000L;
+    private static final long MINUTE = 60_000L;
+
+    private final MatchSnapshotService snapshots =
+            new MatchSnapshotService(mock(CricketService.class), new ObjectMapper());
+    private final MatchLifecycleTracker tracker =
+            new MatchLifecycleTracker(snapshots, 60 * MINUTE, 6 * 60 * MINUTE);
+
+    @Test
+    void followsRecordedMatchDayThroughEveryState() {
+        // Arrange
+        record("upcoming", "01-upcoming.json");
+
+        // Act / Assert
+        assertEquals(List.of(new MatchLifecycleTracker.Transition(MATCH, null, MatchState.SCHEDULED)),
+                tracker.observe(START - 30 * MINUTE));
+
+        record("live", "02-live-toss.json");
+        tracker.observe(START - 20 * MINUTE);
+        assertEquals(MatchState.IN_PLAY, tracker.stateOf(MATCH));
+
+        record("live", "03-live-in-progress.json");
+        assertTrue(tracker.observe(START + 100 * MINUTE).isEmpty(), "same state, no transition");
+
+        record("live", "04-live-rain.json");
+        tracker.observe(START + 130 * MINUTE);
+        assertEquals(MatchState.RAIN_DELAY, tracker.stateOf(MATCH));
+
+        record("live", "05-live-innings-break.json");
+        tracker.observe(START + 240 * MINUTE);
+        assertEquals(MatchState.INNINGS_BREAK, tracker.stateOf(MATCH));
+
+        record("live", "06-live-chase.json");
+        tracker.observe(START + 360 * MINUTE);
+        assertEquals(MatchState.IN_PLAY, tracker.stateOf(MATCH));
+
+        record("recent", "07-recent-complete.json");
+        List<MatchLifecycleTracker.Transition> done = tracker.observe(START + 450 * MINUTE);
+        assertEquals(List.of(new MatchLifecycleTracker.Transition(MATCH, MatchState.IN_PLAY, MatchState.COMPLETE)), done);
+    }
+
+    @Test
+    void completeIsFinalEvenIfLiveFeedLags() {
+        // Arrange: the live snapshot still says "In Progress"
+        record("live", "06-live-chase.json");
+        tracker.observe(START + 360 * MINUTE);
+        record("recent", "07-recent-complete.json");
+
+        // Act
+        tracker.observe(START + 450 * MINUTE);
+        tracker.observe(START + 451 * MINUTE);
+
+        // Assert
+        assertEquals(MatchState.COMPLETE, tracker.stateOf(MATCH));
+    }
+
+    @Test
+    void oldResultsAndFarFixturesAreNotTracked() {
+        // Arrange
+        record("upcoming", "01-upcoming.json");
+        record("recent", "07-recent-complete.json");
+
+        // Act
+        tracker.observe(START - 30 * MINUTE);
+
+        // Assert: 3rd ODI is days away, 1st ODI finished weeks ago
+        assertNull(tracker.stateOf(112240L));
+        assertNull(tracker.stateOf(112200L));
+        assertEquals(1, tracker.tracked().size());
+    }
+
+    @Test
+    void completedMatchIsDroppedAfterRetentionOnceFinalSnapshotTaken() {
+        // Arrange
+        record("live", "06-live-chase.json");
+        tracker.observe(START + 360 * MINUTE);
+        record("recent", "07-recent-complete.json");
+        tracker.observe(START + 450 * MINUTE);
+
+        // Act
+        tracker.markFinalSnapshot(MATCH);
+        tracker.observe(START + 450 * MINUTE + 7 * 60 * MINUTE);
+
+        // Assert
+        assertNull(tracker.stateOf(MATCH));
+    }
+
+    @Test
+    void classifiesCricbuzzStates() {
+        assertEquals(MatchState.RAIN_DELAY, MatchState.classify("Rain", null));
+        assertEquals(MatchState.RAIN_DELAY, MatchState.classify("In Progress", "Play delayed due to wet outfield"));
+        assertEquals(MatchState.INNINGS_BREAK, MatchState.classify("Stumps", "Day 1: Stumps"));
+        assertEquals(MatchState.COMPLETE, MatchState.classify("Abandon", "Match abandoned due to rain"));
+        assertEquals(MatchState.IN_PLAY, MatchState.classify("In Progress", "India opt to bowl"));
+        assertEquals(MatchState.IN_PLAY, MatchState.classify("In Progress", "Target revised to 180 in 18 overs due to rain"));
+        assertEquals(MatchState.IN_PLAY, MatchState.classify("In Progress", "Australia need 42 runs (DLS delay adjusted)"));
+        assertNull(MatchState.classify("Something New", null));
+        assertTrue(!MatchState.COMPLETE.canMoveTo(MatchState.IN_PLAY) && !MatchState.IN_PLAY.canMoveTo(MatchState.SCHEDULED));
+    }
+
+    @Test
+    void phaseUsesTheSameClassifier() {
+        assertEquals(MatchPhase.BREAK, MatchPhase.fromState("Rain"));
+        assertEquals(MatchPhase.BREAK, MatchPhase.fromState("Dinner"));
+        assertEquals(MatchPhase.IN_PLAY, MatchPhase.fromState("In Progress"));
+        assertEquals(MatchPhase.COMPLETE, MatchPhase.fromState("Complete"));
+        assertEquals(MatchPhase.UNKNOWN, MatchPhase.fromState(" "));
+    }
+
+    private void record(String feed, String payload) {
+        snapshots.onUpstreamBodyStored(new UpstreamBodyStoredEvent(BASE + feed, read(payload), 0L));
+    }
+
+    private static String read(String payload) {
+        try (InputStream in = MatchLifecycleTrackerTest.class.getResourceAsStream("/payloads/lifecycle/" + payload)) {
+            if (in == null) throw new IllegalArgumentException("missing payload " + payload);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
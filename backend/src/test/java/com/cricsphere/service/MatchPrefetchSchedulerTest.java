@@ -0,0 +1,180 @@
+package com.cricsphere.service;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.MatchResource;
+import com.cricsphere.model.MatchSummary;
+import com.cricsphere.quota.QuotaLedger;
+import com.cricsphere.quota.QuotaScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchPrefetchSchedulerTest {
+
+    private static final long INTERVAL = 15_000L;
+    private static final long LEAD = INTERVAL + 5_000L;
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    private final CricketService cricketService = mock(CricketService.class);
+    private final MatchSnapshotService snapshots = mock(MatchSnapshotService.class);
+    private final QuotaLedger ledger = new QuotaLedger(1000, ZoneId.of("UTC"), Clock.systemUTC());
+
+    private MatchPrefetchScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(cricketService.matchCenterUrl(any(), anyString()))
+                .thenAnswer(inv -> url(inv.getArgument(0), inv.getArgument(1)));
+        when(snapshots.getSummaries(any())).thenReturn(List.of());
+
+        MatchLifecycleTracker tracker = new MatchLifecycleTracker(snapshots, HOUR, 6 * HOUR);
+        scheduler = new MatchPrefetchScheduler(cricketService, tracker,
+                new QuotaScheduler(ledger, new SimpleMeterRegistry()), true, INTERVAL, 0L, 6, 10);
+    }
+
+    @Test
+    void refetchesOnlyWhatExpiresBeforeNextTick_soonestFirst() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        liveMatches(match(1, "In Progress", ""));
+        stored(MatchResource.SCORECARD, "1", now + LEAD + 60_000);  // fresh enough
+        stored(MatchResource.OVERVIEW, "1", now + 10_000);          // due second
+        stored(MatchResource.COMMENTARY, "1", now + 2_000);         // due first
+
+        // Act
+        int fetched = scheduler.prefetch(now);
+
+        // Assert
+        assertEquals(2, fetched);
+        InOrder order = inOrder(cricketService);
+        order.verify(cricketService).prefetchMatchCenter(MatchResource.COMMENTARY, "1", LEAD);
+        order.verify(cricketService).prefetchMatchCenter(MatchResource.OVERVIEW, "1", LEAD);
+        verify(cricketService, never()).prefetchMatchCenter(eq(MatchResource.SCORECARD), anyString(), anyLong());
+    }
+
+    @Test
+    void stateDecidesResourcesAndCadence() {
+        // Arrange: rain only needs the overview, a break the scorecard too, never commentary
+        long now = System.currentTimeMillis();
+        liveMatches(match(1, "Rain", "Rain stops play"), match(2, "Innings Break", ""));
+
+        // Act
+        int first = scheduler.prefetch(now);
+        int withinCadence = scheduler.prefetch(now + 60_000);
+        int afterBreakCadence = scheduler.prefetch(now + 2 * 60_000);
+
+        // Assert
+        assertEquals(3, first);
+        assertEquals(0, withinCadence);
+        assertEquals(2, afterBreakCadence);
+        verify(cricketService, times(1)).prefetchMatchCenter(MatchResource.OVERVIEW, "1", LEAD);
+        verify(cricketService, never()).prefetchMatchCenter(eq(MatchResource.COMMENTARY), anyString(), anyLong());
+    }
+
+    @Test
+    void completedMatchGetsOneFinalScorecard() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        liveMatches(match(1, "In Progress", ""));
+        scheduler.prefetch(now);
+        liveMatches(match(1, "Complete", "India won by 38 runs"));
+
+        // Act
+        int finalFetch = scheduler.prefetch(now + 60_000);
+        stored(MatchResource.SCORECARD, "1", System.currentTimeMillis() + MatchTtlPolicy.FROZEN_TTL);
+        int afterFrozen = scheduler.prefetch(now + 10 * 60_000);
+
+        // Assert
+        assertEquals(1, finalFetch);
+        assertEquals(0, afterFrozen);
+        verify(cricketService).prefetchMatchCenter(MatchResource.SCORECARD, "1", MatchTtlPolicy.FROZEN_TTL / 2);
+    }
+
+    @Test
+    void scheduledMatchWithinHorizonOnlyWarmsOverview() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        when(snapshots.getSummaries(MatchSnapshotService.Feed.UPCOMING)).thenReturn(List.of(
+                summary(7, "Preview", "", now + 30 * 60_000),
+                summary(8, "Preview", "", now + 5 * HOUR)));
+
+        // Act
+        int fetched = scheduler.prefetch(now);
+
+        // Assert
+        assertEquals(1, fetched);
+        verify(cricketService).prefetchMatchCenter(MatchResource.OVERVIEW, "7", LEAD);
+        verify(cricketService, never()).prefetchMatchCenter(any(), eq("8"), anyLong());
+    }
+
+    @Test
+    void capsFetchesPerTickAndStopsWithoutHeadroom() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        liveMatches(match(1, "In Progress", ""), match(2, "In Progress", ""), match(3, "In Progress", ""));
+
+        // Act
+        int capped = scheduler.prefetch(now);
+        ledger.exhaust();
+        int starved = scheduler.prefetch(now + INTERVAL);
+
+        // Assert
+        assertEquals(6, capped);
+        assertEquals(0, starved);
+    }
+
+    @Test
+    void cachedCopyStillFreshIsNotCountedAsFetch() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        liveMatches(match(1, "In Progress", ""));
+        when(cricketService.prefetchMatchCenter(any(), anyString(), anyLong())).thenReturn(now + 120_000);
+
+        // Act
+        int first = scheduler.prefetch(now);
+        int second = scheduler.prefetch(now + INTERVAL);
+
+        // Assert
+        assertEquals(0, first);
+        assertEquals(0, second);
+        verify(cricketService, times(3)).prefetchMatchCenter(any(), anyString(), anyLong());
+    }
+
+    private void liveMatches(MatchSummary... matches) {
+        when(snapshots.getSummaries(MatchSnapshotService.Feed.LIVE)).thenReturn(List.of(matches));
+    }
+
+    private void stored(MatchResource resource, String matchId, long expiresAt) {
+        scheduler.onUpstreamBodyStored(new UpstreamBodyStoredEvent(url(resource, matchId), "{}", expiresAt));
+    }
+
+    private static String url(MatchResource resource, String matchId) {
+        return "https://cricbuzz-cricket2.p.rapidapi.com/mcenter/v1/" + matchId + "/" + resource.name().toLowerCase();
+    }
+
+    private static MatchSummary match(long id, String state, String status) {
+        return summary(id, state, status, 0);
+    }
+
+    private static MatchSummary summary(long id, String state, String status, long startDate) {
+        return new MatchSummary(id, 1, "Series", "1st T20I", "T20", state, status,
+                startDate, System.currentTimeMillis(), "Ground", "City", null, null);
+    }
+}
@@ -0,0 +1,194 @@
+package com.cricsphere.service;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.MatchFeedSnapshot;
+import com.cricsphere.model.MatchSummary;
+import com.cricsphere.model.TeamScore;
+import com.cricsphere.service.MatchSnapshotService.Feed;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchSnapshotServiceTest {
+
+    private static final String LIVE_URL = "https://cricbuzz-cricket.p.rapidapi.com/matches/v1/live";
+
+    // Two series, an ad slot, a Test match with two innings and numeric epoch millis
+    private static final String RECENT = """
+            {"typeMatches":[{"matchType":"International","seriesMatches":[
+              {"seriesAdWrapper":{"seriesId":1,"matches":[
+                {"matchInfo":{"matchId":501,"seriesId":1,"seriesName":"Ashes","matchFormat":"TEST","state":"Complete",
+                  "status":"England won by 5 wkts","startDate":1700000000000,"endDate":"1700400000000",
+                  "team1":{"teamId":4,"teamName":"Australia","teamSName":"AUS"},
+                  "team2":{"teamId":9,"teamName":"England","teamSName":"ENG"}},
+                 "matchScore":{"team1Score":{"inngs1":{"runs":250,"wickets":10,"overs":80.2},
+                                             "inngs2":{"runs":190,"wickets":10,"overs":60.1}},
+                               "team2Score":{"inngs1":{"runs":300,"wickets":10,"overs":90.0}}}}]}},
+              {"adDetail":{"name":"native_matches","layout":"native_large"}},
+              {"seriesAdWrapper":{"seriesId":2,"matches":[
+                {"matchInfo":{"matchId":0,"seriesName":"placeholder"}},
+                {"matchInfo":{"matchId":502,"seriesId":2,"seriesName":"Asia Cup","matchFormat":"T20","state":"Complete",
+                  "startDate":"not a number",
+                  "team1":{"teamId":2,"teamName":"India","teamSName":"IND"}}}]}}]}]}""";
+
+    private final CricketService cricketService = mock(CricketService.class);
+    private final MatchSnapshotService service = new MatchSnapshotService(cricketService, new ObjectMapper());
+
+    @Test
+    void liveFeedIsParsedIntoTypedSummaries() {
+        // Arrange
+        when(cricketService.getLiveMatches()).thenReturn(read("06-live-chase.json"));
+
+        // Act
+        List<MatchSummary> live = service.getSummaries(Feed.LIVE);
+
+        // Assert
+        assertEquals(1, live.size());
+        MatchSummary match = live.get(0);
+        assertEquals(112233L, match.matchId());
+        assertEquals(9701L, match.seriesId());
+        assertEquals("ODI", match.matchFormat());
+        assertEquals("In Progress", match.state());
+        assertEquals(1760090400000L, match.startDate());
+        assertEquals("Wankhede Stadium", match.ground());
+        assertEquals("Mumbai", match.city());
+        assertEquals("IND", match.team1().shortName());
+        assertEquals(300, match.team1().first().runs());
+        assertEquals(5, match.team2().first().wickets());
+        assertEquals(34.0, match.team2().first().overs());
+        assertNull(match.team1().second());
+    }
+
+    @Test
+    void everySeriesIsWalkedAndUnusableEntriesSkipped() {
+        // Arrange
+        when(cricketService.getRecentMatches()).thenReturn(RECENT);
+
+        // Act
+        List<MatchSummary> recent = service.getSummaries(Feed.RECENT);
+
+        // Assert
+        assertEquals(List.of(501L, 502L), recent.stream().map(MatchSummary::matchId).toList());
+
+        MatchSummary test = recent.get(0);
+        assertEquals(1700000000000L, test.startDate());
+        assertEquals(1700400000000L, test.endDate());
+        assertEquals(190, test.team1().second().runs());
+        assertNull(test.team2().second());
+
+        MatchSummary t20 = recent.get(1);
+        assertEquals(0L, t20.startDate());
+        assertNull(t20.team1().first());
+        assertNull(t20.team2());
+    }
+
+    @Test
+    void snapshotIsServedUntilRevalidationIsDue() {
+        // Arrange
+        when(cricketService.getRecentMatches()).thenReturn(RECENT);
+
+        // Act
+        MatchFeedSnapshot first = service.getSnapshot(Feed.RECENT);
+        MatchFeedSnapshot second = service.getSnapshot(Feed.RECENT);
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(first.isFrom(RECENT));
+        verify(cricketService, times(1)).getRecentMatches();
+    }
+
+    @Test
+    void storedBodiesRebuildTheSnapshotOnlyWhenTheyChangeAndAreNotErrors() {
+        // Arrange
+        String live = read("06-live-chase.json");
+        stored(live);
+        MatchFeedSnapshot built = service.getSnapshot(Feed.LIVE);
+
+        // Act
+        stored(live);
+        MatchFeedSnapshot sameBody = service.getSnapshot(Feed.LIVE);
+        stored("{\"error\":true,\"status\":429,\"message\":\"quota\"}");
+        MatchFeedSnapshot afterError = service.getSnapshot(Feed.LIVE);
+        stored(live.replace("\"runs\": 180", "\"runs\": 184"));
+        MatchFeedSnapshot changed = service.getSnapshot(Feed.LIVE);
+
+        // Assert: the stored body was enough, the feed was never re-read
+        assertSame(built, sameBody);
+        assertSame(built, afterError);
+        assertEquals(184, changed.matches().get(0).team2().first().runs());
+        verify(cricketService, never()).getLiveMatches();
+    }
+
+    @Test
+    void teamNamesAreSharedAcrossSnapshots() {
+        // Arrange
+        String live = read("06-live-chase.json");
+        stored(live);
+        TeamScore before = service.getSummaries(Feed.LIVE).get(0).team1();
+
+        // Act
+        stored(live.replace("\"runs\": 180", "\"runs\": 190"));
+        TeamScore after = service.getSummaries(Feed.LIVE).get(0).team1();
+
+        // Assert
+        assertSame(before.name(), after.name());
+    }
+
+    @Test
+    void namesThatLeaveTheFeedAreNotRetained() {
+        // Arrange
+        String live = read("06-live-chase.json");
+        stored(live);
+        TeamScore before = service.getSummaries(Feed.LIVE).get(0).team1();
+
+        // Act
+        stored(live.replace("\"teamName\": \"India\"", "\"teamName\": \"Nepal\""));
+        stored(live);
+        TeamScore after = service.getSummaries(Feed.LIVE).get(0).team1();
+
+        // Assert
+        assertEquals(before.name(), after.name());
+        assertNotSame(before.name(), after.name());
+    }
+
+    @Test
+    void matchesAreFoundAcrossFeeds() {
+        // Arrange
+        when(cricketService.getLiveMatches()).thenReturn(read("06-live-chase.json"));
+        when(cricketService.getRecentMatches()).thenReturn(RECENT);
+
+        // Act + Assert
+        assertNull(service.findHeldMatch(502L));
+        assertEquals("Asia Cup", service.findMatch(502L).seriesName());
+        assertEquals("Asia Cup", service.findHeldMatch(502L).seriesName());
+        assertNull(service.findMatch(999L));
+    }
+
+    private void stored(String body) {
+        service.onUpstreamBodyStored(new UpstreamBodyStoredEvent(LIVE_URL, body, 0L));
+    }
+
+    private static String read(String payload) {
+        try (InputStream in = MatchSnapshotServiceTest.class.getResourceAsStream("/payloads/lifecycle/" + payload)) {
+            if (in == null) throw new IllegalArgumentException("missing payload " + payload);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
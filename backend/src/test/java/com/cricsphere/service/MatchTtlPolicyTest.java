@@ -0,0 +1,76 @@
+package com.cricsphere.service;
+
+import com.cricsphere.quota.QuotaLedger;
+import com.cricsphere.quota.QuotaScheduler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchTtlPolicyTest {
+
+    private static final String URL = "https://cricbuzz-cricket2.p.rapidapi.com/mcenter/v1/%s/scard";
+
+    private final QuotaLedger ledger = new QuotaLedger(100, ZoneId.of("UTC"), Clock.systemUTC());
+    private final MatchTtlPolicy policy = new MatchTtlPolicy(
+            new QuotaScheduler(ledger, new SimpleMeterRegistry()),
+            new ObjectMapper(),
+            new StaticListableBeanFactory().getBeanProvider(MatchSnapshotService.class));
+
+    @Test
+    void completedMatchIsFrozen() {
+        String scorecard = "{\"scorecard\":[{\"inningsid\":1}],\"ismatchcomplete\":true,\"status\":\"India won\"}";
+
+        assertEquals(MatchTtlPolicy.FROZEN_TTL, policy.ttlFor(url(1), "1", scorecard));
+    }
+
+    @Test
+    void completeStateInHeaderIsFrozen() {
+        String commentary = "{\"matchHeader\":{\"matchId\":2,\"state\":\"Complete\"},\"commentaryList\":[]}";
+
+        assertEquals(MatchTtlPolicy.FROZEN_TTL, policy.ttlFor(url(2), "2", commentary));
+    }
+
+    @Test
+    void liveTtlShrinksToBudgetAndGrowsWithActiveMatches() {
+        String live = "{\"matchid\":3,\"state\":\"In Progress\"}";
+
+        long one = policy.ttlFor(url(3), "3", live);
+        for (int id = 4; id < 40; id++) policy.ttlFor(url(id), String.valueOf(id), live);
+        long many = policy.ttlFor(url(3), "3", live);
+
+        assertTrue(one >= MatchTtlPolicy.MIN_LIVE_TTL && one <= MatchTtlPolicy.MAX_LIVE_TTL);
+        assertTrue(many >= one, "more live URLs must not shorten the TTL");
+    }
+
+    @Test
+    void liveTtlFallsBackToMaxWhenNoHeadroom() {
+        ledger.exhaust();
+
+        long ttl = policy.ttlFor(url(5), "5", "{\"state\":\"In Progress\"}");
+
+        assertEquals(MatchTtlPolicy.MAX_LIVE_TTL, ttl);
+    }
+
+    @Test
+    void breaksAndScheduledMatchesUseLongerTtls() {
+        long start = System.currentTimeMillis() + 4 * 60 * 60 * 1000L;
+
+        long inningsBreak = policy.ttlFor(url(6), "6", "{\"state\":\"Innings Break\"}");
+        long preview = policy.ttlFor(url(7), "7",
+                "{\"state\":\"Preview\",\"matchStartTimestamp\":" + start + "}");
+
+        assertEquals(MatchTtlPolicy.BREAK_TTL, inningsBreak);
+        assertEquals(2 * 60 * 60 * 1000L, preview, 5_000);
+    }
+
+    private static String url(int matchId) {
+        return String.format(URL, matchId);
+    }
+}
@@ -0,0 +1,204 @@
+package com.cricsphere.store;
+
+import com.cricsphere.integration.UpstreamBodyStoredEvent;
+import com.cricsphere.model.BallEvent;
+import com.cricsphere.model.PageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BallEventLogTest {
+
+    private static final String COMM_URL = "https://cricbuzz-cricket2.p.rapidapi.com/mcenter/v1/%d/comm";
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void overlappingCommentaryRefreshesAreDeduplicated() {
+        // Arrange
+        BallEventLog log = newLog();
+
+        // Act: each refresh carries the latest 6 balls, newest first
+        stored(log, 41, commentary(1, 1, 6));
+        stored(log, 41, commentary(1, 4, 9));
+        stored(log, 41, commentary(1, 4, 9));
+
+        // Assert
+        assertEquals(9, log.size(41));
+        List<BallEvent> page = log.page(41, null, 50).items();
+        assertEquals(9, page.get(0).ballNbr());
+        assertEquals(1, page.get(8).ballNbr());
+        assertEquals(8L, page.get(0).seq());
+    }
+
+    @Test
+    void cursorPagesWalkBackAcrossSegmentsAndInnings() {
+        // Arrange
+        BallEventLog log = newLog();
+        stored(log, 42, commentary(1, 1, 10));
+        stored(log, 42, commentary(2, 1, 7));
+
+        // Act
+        List<BallEvent> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PageResponse<BallEvent> page = log.page(42, cursor, 4);
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(17, all.size());
+        assertEquals(5, pages);
+        assertEquals(BallEvent.idOf(2, 7), all.get(0).ballId());
+        assertEquals(BallEvent.idOf(1, 1), all.get(16).ballId());
+        for (int i = 1; i < all.size(); i++) assertTrue(all.get(i - 1).seq() > all.get(i).seq());
+    }
+
+    @Test
+    void indexIsRebuiltFromSegmentFilesAndTornTailIsCut() throws Exception {
+        // Arrange
+        stored(newLog(), 43, commentary(1, 1, 12));
+        Path tail = dataDir.resolve("ball-log/43/00000002.seg");
+        Files.write(tail, new byte[]{0, 0, 1, 0, '{', '"'}, StandardOpenOption.APPEND);
+
+        // Act
+        BallEventLog reopened = newLog();
+        int appended = reopened.append(43, reopened.extract(commentary(1, 10, 13)));
+
+        // Assert
+        assertEquals(1, appended);
+        assertEquals(13, reopened.size(43));
+        assertEquals(13, reopened.page(43, null, 1).items().get(0).ballNbr());
+    }
+
+    @Test
+    void nonBallNotesAndOtherUrlsAreIgnored() {
+        // Arrange
+        BallEventLog log = newLog();
+        String notes = "{\"commentaryList\":[{\"commText\":\"Players are walking out\",\"ballNbr\":0,\"inningsId\":1}]}";
+
+        // Act
+        stored(log, 44, notes);
+        log.onUpstreamBodyStored(new UpstreamBodyStoredEvent(
+                "https://cricbuzz-cricket2.p.rapidapi.com/mcenter/v1/44/hcomm", commentary(1, 1, 3), 0L));
+
+        // Assert
+        assertEquals(0, log.size(44));
+        assertNull(log.page(44, null, 10).nextCursor());
+    }
+
+    @Test
+    void readingAnUnknownMatchCreatesNothing() {
+        // Arrange
+        BallEventLog log = newLog();
+
+        // Act
+        PageResponse<BallEvent> page = log.page(45, null, 10);
+        long size = log.size(45);
+
+        // Assert
+        assertTrue(page.items().isEmpty());
+        assertNull(page.nextCursor());
+        assertEquals(0, size);
+        assertFalse(Files.exists(dataDir.resolve("ball-log/45")));
+
+        // The first append creates the match and the next read sees it
+        stored(log, 45, commentary(1, 1, 2));
+        assertEquals(2, log.size(45));
+    }
+
+    @Test
+    void logInUseIsNeverEvicted() {
+        // Arrange
+        BallEventLog log = newLog();
+        BallEventLog.MatchLog pinned = log.acquire(47, true);
+
+        // Act: far more matches than the cache holds pass through meanwhile
+        for (int m = 0; m < 100; m++) stored(log, 2_000 + m, commentary(1, 1, 1));
+        BallEventLog.MatchLog again = log.acquire(47, true);
+        log.release(again);
+        log.release(pinned);
+
+        // Assert: the same instance, so no second log scans or appends to its files
+        assertSame(pinned, again);
+    }
+
+    @Test
+    void concurrentAppendsAcrossMoreMatchesThanTheCacheLoseNothing() throws Exception {
+        // Arrange: 96 matches churn a 64-entry cache while each grows ball by ball
+        BallEventLog log = newLog();
+        int matches = 96;
+        int balls = 12;
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+
+        // Act
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int w = 0; w < 8; w++) {
+                int writer = w;
+                done.add(writers.submit(() -> {
+                    for (int ball = 1; ball <= balls; ball++) {
+                        for (int m = writer / 2; m < matches; m += 4) {
+                            // Two threads append the same refreshes to each match (duplicates dropped)
+                            log.append(1_000 + m, log.extract(commentary(1, 1, ball)));
+                            log.page(1_000 + (m + 1) % matches, null, 3);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : done) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            writers.shutdownNow();
+        }
+
+        // Assert: every ball once, in order, also after a rebuild from disk
+        BallEventLog reopened = newLog();
+        for (int m = 0; m < matches; m++) {
+            assertEquals(balls, log.size(1_000 + m), "match " + m);
+            assertEquals(balls, reopened.size(1_000 + m), "match " + m + " on disk");
+            assertEquals(balls, reopened.page(1_000 + m, null, 1).items().get(0).ballNbr());
+        }
+    }
+
+    private BallEventLog newLog() {
+        return new BallEventLog(new ObjectMapper(), dataDir.toString(), 5);
+    }
+
+    private static void stored(BallEventLog log, long matchId, String body) {
+        log.onUpstreamBodyStored(new UpstreamBodyStoredEvent(String.format(COMM_URL, matchId), body, 0L));
+    }
+
+    // Cricbuzz-shaped commentary: newest ball first
+    private static String commentary(int inningsId, int fromBall, int toBall) {
+        StringBuilder sb = new StringBuilder("{\"commentaryList\":[");
+        for (int ball = toBall; ball >= fromBall; ball--) {
+            if (ball != toBall) sb.append(',');
+            double over = (ball - 1) / 6 + ((ball - 1) % 6 + 1) / 10.0;
+            sb.append("{\"commText\":\"ball ").append(ball).append("\",\"timestamp\":").append(1_700_000_000_000L + ball)
+                    .append(",\"ballNbr\":").append(ball).append(",\"overNumber\":").append(over)
+                    .append(",\"inningsId\":").append(inningsId).append(",\"event\":\"NONE\"}");
+        }
+        return sb.append("]}").toString();
+    }
+}
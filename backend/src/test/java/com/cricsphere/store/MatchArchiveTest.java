@@ -0,0 +1,81 @@
+package com.cricsphere.store;
+
+import com.cricsphere.model.MatchResource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchArchiveTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 10, 10);
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void resourcesAccumulateInOneCompressedFilePerMatch() throws Exception {
+        // Arrange
+        MatchArchive archive = new MatchArchive(dataDir.toString());
+        String scorecard = "{\"ismatchcomplete\":true,\"scorecard\":[" + "{\"batName\":\"Player\",\"runs\":12},".repeat(200) + "{}]}";
+
+        // Act
+        archive.put(112233, DAY, MatchResource.SCORECARD, scorecard);
+        archive.put(112233, DAY.plusDays(3), MatchResource.SQUADS, "{\"team1\":{}}");
+        boolean replaced = archive.put(112233, DAY, MatchResource.SCORECARD, "{\"changed\":true}");
+
+        // Assert
+        assertFalse(replaced, "archived resources are frozen");
+        assertEquals(scorecard, archive.get(112233, MatchResource.SCORECARD));
+        assertEquals("{\"team1\":{}}", archive.get(112233, MatchResource.SQUADS));
+        assertNull(archive.get(112233, MatchResource.HIGHLIGHTS));
+
+        Path file = dataDir.resolve("match-archive/2025/10/112233.cma");
+        assertTrue(Files.size(file) < scorecard.length() / 4, "gzip should shrink repetitive JSON");
+        assertEquals(DAY, archive.entry(112233).date());
+    }
+
+    @Test
+    void indexesAreRebuiltFromArchiveFilesAlone() {
+        // Arrange
+        MatchArchive writer = new MatchArchive(dataDir.toString());
+        writer.put(1, DAY, MatchResource.SCORECARD, "{\"a\":1}");
+        writer.put(2, DAY, MatchResource.OVERS, "{\"b\":2}");
+        writer.put(3, DAY.plusDays(40), MatchResource.OVERVIEW, "{\"c\":3}");
+
+        // Act
+        MatchArchive reader = new MatchArchive(dataDir.toString());
+        int found = reader.rebuildIndexes();
+
+        // Assert
+        assertEquals(3, found);
+        assertEquals(Set.of(MatchResource.OVERS), reader.entry(2).resources());
+        assertEquals(List.of(1L, 2L), reader.matchesBetween(DAY, DAY));
+        assertEquals(List.of(1L, 2L, 3L), reader.matchesBetween(DAY.minusDays(1), DAY.plusDays(40)));
+        assertEquals("{\"c\":3}", reader.get(3, MatchResource.OVERVIEW));
+    }
+
+    @Test
+    void unreadableFilesAreSkippedOnRebuild() throws Exception {
+        // Arrange
+        MatchArchive writer = new MatchArchive(dataDir.toString());
+        writer.put(1, DAY, MatchResource.SCORECARD, "{\"a\":1}");
+        Files.writeString(dataDir.resolve("match-archive/2025/10/999.cma"), "not gzip");
+
+        // Act
+        MatchArchive reader = new MatchArchive(dataDir.toString());
+
+        // Assert
+        assertEquals(1, reader.rebuildIndexes());
+        assertFalse(reader.contains(999));
+    }
+}
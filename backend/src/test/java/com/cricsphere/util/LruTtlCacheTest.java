@@ -0,0 +1,163 @@
+package com.cricsphere.util;
+
+import com.cricsphere.util.LruTtlCache.Loaded;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LruTtlCacheTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void stopCallers() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        // Arrange: the loader holds until every caller has missed
+        LruTtlCache<String> cache = new LruTtlCache<>(4);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(() -> cache.get("series-1", key -> {
+                loads.incrementAndGet();
+                await(release);
+                return new Loaded<>("detail of " + key, MINUTE);
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) assertEquals("detail of series-1", result.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals("detail of series-1", cache.getIfFresh("series-1"));
+    }
+
+    @Test
+    void failedLoadReachesEveryWaiterAndIsNotCached() throws Exception {
+        // Arrange
+        LruTtlCache<String> cache = new LruTtlCache<>(4);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger waiterLoads = new AtomicInteger();
+        Future<String> loader = callers.submit(() -> cache.get("k", key -> {
+            await(release);
+            throw new IllegalStateException("upstream down");
+        }));
+        Thread.sleep(100);
+        Future<String> waiter = callers.submit(() -> cache.get("k", key -> {
+            waiterLoads.incrementAndGet();
+            return new Loaded<>("second", MINUTE);
+        }));
+        Thread.sleep(100);
+
+        // Act
+        release.countDown();
+
+        // Assert: both saw the failure, the next call loads again
+        assertTrue(assertThrows(Exception.class, () -> loader.get(5, TimeUnit.SECONDS)).getCause() instanceof IllegalStateException);
+        assertTrue(assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS)).getCause() instanceof IllegalStateException);
+        assertEquals(0, waiterLoads.get());
+        assertEquals("again", cache.get("k", key -> new Loaded<>("again", MINUTE)));
+    }
+
+    @Test
+    void nullLoadsAreNotCached() {
+        // Arrange
+        LruTtlCache<String> cache = new LruTtlCache<>(4);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get("k", key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        String value = cache.get("k", key -> {
+            loads.incrementAndGet();
+            return new Loaded<>(null, MINUTE);
+        });
+
+        // Assert
+        assertNull(value);
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        // Arrange
+        LruTtlCache<String> cache = new LruTtlCache<>(2);
+        cache.put("a", "A", MINUTE);
+        cache.put("b", "B", MINUTE);
+
+        // Act: touching "a" makes "b" the eldest
+        cache.getIfFresh("a");
+        cache.put("c", "C", MINUTE);
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals("A", cache.getIfFresh("a"));
+        assertNull(cache.getIfFresh("b"));
+        assertEquals("C", cache.getIfFresh("c"));
+    }
+
+    @Test
+    void expiredEntriesAreReloadedWithTheirOwnTtl() {
+        // Arrange
+        LruTtlCache<String> cache = new LruTtlCache<>(4);
+        cache.put("k", "old", -1L);
+
+        // Act
+        String value = cache.get("k", key -> new Loaded<>("new", MINUTE));
+
+        // Assert
+        assertEquals("new", value);
+        assertTrue(cache.remainingTtl("k") > MINUTE - 5_000L);
+        assertNull(cache.remainingTtl("absent"));
+    }
+
+    @Test
+    void invalidateAndClearDropEntries() {
+        // Arrange
+        LruTtlCache<String> cache = new LruTtlCache<>(4);
+        cache.put("a", "A", MINUTE);
+        cache.put("b", "B", MINUTE);
+
+        // Act
+        cache.invalidate("a");
+        int afterInvalidate = cache.size();
+        cache.clear();
+
+        // Assert
+        assertEquals(1, afterInvalidate);
+        assertEquals(0, cache.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
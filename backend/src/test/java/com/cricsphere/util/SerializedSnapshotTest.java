@@ -0,0 +1,77 @@
+package com.cricsphere.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SerializedSnapshotTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void gzipHoldsTheSameBytesAsTheJson() throws Exception {
+        // Arrange
+        SerializedSnapshot snapshot = SerializedSnapshot.of(mapper, List.of(Map.of("name", "India"), Map.of("name", "Nepal")));
+
+        // Act
+        byte[] unzipped;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.gzip()))) {
+            unzipped = in.readAllBytes();
+        }
+
+        // Assert
+        assertArrayEquals(snapshot.json(), unzipped);
+        assertEquals(new String(snapshot.json(), StandardCharsets.UTF_8), snapshot.toString());
+    }
+
+    @Test
+    void etagIsAStrongQuotedDigestOfTheJson() throws Exception {
+        // Act
+        SerializedSnapshot a = SerializedSnapshot.ofJson("[1,2]".getBytes(StandardCharsets.UTF_8));
+        SerializedSnapshot same = SerializedSnapshot.ofJson("[1,2]".getBytes(StandardCharsets.UTF_8));
+        SerializedSnapshot other = SerializedSnapshot.ofJson("[1,3]".getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertTrue(a.etag().matches("\"[0-9a-f]{32}\""), a.etag());
+        assertEquals(a.etag().replace("\"", "").concat("-gz"), a.gzipEtag().replace("\"", ""));
+        assertEquals(a.etag(), same.etag());
+        assertNotEquals(a.etag(), other.etag());
+    }
+
+    @Test
+    void ifNoneMatchUsesWeakComparison() throws Exception {
+        // Arrange
+        SerializedSnapshot snapshot = SerializedSnapshot.ofJson("{}".getBytes(StandardCharsets.UTF_8));
+        String etag = snapshot.etag();
+
+        // Act + Assert
+        assertTrue(snapshot.matches(etag));
+        assertTrue(snapshot.matches("W/" + etag));
+        assertTrue(snapshot.matches("\"stale\", " + etag));
+        assertTrue(snapshot.matches("*"));
+        assertTrue(snapshot.matches(snapshot.gzipEtag()));
+        assertFalse(snapshot.matches("\"stale\""));
+        assertFalse(snapshot.matches(etag.substring(1, etag.length() - 1)));
+        assertFalse(snapshot.matches(" "));
+        assertFalse(snapshot.matches(null));
+    }
+
+    @Test
+    void nothingToSerializeGivesNoSnapshot() {
+        // Act + Assert
+        assertNull(SerializedSnapshot.of(mapper, null));
+        assertNull(SerializedSnapshot.of(mapper, new Object()));
+    }
+}